@@ -15,10 +15,11 @@ import io.openaev.service.InjectExpectationService;
 import io.openaev.utils.ExpectationUtils;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,47 +34,58 @@ public class ExpectationsExpirationManagerService {
 
   public static final String EXPIRED = "Expired";
 
+  /** Maximum number of expectations expired per run, the next ones are left to the next run */
+  static final int MAX_EXPECTATIONS_PER_RUN = 100_000;
+
+  /** Number of expectations loaded and written at once */
+  static final int BATCH_SIZE = 1_000;
+
   @Transactional(rollbackFor = Exception.class)
   public void computeExpectations() {
     Collector collector = this.collectorService.collector(config.getId());
-    // Get all the expectations we will update (max of 10k)
-    Page<InjectExpectation> expectations = this.injectExpectationService.expectationsNotFill();
-    // We're making a loop on 10 calls max to avoid staying in an infinite loop
-    for (int i = 1; i < 10 && expectations.getTotalElements() > 0; i++) {
+    // Only the expectations whose expiration time has passed are read, through their deadline index
+    List<String> expiredIds =
+        this.injectExpectationService.expiredExpectationIdsNotFilled(MAX_EXPECTATIONS_PER_RUN);
+    for (int from = 0; from < expiredIds.size(); from += BATCH_SIZE) {
+      List<InjectExpectation> expectations =
+          this.injectExpectationService.findAllById(
+              expiredIds.subList(from, Math.min(from + BATCH_SIZE, expiredIds.size())));
       List<InjectExpectation> updated = new ArrayList<>();
-      this.processAgentExpectations(expectations.toList(), collector);
-      this.processRemainingExpectations(expectations.toList(), collector, updated);
+      this.processAgentExpectations(expectations, collector);
+      this.processRemainingExpectations(expectations, collector, updated);
 
       // Updating all the expectations following the process
       this.injectExpectationService.updateAll(updated);
-
-      // Get the next expectations that need to be processed (still max of 10k)
-      expectations = this.injectExpectationService.expectationsNotFill();
     }
   }
 
   // -- PRIVATE --
   private void processAgentExpectations(
       @NotNull final List<InjectExpectation> expectations, @NotNull final Collector collector) {
-    List<InjectExpectation> expectationAgents =
-        expectations.stream().filter(ExpectationUtils::isAgentExpectation).toList();
-    expectationAgents.forEach(
-        expectation -> {
-          if (isExpired(expectation)) {
-            InjectExpectationUpdateInput input = new InjectExpectationUpdateInput();
-            if (ExpectationType.VULNERABILITY.toString().equals(expectation.getType().toString())) {
-              input.setIsSuccess(true);
-              input.setResult(computeSuccessMessage(expectation.getType()));
-              expireEmptyResults(expectation.getResults(), expectation.getExpectedScore(), EXPIRED);
-            } else {
-              input.setIsSuccess(false);
-              input.setResult(computeFailedMessage(expectation.getType()));
-              expireEmptyResults(expectation.getResults(), FAILED_SCORE_VALUE, EXPIRED);
-            }
-            this.injectExpectationService.computeTechnicalExpectation(
-                expectation, collector, input, true);
-          }
-        });
+    Map<InjectExpectation, InjectExpectationUpdateInput> inputs = new LinkedHashMap<>();
+    expectations.stream()
+        .filter(ExpectationUtils::isAgentExpectation)
+        .forEach(
+            expectation -> {
+              if (isExpired(expectation)) {
+                InjectExpectationUpdateInput input = new InjectExpectationUpdateInput();
+                if (ExpectationType.VULNERABILITY
+                    .toString()
+                    .equals(expectation.getType().toString())) {
+                  input.setIsSuccess(true);
+                  input.setResult(computeSuccessMessage(expectation.getType()));
+                  expireEmptyResults(
+                      expectation.getResults(), expectation.getExpectedScore(), EXPIRED);
+                } else {
+                  input.setIsSuccess(false);
+                  input.setResult(computeFailedMessage(expectation.getType()));
+                  expireEmptyResults(expectation.getResults(), FAILED_SCORE_VALUE, EXPIRED);
+                }
+                inputs.put(expectation, input);
+              }
+            });
+    // Written together, and propagated once per asset and asset group
+    this.injectExpectationService.computeTechnicalExpectations(inputs, collector, true);
   }
 
   private void processRemainingExpectations(
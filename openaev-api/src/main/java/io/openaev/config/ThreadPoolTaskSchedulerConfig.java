@@ -1,6 +1,7 @@
 package io.openaev.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -34,7 +35,12 @@ public class ThreadPoolTaskSchedulerConfig {
     // If we have more event to deal with than the available size in the waiting queue, we discard
     // the oldest to prevent overloading the stream. This also helps a little preventing
     // overloading the tab of a user connected when having a lot of events
-    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+    RejectedExecutionHandler discardOldest = new ThreadPoolExecutor.DiscardOldestPolicy();
+    executor.setRejectedExecutionHandler(
+        (runnable, threadPool) -> {
+          log.warn("Stream executor saturated, discarding the oldest pending stream event");
+          discardOldest.rejectedExecution(runnable, threadPool);
+        });
 
     executor.initialize();
     return executor;
@@ -2,6 +2,8 @@ package io.openaev.execution;
 
 import static io.openaev.integration.impl.executors.crowdstrike.CrowdStrikeExecutorIntegration.CROWDSTRIKE_EXECUTOR_NAME;
 import static io.openaev.integration.impl.executors.crowdstrike.CrowdStrikeExecutorIntegration.CROWDSTRIKE_EXECUTOR_TYPE;
+import static io.openaev.integration.impl.executors.openaev.OpenAEVExecutorIntegration.OPENAEV_EXECUTOR_NAME;
+import static io.openaev.integration.impl.executors.openaev.OpenAEVExecutorIntegration.OPENAEV_EXECUTOR_TYPE;
 import static io.openaev.integration.impl.executors.sentinelone.SentinelOneExecutorIntegration.SENTINELONE_EXECUTOR_NAME;
 import static io.openaev.integration.impl.executors.sentinelone.SentinelOneExecutorIntegration.SENTINELONE_EXECUTOR_TYPE;
 import static io.openaev.integration.impl.executors.tanium.TaniumExecutorIntegration.TANIUM_EXECUTOR_NAME;
@@ -59,6 +61,9 @@ public class ExecutionExecutorService {
     agents.removeAll(sentineloneAgents);
     Set<Agent> taniumAgents = executorUtils.findAgentsByExecutorType(agents, TANIUM_EXECUTOR_TYPE);
     agents.removeAll(taniumAgents);
+    Set<Agent> openAEVAgents =
+        executorUtils.findAgentsByExecutorType(agents, OPENAEV_EXECUTOR_TYPE);
+    agents.removeAll(openAEVAgents);
 
     AtomicBoolean atLeastOneExecution = new AtomicBoolean(false);
     // Manage inactive agents
@@ -74,6 +79,9 @@ public class ExecutionExecutorService {
     // Manage Tanium agents for batch execution
     launchBatchExecutorContextForAgent(
         taniumAgents, TANIUM_EXECUTOR_NAME, inject, injectStatus, atLeastOneExecution);
+    // Manage OpenAEV agents for batch jobs creation
+    launchBatchExecutorContextForAgent(
+        openAEVAgents, OPENAEV_EXECUTOR_NAME, inject, injectStatus, atLeastOneExecution);
     // Manage remaining agents
     agents.forEach(
         agent -> {
@@ -102,8 +110,11 @@ public class ExecutionExecutorService {
             managerFactory
                 .getManager()
                 .request(new ComponentRequest(executorName), ExecutorContextService.class);
-        executorContextService.launchBatchExecutorSubprocess(inject, agents, injectStatus);
-        atLeastOneExecution.set(true);
+        List<Agent> launchedAgents =
+            executorContextService.launchBatchExecutorSubprocess(inject, agents, injectStatus);
+        if (!launchedAgents.isEmpty()) {
+          atLeastOneExecution.set(true);
+        }
       } catch (Exception e) {
         log.error("{} launchBatchExecutorSubprocess error: {}", executorName, e.getMessage());
         saveAgentsErrorTraces(e, agents, injectStatus);
@@ -22,6 +22,7 @@ import jakarta.annotation.Resource;
 import jakarta.transaction.Transactional;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -231,4 +232,29 @@ public class ExecutorService extends AbstractConnectorService<Executor, Executor
     }
     return agents;
   }
+
+  /**
+   * Saves an error trace for each given agent, in a single batch.
+   *
+   * @param errorsByAgent the error message of each agent
+   * @param injectStatus the status of the inject in error
+   */
+  public void saveAgentsErrorTraces(Map<Agent, String> errorsByAgent, InjectStatus injectStatus) {
+    if (errorsByAgent.isEmpty()) {
+      return;
+    }
+    executionTraceRepository.saveAll(
+        errorsByAgent.entrySet().stream()
+            .map(
+                error ->
+                    new ExecutionTrace(
+                        injectStatus,
+                        ExecutionTraceStatus.ERROR,
+                        List.of(),
+                        error.getValue(),
+                        ExecutionTraceAction.COMPLETE,
+                        error.getKey(),
+                        null))
+            .toList());
+  }
 }
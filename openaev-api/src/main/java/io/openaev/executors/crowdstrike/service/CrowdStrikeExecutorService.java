@@ -88,6 +88,11 @@ public class CrowdStrikeExecutorService implements Runnable {
           assetGroup.setExternalReference(hostGroup);
         }
         crowdStrikeHostGroup = crowdStrikeResourceGroup.getResources().getFirst();
+        boolean assetGroupChanged =
+            existingAssetGroup.isEmpty()
+                || !Objects.equals(assetGroup.getName(), crowdStrikeHostGroup.getName())
+                || !Objects.equals(
+                    assetGroup.getDescription(), crowdStrikeHostGroup.getDescription());
         assetGroup.setName(crowdStrikeHostGroup.getName());
         assetGroup.setDescription(crowdStrikeHostGroup.getDescription());
         log.info(
@@ -100,8 +105,14 @@ public class CrowdStrikeExecutorService implements Runnable {
                 toAgentEndpoint(devices),
                 agentService.getAgentsByExecutorType(
                     CrowdStrikeExecutorIntegration.CROWDSTRIKE_EXECUTOR_TYPE));
-        assetGroup.setAssets(agents.stream().map(Agent::getAsset).toList());
-        assetGroupService.createOrUpdateAssetGroupWithoutDynamicAssets(assetGroup);
+        // Only rewrite the asset group when its assets changed
+        Set<String> assetIds =
+            agents.stream().map(agent -> agent.getAsset().getId()).collect(Collectors.toSet());
+        if (assetGroupChanged
+            || !assetIds.equals(assetGroupService.assetIdsFromAssetGroup(assetGroup.getId()))) {
+          assetGroup.setAssets(agents.stream().map(Agent::getAsset).toList());
+          assetGroupService.createOrUpdateAssetGroupWithoutDynamicAssets(assetGroup);
+        }
       }
     }
   }
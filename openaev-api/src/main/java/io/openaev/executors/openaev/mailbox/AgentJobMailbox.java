@@ -0,0 +1,93 @@
+package io.openaev.executors.openaev.mailbox;
+
+import io.openaev.database.model.Agent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory record of the agents known to have no pending job.
+ *
+ * <p>A mailbox is marked empty once the database returned no job for it, and is reopened as soon as
+ * a job is created for it. Polls on an empty mailbox can then be answered without reading the
+ * database. An empty mark is only trusted for {@code maxStaleness}, which bounds the delay of a job
+ * whose creation notification was missed.
+ *
+ * <p>Every poll takes a ticket before reading the database: a poll can only mark a mailbox empty if
+ * no job was notified for it since its ticket, so a job created during the read is never hidden.
+ * All operations are thread safe.
+ */
+public class AgentJobMailbox {
+
+  /** Identifies the agent polling for jobs. */
+  public record Key(
+      String externalReference, String deploymentMode, String privilege, String executedByUser) {
+
+    public static Key of(Agent agent) {
+      return new Key(
+          agent.getExternalReference(),
+          agent.getDeploymentMode() != null ? agent.getDeploymentMode().name() : null,
+          agent.getPrivilege() != null ? agent.getPrivilege().name() : null,
+          agent.getExecutedByUser());
+    }
+  }
+
+  private record State(Instant emptySince, long notifiedTicket) {}
+
+  private final Duration maxStaleness;
+  private final AtomicLong tickets = new AtomicLong();
+  private final Map<Key, State> states = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxStaleness the maximum time during which an empty mailbox is trusted
+   */
+  public AgentJobMailbox(Duration maxStaleness) {
+    this.maxStaleness = maxStaleness;
+  }
+
+  /**
+   * @return the ticket to give back to {@link #markEmpty} when the poll found no job
+   */
+  public long openPoll() {
+    return tickets.incrementAndGet();
+  }
+
+  /**
+   * @param key the polling agent
+   * @param now the current date
+   * @return false if the agent is known to have no pending job
+   */
+  public boolean mayHaveJobs(Key key, Instant now) {
+    State state = states.get(key);
+    return state == null
+        || state.emptySince() == null
+        || state.emptySince().plus(maxStaleness).isBefore(now);
+  }
+
+  /**
+   * Marks a mailbox empty, unless a job was notified for it since the poll started.
+   *
+   * @param key the polling agent
+   * @param ticket the ticket taken before reading the database
+   * @param now the current date
+   */
+  public void markEmpty(Key key, long ticket, Instant now) {
+    states.compute(
+        key,
+        (k, state) -> {
+          long notified = state != null ? state.notifiedTicket() : 0;
+          return notified > ticket ? state : new State(now, notified);
+        });
+  }
+
+  /**
+   * Reopens the mailbox of an agent, its next poll will read the database.
+   *
+   * @param key the agent having a new job
+   */
+  public void notifyJob(Key key) {
+    states.put(key, new State(null, tickets.incrementAndGet()));
+  }
+}
@@ -0,0 +1,99 @@
+package io.openaev.executors.openaev.mailbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.DeliverCallback;
+import io.openaev.asset.QueueService;
+import io.openaev.config.RabbitmqConfig;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shares the agent job notifications between the platform nodes.
+ *
+ * <p>Notifications are published on a fanout exchange, every node consumes them through its own
+ * exclusive queue. The connection recovers automatically, including the queue and its consumer.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class AgentJobMailboxBroadcaster {
+
+  public static final String EXCHANGE_KEY = "_amqp.agent-jobs.exchange";
+  private static final String CONNECTION_NAME = "openaev-agent-jobs";
+
+  private final QueueService queueService;
+  private final RabbitmqConfig rabbitmqConfig;
+  private final ObjectMapper mapper;
+
+  private Connection connection;
+  private Channel publisherChannel;
+
+  /**
+   * Starts consuming the notifications of every node, this one included.
+   *
+   * @param listener the callback receiving the notified mailboxes
+   */
+  public synchronized void start(Consumer<List<AgentJobMailbox.Key>> listener)
+      throws IOException, TimeoutException {
+    ConnectionFactory factory = queueService.createConnectionFactory();
+    factory.setAutomaticRecoveryEnabled(true);
+    connection = factory.newConnection(CONNECTION_NAME);
+    publisherChannel = connection.createChannel();
+    publisherChannel.exchangeDeclare(exchangeName(), "fanout", true);
+
+    Channel consumerChannel = connection.createChannel();
+    String queueName = consumerChannel.queueDeclare().getQueue();
+    consumerChannel.queueBind(queueName, exchangeName(), "");
+    DeliverCallback deliverCallback =
+        (consumerTag, delivery) -> {
+          try {
+            listener.accept(mapper.readValue(delivery.getBody(), new TypeReference<>() {}));
+          } catch (Exception e) {
+            log.warn("Invalid agent job notification: {}", e.getMessage(), e);
+          }
+        };
+    consumerChannel.basicConsume(queueName, true, deliverCallback, consumerTag -> {});
+  }
+
+  /**
+   * Notifies every node that the given mailboxes have new jobs.
+   *
+   * @param keys the mailboxes having new jobs
+   */
+  public synchronized void publish(Collection<AgentJobMailbox.Key> keys) throws IOException {
+    if (publisherChannel == null) {
+      throw new IOException("Agent job notifications are not started");
+    }
+    publisherChannel.basicPublish(exchangeName(), "", null, mapper.writeValueAsBytes(keys));
+  }
+
+  private String exchangeName() {
+    return rabbitmqConfig.getPrefix() + EXCHANGE_KEY;
+  }
+
+  @PreDestroy
+  public synchronized void stop() {
+    if (connection != null && connection.isOpen()) {
+      try {
+        connection.close();
+      } catch (IOException e) {
+        log.warn("Failed to close the agent job notification connection", e);
+      }
+    }
+    connection = null;
+    publisherChannel = null;
+  }
+}
@@ -0,0 +1,143 @@
+package io.openaev.executors.openaev.mailbox;
+
+import static io.openaev.database.audit.ModelBaseListener.DATA_PERSIST;
+
+import io.openaev.database.audit.BaseEvent;
+import io.openaev.database.model.AssetAgentJob;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Answers the job polls of the OpenAEV agents, only reading the database when the agent may have a
+ * pending job.
+ *
+ * <p>Jobs creations are applied to the local {@link AgentJobMailbox} once committed, and shared
+ * with the other nodes of the platform through the {@link AgentJobMailboxBroadcaster} when
+ * available.
+ */
+@Slf4j
+@Service
+public class AgentJobMailboxService {
+
+  private static final Duration BROADCAST_DELAY = Duration.ofMillis(200);
+
+  private final boolean enabled;
+  private final AgentJobMailbox mailbox;
+  private final ObjectProvider<AgentJobMailboxBroadcaster> broadcaster;
+  private final ThreadPoolTaskScheduler taskScheduler;
+
+  private Set<AgentJobMailbox.Key> pendingBroadcast = new LinkedHashSet<>();
+  private ScheduledFuture<?> broadcastTimer;
+
+  public AgentJobMailboxService(
+      @Value("${openaev.agent-jobs.mailbox.enabled:true}") boolean enabled,
+      @Value("${openaev.agent-jobs.mailbox.max-staleness:30}") long maxStalenessSeconds,
+      ObjectProvider<AgentJobMailboxBroadcaster> broadcaster,
+      ThreadPoolTaskScheduler taskScheduler) {
+    this.enabled = enabled;
+    this.mailbox = new AgentJobMailbox(Duration.ofSeconds(maxStalenessSeconds));
+    this.broadcaster = broadcaster;
+    this.taskScheduler = taskScheduler;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    AgentJobMailboxBroadcaster notifications = broadcaster.getIfAvailable();
+    if (!enabled || notifications == null) {
+      return;
+    }
+    try {
+      notifications.start(keys -> keys.forEach(mailbox::notifyJob));
+      broadcastTimer = taskScheduler.scheduleWithFixedDelay(this::broadcast, BROADCAST_DELAY);
+    } catch (Exception e) {
+      log.error(
+          "Agent job notifications unavailable, jobs created on other nodes may be delayed: {}",
+          e.getMessage(),
+          e);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (broadcastTimer != null) {
+      broadcastTimer.cancel(false);
+    }
+  }
+
+  /**
+   * Returns the pending jobs of an agent.
+   *
+   * @param key the polling agent
+   * @param loader the database read of the agent jobs
+   * @return the pending jobs, empty without reading the database if the agent has none
+   */
+  public List<AssetAgentJob> poll(AgentJobMailbox.Key key, Supplier<List<AssetAgentJob>> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    long ticket = mailbox.openPoll();
+    if (!mailbox.mayHaveJobs(key, Instant.now())) {
+      return List.of();
+    }
+    List<AssetAgentJob> jobs = loader.get();
+    if (jobs.isEmpty()) {
+      mailbox.markEmpty(key, ticket, Instant.now());
+    }
+    return jobs;
+  }
+
+  /**
+   * Reopens the mailboxes of agents having new jobs, on every node.
+   *
+   * @param keys the agents having new jobs
+   */
+  public void notifyJobs(Collection<AgentJobMailbox.Key> keys) {
+    keys.forEach(mailbox::notifyJob);
+    if (broadcastTimer != null) {
+      synchronized (this) {
+        pendingBroadcast.addAll(keys);
+      }
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void listenDatabaseUpdate(BaseEvent event) {
+    if (DATA_PERSIST.equals(event.getType())
+        && event.getInstance() instanceof AssetAgentJob job
+        && job.getAgent() != null) {
+      notifyJobs(List.of(AgentJobMailbox.Key.of(job.getAgent())));
+    }
+  }
+
+  private void broadcast() {
+    List<AgentJobMailbox.Key> keys;
+    synchronized (this) {
+      if (pendingBroadcast.isEmpty()) {
+        return;
+      }
+      keys = new ArrayList<>(pendingBroadcast);
+      pendingBroadcast = new LinkedHashSet<>();
+    }
+    try {
+      broadcaster.getObject().publish(keys);
+    } catch (Exception e) {
+      log.warn("Failed to share {} agent job notifications: {}", keys.size(), e.getMessage(), e);
+    }
+  }
+}
@@ -5,18 +5,21 @@ import static io.openaev.executors.ExecutorHelper.replaceArgs;
 import io.openaev.database.model.*;
 import io.openaev.database.repository.AssetAgentJobRepository;
 import io.openaev.executors.ExecutorContextService;
+import io.openaev.executors.ExecutorService;
 import jakarta.validation.constraints.NotNull;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 
 @Slf4j
 @RequiredArgsConstructor
 public class OpenAEVExecutorContextService extends ExecutorContextService {
 
+  private static final String AGENT_PLACEHOLDER = "#{agent}";
+
   private final AssetAgentJobRepository assetAgentJobRepository;
+  private final ExecutorService executorService;
 
   private String computeCommand(
       @NotNull final Inject inject,
@@ -56,8 +59,42 @@ public class OpenAEVExecutorContextService extends ExecutorContextService {
     assetAgentJobRepository.save(assetAgentJob);
   }
 
+  /**
+   * Creates the jobs of all the given agents at once: the command is computed once per platform and
+   * architecture, and the jobs and the error traces are saved in batches.
+   */
   public List<Agent> launchBatchExecutorSubprocess(
       Inject inject, Set<Agent> agents, InjectStatus injectStatus) {
-    return new ArrayList<>();
+    List<Agent> openAEVAgents = new ArrayList<>(agents);
+    // Sometimes, assets from agents aren't fetched even with the EAGER property from Hibernate
+    openAEVAgents.forEach(agent -> agent.setAsset((Asset) Hibernate.unproxy(agent.getAsset())));
+    openAEVAgents = executorService.manageWithoutPlatformAgents(openAEVAgents, injectStatus);
+
+    Map<String, String> commandsByPlatformAndArch = new HashMap<>();
+    Map<Agent, String> errors = new LinkedHashMap<>();
+    List<AssetAgentJob> assetAgentJobs = new ArrayList<>();
+    for (Agent agent : openAEVAgents) {
+      Endpoint endpoint = (Endpoint) agent.getAsset();
+      try {
+        // The agent id is the only per-agent part of the command, keep its placeholder
+        String command =
+            commandsByPlatformAndArch.computeIfAbsent(
+                endpoint.getPlatform().name() + "." + endpoint.getArch().name(),
+                key ->
+                    computeCommand(
+                        inject, AGENT_PLACEHOLDER, endpoint.getPlatform(), endpoint.getArch()));
+        AssetAgentJob assetAgentJob = new AssetAgentJob();
+        assetAgentJob.setCommand(command.replace(AGENT_PLACEHOLDER, agent.getId()));
+        assetAgentJob.setAgent(agent);
+        assetAgentJob.setInject(inject);
+        assetAgentJobs.add(assetAgentJob);
+      } catch (Exception e) {
+        log.error(e.getMessage(), e);
+        errors.put(agent, "Fatal error: " + e.getMessage());
+      }
+    }
+    assetAgentJobRepository.saveAll(assetAgentJobs);
+    executorService.saveAgentsErrorTraces(errors, injectStatus);
+    return assetAgentJobs.stream().map(AssetAgentJob::getAgent).toList();
   }
 }
@@ -10,14 +10,17 @@ import io.openaev.database.specification.InjectSpecification;
 import io.openaev.execution.ExecutableInject;
 import io.openaev.execution.ExecutionContext;
 import io.openaev.execution.ExecutionContextService;
+import jakarta.annotation.Nullable;
 import jakarta.annotation.Resource;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.util.function.Tuple2;
@@ -171,4 +174,34 @@ public class InjectHelper {
     // Combine injects
     return concat(executableInjects, executableAtomicTests).collect(Collectors.toList());
   }
+
+  /**
+   * Retrieves the expected execution date of every inject waiting to be executed.
+   *
+   * <p>Covers the same injects as {@link #getInjectsToRun()} without the date filter, so that the
+   * dispatcher can fire them on time.
+   *
+   * @param exerciseId the simulation to restrict the lookup to, or {@code null} for all running
+   *     simulations and atomic testings
+   * @return the expected execution dates indexed by inject id
+   */
+  @Transactional(readOnly = true)
+  public Map<String, Instant> getPendingInjectDates(@Nullable final String exerciseId) {
+    Specification<Inject> executable = InjectSpecification.executable();
+    if (exerciseId != null) {
+      executable = executable.and(InjectSpecification.fromSimulation(exerciseId));
+    }
+    Stream<Inject> pendingInjects = this.injectRepository.findAll(executable).stream();
+    if (exerciseId == null) {
+      pendingInjects =
+          concat(
+              pendingInjects,
+              this.injectRepository.findAll(InjectSpecification.forAtomicTesting()).stream());
+    }
+    return pendingInjects
+        .filter(inject -> inject.getDate().isPresent())
+        .collect(
+            Collectors.toMap(
+                Inject::getId, inject -> inject.getDate().orElseThrow(), (first, second) -> first));
+  }
 }
@@ -39,6 +39,7 @@ import io.openaev.service.scenario.ScenarioService;
 import io.openaev.telemetry.metric_collectors.ActionMetricCollector;
 import jakarta.activation.MimetypesFileTypeMap;
 import jakarta.annotation.Resource;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Supplier;
@@ -535,9 +536,8 @@ public class V1_DataImporter implements Importer {
       Scenario savedScenario,
       String contentType,
       Map<String, Base> baseIds) {
-    try {
-      this.documentService.uploadFile(
-          target, entry.getData(), entry.getContentLength(), contentType);
+    try (InputStream data = entry.getData()) {
+      this.documentService.uploadFile(target, data, entry.getContentLength(), contentType);
     } catch (Exception e) {
       throw new ImportException(e);
     }
@@ -51,7 +51,8 @@ public class OpenAEVExecutorIntegration extends Integration {
           Endpoint.PLATFORM_TYPE.MacOS.name()
         });
 
-    this.openAEVExecutorContextService = new OpenAEVExecutorContextService(assetAgentJobRepository);
+    this.openAEVExecutorContextService =
+        new OpenAEVExecutorContextService(assetAgentJobRepository, executorService);
   }
 
   @Override
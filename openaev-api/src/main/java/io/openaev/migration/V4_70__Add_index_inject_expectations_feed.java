@@ -0,0 +1,23 @@
+package io.openaev.migration;
+
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+@Component
+public class V4_70__Add_index_inject_expectations_feed extends BaseJavaMigration {
+  @Override
+  public void migrate(Context context) throws Exception {
+    try (Statement stmt = context.getConnection().createStatement()) {
+      // Keyset index of the collector feed, over agent expectations only
+      stmt.execute(
+          """
+        CREATE INDEX IF NOT EXISTS idx_inject_expectation_agent_updated_at
+        ON injects_expectations (inject_expectation_updated_at, inject_expectation_id)
+        INCLUDE (inject_expectation_type)
+        WHERE agent_id IS NOT NULL;
+      """);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package io.openaev.migration;
+
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+@Component
+public class V4_71__Add_index_inject_expectations_expiration extends BaseJavaMigration {
+  @Override
+  public void migrate(Context context) throws Exception {
+    try (Statement stmt = context.getConnection().createStatement()) {
+      // Expiration deadline of the expectations without score, expiration time truncated to minutes
+      stmt.execute(
+          """
+        CREATE INDEX IF NOT EXISTS idx_inject_expectation_expiration
+        ON injects_expectations ((
+          (inject_expectation_created_at AT TIME ZONE 'UTC') + (inject_expiration_time / 60) * INTERVAL '1 minute'
+        ))
+        WHERE inject_expectation_score IS NULL;
+      """);
+    }
+  }
+}
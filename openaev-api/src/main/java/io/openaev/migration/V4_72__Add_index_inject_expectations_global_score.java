@@ -0,0 +1,23 @@
+package io.openaev.migration;
+
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+@Component
+public class V4_72__Add_index_inject_expectations_global_score extends BaseJavaMigration {
+  @Override
+  public void migrate(Context context) throws Exception {
+    try (Statement stmt = context.getConnection().createStatement()) {
+      // Covers the global score counts of the exercises, without players and agents expectations
+      stmt.execute(
+          """
+        CREATE INDEX IF NOT EXISTS idx_inject_expectation_global_score
+        ON injects_expectations (exercise_id, inject_expectation_type)
+        INCLUDE (inject_expectation_score, inject_expectation_expected_score, team_id)
+        WHERE user_id IS NULL AND agent_id IS NULL;
+      """);
+    }
+  }
+}
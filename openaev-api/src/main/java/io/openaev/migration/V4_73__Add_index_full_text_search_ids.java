@@ -0,0 +1,26 @@
+package io.openaev.migration;
+
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+@Component
+public class V4_73__Add_index_full_text_search_ids extends BaseJavaMigration {
+  @Override
+  public void migrate(Context context) throws Exception {
+    try (Statement stmt = context.getConnection().createStatement()) {
+      // The full text search matches the names and the ids: both must be indexed to avoid a scan
+      stmt.execute(
+          """
+        CREATE INDEX IF NOT EXISTS idx_pg_trgm_assets_asset_id ON assets USING gin(to_tsvector('simple', asset_id));
+        CREATE INDEX IF NOT EXISTS idx_pg_trgm_asset_groups_asset_group_id ON asset_groups USING gin(to_tsvector('simple', asset_group_id));
+        CREATE INDEX IF NOT EXISTS idx_pg_trgm_users_user_id ON users USING gin(to_tsvector('simple', user_id));
+        CREATE INDEX IF NOT EXISTS idx_pg_trgm_teams_team_id ON teams USING gin(to_tsvector('simple', team_id));
+        CREATE INDEX IF NOT EXISTS idx_pg_trgm_organizations_organization_id ON organizations USING gin(to_tsvector('simple', organization_id));
+        CREATE INDEX IF NOT EXISTS idx_pg_trgm_scenarios_scenario_id ON scenarios USING gin(to_tsvector('simple', scenario_id));
+        CREATE INDEX IF NOT EXISTS idx_pg_trgm_exercises_exercise_id ON exercises USING gin(to_tsvector('simple', exercise_id));
+      """);
+    }
+  }
+}
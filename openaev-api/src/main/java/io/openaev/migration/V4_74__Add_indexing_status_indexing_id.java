@@ -0,0 +1,20 @@
+package io.openaev.migration;
+
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+@Component
+public class V4_74__Add_indexing_status_indexing_id extends BaseJavaMigration {
+  @Override
+  public void migrate(Context context) throws Exception {
+    try (Statement stmt = context.getConnection().createStatement()) {
+      // The id of the last indexed document breaks the ties between documents with the same date
+      stmt.execute(
+          """
+        ALTER TABLE indexing_status ADD COLUMN IF NOT EXISTS indexing_status_indexing_id VARCHAR(255);
+      """);
+    }
+  }
+}
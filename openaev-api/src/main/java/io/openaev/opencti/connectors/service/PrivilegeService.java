@@ -7,6 +7,7 @@ import io.openaev.database.model.Role;
 import io.openaev.database.model.User;
 import io.openaev.opencti.connectors.ConnectorBase;
 import io.openaev.rest.group.form.GroupCreateInput;
+import io.openaev.rest.stream.AccessRightsChangedEvent;
 import io.openaev.rest.user.form.user.CreateUserInput;
 import io.openaev.rest.user.form.user.UpdateUserInput;
 import io.openaev.service.GroupService;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,10 +29,13 @@ public class PrivilegeService {
   private final RoleService roleService;
   private final GroupService groupService;
   private final UserService userService;
+  private final ApplicationEventPublisher appPublisher;
 
   @Transactional
   public void ensurePrivilegedUserExistsForConnector(ConnectorBase connector) {
     Group group = createWellKnownGroupWithRole(createWellKnownRole());
+    // The connector user is (re)attached to the group below, which emits no entity event
+    appPublisher.publishEvent(new AccessRightsChangedEvent(group.getId()));
 
     Optional<User> connectorUser = userService.findByToken(connector.getToken());
     Optional<User> existingEmailUser =
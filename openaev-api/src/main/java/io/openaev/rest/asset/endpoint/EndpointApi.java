@@ -16,6 +16,8 @@ import io.openaev.database.repository.EndpointRepository;
 import io.openaev.database.repository.TagRepository;
 import io.openaev.database.specification.AssetAgentJobSpecification;
 import io.openaev.database.specification.EndpointSpecification;
+import io.openaev.executors.openaev.mailbox.AgentJobMailbox;
+import io.openaev.executors.openaev.mailbox.AgentJobMailboxService;
 import io.openaev.rest.asset.endpoint.form.*;
 import io.openaev.rest.asset.endpoint.output.EndpointTargetOutput;
 import io.openaev.rest.exception.BadRequestException;
@@ -52,6 +54,7 @@ public class EndpointApi extends RestBehavior {
   private final EndpointService endpointService;
   private final EndpointRepository endpointRepository;
   private final AssetAgentJobRepository assetAgentJobRepository;
+  private final AgentJobMailboxService agentJobMailboxService;
   private final TagRepository tagRepository;
 
   private final EndpointMapper endpointMapper;
@@ -127,16 +130,24 @@ public class EndpointApi extends RestBehavior {
   @LogExecutionTime
   @PostMapping(ENDPOINT_URI + "/jobs")
   @RBAC(actionPerformed = Action.READ, resourceType = ResourceType.ASSET)
-  @Transactional(rollbackFor = Exception.class)
   public List<AssetAgentJob> getEndpointJobs(@RequestBody final EndpointRegisterInput input) {
-    return this.assetAgentJobRepository.findAll(
-        AssetAgentJobSpecification.forEndpoint(
-            input.getExternalReference(),
-            input.isService()
-                ? Agent.DEPLOYMENT_MODE.service.name()
-                : Agent.DEPLOYMENT_MODE.session.name(),
-            input.isElevated() ? Agent.PRIVILEGE.admin.name() : Agent.PRIVILEGE.standard.name(),
-            input.getExecutedByUser()));
+    // Most polls have no job, the mailbox answers them without opening a transaction
+    String deploymentMode =
+        input.isService()
+            ? Agent.DEPLOYMENT_MODE.service.name()
+            : Agent.DEPLOYMENT_MODE.session.name();
+    String privilege =
+        input.isElevated() ? Agent.PRIVILEGE.admin.name() : Agent.PRIVILEGE.standard.name();
+    return this.agentJobMailboxService.poll(
+        new AgentJobMailbox.Key(
+            input.getExternalReference(), deploymentMode, privilege, input.getExecutedByUser()),
+        () ->
+            this.assetAgentJobRepository.findAll(
+                AssetAgentJobSpecification.forEndpoint(
+                    input.getExternalReference(),
+                    deploymentMode,
+                    privilege,
+                    input.getExecutedByUser())));
   }
 
   @Deprecated(since = "1.11.0")
@@ -93,6 +93,18 @@ public class DashboardApi extends RestBehavior {
     return this.dashboardService.attackPaths(widgetId, parameters);
   }
 
+  @PostMapping(DASHBOARD_URI + "/render/{customDashboardId}")
+  @RBAC(
+      resourceId = "#customDashboardId",
+      actionPerformed = Action.READ,
+      resourceType = ResourceType.DASHBOARD)
+  public Map<String, Object> render(
+      @PathVariable final String customDashboardId,
+      @RequestBody(required = false) Map<String, String> parameters)
+      throws ExecutionException, InterruptedException {
+    return this.dashboardService.render(customDashboardId, parameters);
+  }
+
   @GetMapping(DASHBOARD_URI + "/search/{search}")
   @RBAC(actionPerformed = Action.SEARCH, resourceType = ResourceType.DASHBOARD)
   public List<EsSearch> search(@PathVariable final String search) {
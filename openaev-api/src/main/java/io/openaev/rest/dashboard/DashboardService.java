@@ -1,10 +1,18 @@
 package io.openaev.rest.dashboard;
 
 import static io.openaev.config.SessionHelper.currentUser;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.openaev.database.model.*;
+import io.openaev.database.raw.RawGrant;
 import io.openaev.database.raw.RawUserAuth;
 import io.openaev.database.raw.RawUserAuthFlat;
+import io.openaev.database.repository.CustomDashboardRepository;
+import io.openaev.database.repository.IndexingStatusRepository;
 import io.openaev.database.repository.UserRepository;
 import io.openaev.engine.EngineService;
 import io.openaev.engine.api.*;
@@ -17,19 +25,31 @@ import io.openaev.engine.query.EsSeries;
 import io.openaev.rest.custom_dashboard.WidgetService;
 import io.openaev.rest.dashboard.model.WidgetToEntitiesInput;
 import io.openaev.rest.dashboard.model.WidgetToEntitiesOutput;
+import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.service.EsAttackPathService;
 import io.openaev.service.EsSecurityDomainService;
 import io.openaev.utils.mapper.RawUserAuthMapper;
-import java.util.List;
-import java.util.Map;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class DashboardService {
 
+  private static final String BASE_ENTITY = "base_entity";
+  private static final long MAX_CACHED_RESULTS = 10_000;
+  // Documents deleted from the indexes do not change the indexing statuses
+  private static final Duration CACHED_RESULTS_TTL = Duration.ofMinutes(1);
+
   private final EsAttackPathService esAttackPathService;
   private final EngineService engineService;
   private final UserRepository userRepository;
@@ -37,6 +57,15 @@ public class DashboardService {
   private final EsSecurityDomainService esSecurityDomainService;
 
   private final RawUserAuthMapper rawUserAuthMapper;
+  private final CustomDashboardRepository customDashboardRepository;
+  private final IndexingStatusRepository indexingStatusRepository;
+  private final ObjectMapper mapper;
+
+  private final Cache<String, Object> results =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_CACHED_RESULTS)
+          .expireAfterWrite(CACHED_RESULTS_TTL)
+          .build();
 
   /**
    * Retrieves count data from Elasticsearch for a specific widget based on its configuration.
@@ -47,23 +76,43 @@ public class DashboardService {
    *     the difference between the two
    */
   public EsCountInterval count(String widgetId, Map<String, String> parameters) {
-    WidgetContext widgetContext = getWidgetContext(widgetId, parameters);
-    FlatConfiguration config = (FlatConfiguration) widgetContext.widget().getWidgetConfiguration();
-    CountRuntime runtime =
-        new CountRuntime(config, widgetContext.parameters(), widgetContext.definitionParameters());
-    return engineService.count(widgetContext.user(), runtime);
+    return count(getWidgetContext(widgetId, parameters), lastIndexings());
+  }
+
+  private EsCountInterval count(WidgetContext widgetContext, Map<String, Instant> lastIndexings) {
+    return cached(
+        "count",
+        widgetContext,
+        lastIndexings,
+        () -> {
+          FlatConfiguration config =
+              (FlatConfiguration) widgetContext.widget().getWidgetConfiguration();
+          CountRuntime runtime =
+              new CountRuntime(
+                  config, widgetContext.parameters(), widgetContext.definitionParameters());
+          return engineService.count(widgetContext.user(), runtime);
+        });
   }
 
   public EsAvgs average(String widgetId, Map<String, String> parameters) {
-    WidgetContext widgetContext = getWidgetContext(widgetId, parameters);
-    AverageConfiguration config =
-        (AverageConfiguration) widgetContext.widget().getWidgetConfiguration();
-    AverageRuntime runtime =
-        new AverageRuntime(
-            esSecurityDomainService.setFieldsForQuery(config),
-            widgetContext.parameters(),
-            widgetContext.definitionParameters());
-    return engineService.average(widgetContext.user(), runtime);
+    return average(getWidgetContext(widgetId, parameters), lastIndexings());
+  }
+
+  private EsAvgs average(WidgetContext widgetContext, Map<String, Instant> lastIndexings) {
+    return cached(
+        "average",
+        widgetContext,
+        lastIndexings,
+        () -> {
+          AverageConfiguration config =
+              (AverageConfiguration) widgetContext.widget().getWidgetConfiguration();
+          AverageRuntime runtime =
+              new AverageRuntime(
+                  esSecurityDomainService.setFieldsForQuery(config),
+                  widgetContext.parameters(),
+                  widgetContext.definitionParameters());
+          return engineService.average(widgetContext.user(), runtime);
+        });
   }
 
   /**
@@ -76,7 +125,14 @@ public class DashboardService {
    * @throws RuntimeException if the widget type is unsupported
    */
   public List<EsSeries> series(String widgetId, Map<String, String> parameters) {
-    WidgetContext widgetContext = getWidgetContext(widgetId, parameters);
+    return series(getWidgetContext(widgetId, parameters), lastIndexings());
+  }
+
+  private List<EsSeries> series(WidgetContext widgetContext, Map<String, Instant> lastIndexings) {
+    return cached("series", widgetContext, lastIndexings, () -> computeSeries(widgetContext));
+  }
+
+  private List<EsSeries> computeSeries(WidgetContext widgetContext) {
     if (WidgetConfigurationType.TEMPORAL_HISTOGRAM.equals(
         widgetContext.widget().getWidgetConfiguration().getConfigurationType())) {
       DateHistogramWidget config =
@@ -118,9 +174,61 @@ public class DashboardService {
    * @return list of {@link EsBase} entities matching the list widget query
    */
   public List<EsBase> entities(String widgetId, Map<String, String> parameters) {
-    WidgetContext widgetContext = getWidgetContext(widgetId, parameters);
-    ListConfiguration config = (ListConfiguration) widgetContext.widget().getWidgetConfiguration();
-    return executeListQuery(widgetContext, config);
+    return entities(getWidgetContext(widgetId, parameters), lastIndexings());
+  }
+
+  private List<EsBase> entities(WidgetContext widgetContext, Map<String, Instant> lastIndexings) {
+    return cached(
+        "entities",
+        widgetContext,
+        lastIndexings,
+        () ->
+            executeListQuery(
+                widgetContext,
+                (ListConfiguration) widgetContext.widget().getWidgetConfiguration()));
+  }
+
+  /**
+   * Renders all the widgets of a custom dashboard in a single call. The user, the parameters and
+   * the indexing statuses are resolved once for the whole dashboard.
+   *
+   * @param customDashboardId the id of the {@link CustomDashboard}
+   * @param parameters parameters passed at runtime (e.g. filters, date ranges)
+   * @return the data of each widget, by widget id, in the shape of its dedicated endpoint
+   */
+  public Map<String, Object> render(String customDashboardId, Map<String, String> parameters)
+      throws ExecutionException, InterruptedException {
+    CustomDashboard dashboard =
+        customDashboardRepository
+            .findById(customDashboardId)
+            .orElseThrow(
+                () ->
+                    new ElementNotFoundException(
+                        "Custom dashboard not found with id: " + customDashboardId));
+    Map<String, CustomDashboardParameters> defParams = dashboard.toParametersMap();
+    RawUserAuth userWithAuth = currentUserWithAuth();
+    Map<String, Instant> lastIndexings = lastIndexings();
+    Map<String, Object> results = new LinkedHashMap<>();
+    for (Widget widget : dashboard.getWidgets()) {
+      WidgetContext widgetContext =
+          new WidgetContext(
+              widget, parameters == null ? Map.of() : parameters, defParams, userWithAuth);
+      results.put(widget.getId(), render(widgetContext, lastIndexings));
+    }
+    return results;
+  }
+
+  private Object render(WidgetContext widgetContext, Map<String, Instant> lastIndexings)
+      throws ExecutionException, InterruptedException {
+    if (WidgetType.ATTACK_PATH.equals(widgetContext.widget().getType())) {
+      return attackPaths(widgetContext);
+    }
+    return switch (widgetContext.widget().getWidgetConfiguration().getConfigurationType()) {
+      case FLAT -> count(widgetContext, lastIndexings);
+      case AVERAGE -> average(widgetContext, lastIndexings);
+      case LIST -> entities(widgetContext, lastIndexings);
+      case TEMPORAL_HISTOGRAM, STRUCTURAL_HISTOGRAM -> series(widgetContext, lastIndexings);
+    };
   }
 
   /**
@@ -172,7 +280,11 @@ public class DashboardService {
    */
   public List<EsAttackPath> attackPaths(String widgetId, Map<String, String> parameters)
       throws ExecutionException, InterruptedException {
-    WidgetContext widgetContext = getWidgetContext(widgetId, parameters);
+    return attackPaths(getWidgetContext(widgetId, parameters));
+  }
+
+  private List<EsAttackPath> attackPaths(WidgetContext widgetContext)
+      throws ExecutionException, InterruptedException {
     StructuralHistogramWidget config =
         (StructuralHistogramWidget) widgetContext.widget().getWidgetConfiguration();
     StructuralHistogramRuntime runtime =
@@ -204,9 +316,93 @@ public class DashboardService {
     Widget widget = widgetService.widget(widgetId);
     CustomDashboard dashboard = widget.getCustomDashboard();
     Map<String, CustomDashboardParameters> defParams = dashboard.toParametersMap();
+    return new WidgetContext(widget, parameters, defParams, currentUserWithAuth());
+  }
+
+  private RawUserAuth currentUserWithAuth() {
     List<RawUserAuthFlat> usersWithAuthFlat = userRepository.getUserWithAuth(currentUser().getId());
-    RawUserAuth userWithAuth = rawUserAuthMapper.toRawUserAuth(usersWithAuthFlat);
-    return new WidgetContext(widget, parameters, defParams, userWithAuth);
+    return rawUserAuthMapper.toRawUserAuth(usersWithAuthFlat);
+  }
+
+  // -- CACHE --
+
+  /**
+   * @return the last indexing date of each indexed model
+   */
+  private Map<String, Instant> lastIndexings() {
+    Map<String, Instant> lastIndexings = new HashMap<>();
+    indexingStatusRepository
+        .findAll()
+        .forEach(status -> lastIndexings.put(status.getType(), status.getLastIndexing()));
+    return lastIndexings;
+  }
+
+  /**
+   * Returns the cached result of a widget, or computes it. Results are shared between the users
+   * having the same restrictions, and invalidated once one of the models read by the widget is
+   * indexed again.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T cached(
+      String query,
+      WidgetContext widgetContext,
+      Map<String, Instant> lastIndexings,
+      Supplier<T> compute) {
+    String key;
+    try {
+      key =
+          String.join(
+              "|",
+              query,
+              widgetContext.widget().getId(),
+              mapper.writeValueAsString(widgetContext.widget().getWidgetConfiguration()),
+              mapper.writeValueAsString(
+                  new TreeMap<>(Objects.requireNonNullElse(widgetContext.parameters(), Map.of()))),
+              mapper.writeValueAsString(
+                  new TreeMap<>(
+                      Objects.requireNonNullElse(widgetContext.definitionParameters(), Map.of()))),
+              restrictionKey(widgetContext.user()),
+              indexingVersion(widgetContext.widget(), lastIndexings));
+    } catch (JsonProcessingException e) {
+      log.warn("Widget result not cacheable: {}", widgetContext.widget().getId(), e);
+      return compute.get();
+    }
+    return (T) results.get(DigestUtils.md5DigestAsHex(key.getBytes(UTF_8)), k -> compute.get());
+  }
+
+  private static String restrictionKey(RawUserAuth user) {
+    if (user.getUser_admin()) {
+      return "admin";
+    }
+    return user.getUser_grants().stream()
+        .map(RawGrant::getGrant_resource)
+        .filter(Objects::nonNull)
+        .distinct()
+        .sorted()
+        .collect(Collectors.joining(","));
+  }
+
+  /**
+   * @return the last indexing dates of the models read by the widget, or of all the models if a
+   *     series is not restricted to some models
+   */
+  private static String indexingVersion(Widget widget, Map<String, Instant> lastIndexings) {
+    Set<String> models = new TreeSet<>();
+    for (WidgetConfiguration.Series series : widget.getWidgetConfiguration().getSeries()) {
+      Optional<Filters.Filter> baseEntity =
+          Optional.ofNullable(series.getFilter()).flatMap(f -> f.findByKey(BASE_ENTITY));
+      if (baseEntity.isEmpty()
+          || baseEntity.get().getValues() == null
+          || baseEntity.get().getValues().isEmpty()
+          || !Filters.FilterOperator.eq.equals(baseEntity.get().getOperator())) {
+        models = new TreeSet<>(lastIndexings.keySet());
+        break;
+      }
+      models.addAll(baseEntity.get().getValues());
+    }
+    return models.stream()
+        .map(model -> model + "=" + lastIndexings.get(model))
+        .collect(Collectors.joining(","));
   }
 
   private record WidgetContext(
@@ -45,7 +45,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.Join;
-import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -869,15 +868,12 @@ public class ExerciseApi extends RestBehavior {
         exerciseRepository.findById(exerciseId).orElseThrow(ElementNotFoundException::new);
     int exportOptionsMask = ExportOptions.mask(isWithPlayers, isWithTeams, isWithVariableValues);
 
-    byte[] zippedExport = exportService.exportExerciseToZip(exercise, exportOptionsMask);
     String zipName = exportService.getZipFileName(exercise, exportOptionsMask);
 
     response.addHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + zipName);
     response.addHeader(HttpHeaders.CONTENT_TYPE, "application/zip");
     response.setStatus(HttpServletResponse.SC_OK);
-    ServletOutputStream outputStream = response.getOutputStream();
-    outputStream.write(zippedExport);
-    outputStream.close();
+    exportService.exportExerciseToZip(exercise, exportOptionsMask, response.getOutputStream());
   }
 
   @PostMapping(EXERCISE_URI + "/import")
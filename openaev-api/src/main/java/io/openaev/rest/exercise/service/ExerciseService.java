@@ -711,15 +711,14 @@ public class ExerciseService {
 
   // -- GLOBAL RESULTS --
   public List<ExpectationResultsByType> getGlobalResults(@NotBlank String exerciseId) {
-    return resultUtils.computeGlobalExpectationResults(
-        exerciseRepository.findInjectsByExercise(exerciseId));
+    return resultUtils
+        .computeGlobalExpectationResultsByExerciseIds(List.of(exerciseId))
+        .get(exerciseId);
   }
 
   public ExercisesGlobalScoresOutput getExercisesGlobalScores(ExercisesGlobalScoresInput input) {
-    Map<String, List<ExpectationResultsByType>> globalScoresByExerciseIds =
-        input.exerciseIds().stream()
-            .collect(Collectors.toMap(Function.identity(), this::getGlobalResults));
-    return new ExercisesGlobalScoresOutput(globalScoresByExerciseIds);
+    return new ExercisesGlobalScoresOutput(
+        resultUtils.computeGlobalExpectationResultsByExerciseIds(input.exerciseIds()));
   }
 
   // -- TEAMS --
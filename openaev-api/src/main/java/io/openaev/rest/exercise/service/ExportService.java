@@ -1,26 +1,19 @@
 package io.openaev.rest.exercise.service;
 
-import static io.openaev.service.ImportService.EXPORT_ENTRY_ATTACHMENT;
 import static io.openaev.service.ImportService.EXPORT_ENTRY_EXERCISE;
 import static java.time.Instant.now;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.openaev.database.model.Document;
 import io.openaev.database.model.Exercise;
-import io.openaev.database.repository.DocumentRepository;
-import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.exercise.exports.ExerciseFileExport;
 import io.openaev.rest.exercise.exports.ExportOptions;
 import io.openaev.service.ArticleService;
 import io.openaev.service.ChallengeService;
-import io.openaev.service.FileService;
+import io.openaev.service.ExportZipService;
 import jakarta.annotation.Resource;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Optional;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.io.OutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -28,10 +21,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ExportService {
   @Resource protected ObjectMapper mapper;
-  @Resource private DocumentRepository documentRepository;
   @Resource private ChallengeService challengeService;
   @Resource private ArticleService articleService;
-  @Resource private FileService fileService;
+  @Resource private ExportZipService exportZipService;
 
   public String getZipFileName(Exercise exercise, int exportOptionsMask) {
     String infos =
@@ -52,6 +44,20 @@ public class ExportService {
   }
 
   public byte[] exportExerciseToZip(Exercise exercise, int exportOptionsMask) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    exportExerciseToZip(exercise, exportOptionsMask, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Writes the export archive of a simulation, with the files of its documents.
+   *
+   * @param exercise the simulation to export
+   * @param exportOptionsMask the {@link ExportOptions} of the export
+   * @param outputStream the stream to write the archive to, closed once the archive is complete
+   */
+  public void exportExerciseToZip(
+      Exercise exercise, int exportOptionsMask, OutputStream outputStream) throws IOException {
     ObjectMapper objectMapper = mapper.copy();
 
     ExerciseFileExport importExport =
@@ -59,41 +65,12 @@ public class ExportService {
                 exercise, objectMapper, this.challengeService, this.articleService)
             .withOptions(exportOptionsMask);
 
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    ZipOutputStream zipExport = new ZipOutputStream(outputStream);
-    ZipEntry zipEntry = new ZipEntry(exercise.getName() + ".json");
-    zipEntry.setComment(EXPORT_ENTRY_EXERCISE);
-    zipExport.putNextEntry(zipEntry);
-    zipExport.write(
-        importExport
-            .getObjectMapper()
-            .writerWithDefaultPrettyPrinter()
-            .writeValueAsBytes(importExport));
-    zipExport.closeEntry();
-    // Add the actual files for the documents
-    importExport.getAllDocumentIds().stream()
-        .distinct()
-        .forEach(
-            docId -> {
-              Document doc =
-                  documentRepository.findById(docId).orElseThrow(ElementNotFoundException::new);
-              Optional<InputStream> docStream = fileService.getFile(doc);
-              if (docStream.isPresent()) {
-                try {
-                  ZipEntry zipDoc = new ZipEntry(doc.getTarget());
-                  zipDoc.setComment(EXPORT_ENTRY_ATTACHMENT);
-                  byte[] data = docStream.get().readAllBytes();
-                  zipExport.putNextEntry(zipDoc);
-                  zipExport.write(data);
-                  zipExport.closeEntry();
-                } catch (IOException e) {
-                  log.error(e.getMessage(), e);
-                }
-              }
-            });
-    zipExport.finish();
-    zipExport.close();
-
-    return outputStream.toByteArray();
+    exportZipService.writeZip(
+        outputStream,
+        exercise.getName() + ".json",
+        EXPORT_ENTRY_EXERCISE,
+        importExport.getObjectMapper().writerWithDefaultPrettyPrinter(),
+        importExport,
+        importExport.getAllDocumentIds());
   }
 }
@@ -9,8 +9,11 @@ import io.openaev.rest.exercise.form.ExpectationUpdateInput;
 import io.openaev.rest.helper.RestBehavior;
 import io.openaev.rest.inject.form.InjectExpectationBulkUpdateInput;
 import io.openaev.rest.inject.form.InjectExpectationUpdateInput;
+import io.openaev.rest.inject.output.InjectExpectationFeedOutput;
 import io.openaev.service.ExpectationService;
+import io.openaev.service.InjectExpectationFeedService;
 import io.openaev.service.InjectExpectationService;
+import io.openaev.service.InjectExpectationUpdateWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -19,6 +22,9 @@ import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RequiredArgsConstructor
@@ -30,6 +36,8 @@ public class ExpectationApi extends RestBehavior {
 
   private final InjectExpectationService injectExpectationService;
   private final ExpectationService expectationService;
+  private final InjectExpectationUpdateWriter injectExpectationUpdateWriter;
+  private final InjectExpectationFeedService injectExpectationFeedService;
 
   @Transactional(rollbackOn = Exception.class)
   @PutMapping(EXPECTATIONS_URI + "/{expectationId}")
@@ -115,6 +123,28 @@ public class ExpectationApi extends RestBehavior {
         .toList();
   }
 
+  @Operation(
+      summary = "Get Inject Expectations Feed",
+      description =
+          "Retrieves, by pages, the inject expectations of agents that have not seen any result yet, from a given source ID if provided. Each page returns the cursor of its last expectation: use it to read the next page and, once the feed is exhausted, to only read the expectations created or updated since. The expectations updated in the few minutes before the cursor are returned again, so that the ones committed late are not missed: ignore the ones already handled. A request with an If-None-Match header matching the page ETag is answered with 304 Not Modified.")
+  @GetMapping(INJECTS_EXPECTATIONS_URI + "/feed")
+  @RBAC(actionPerformed = Action.READ, resourceType = ResourceType.SIMULATION)
+  public ResponseEntity<InjectExpectationFeedOutput> getInjectExpectationsFeed(
+      @RequestParam(required = false, name = "source_id") final String sourceId,
+      @RequestParam(required = false, name = "type")
+          final List<InjectExpectation.EXPECTATION_TYPE> types,
+      @RequestParam(required = false, name = "cursor") final String cursor,
+      @RequestParam(required = false, name = "size", defaultValue = "500") final int size,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+    String etag = injectExpectationFeedService.etag(types, sourceId, cursor, size);
+    if (etag.equals(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .body(injectExpectationFeedService.feed(types, sourceId, cursor, size));
+  }
+
   @GetMapping(INJECTS_EXPECTATIONS_URI + "/prevention")
   @RBAC(actionPerformed = Action.READ, resourceType = ResourceType.SIMULATION)
   public List<InjectExpectation> getInjectPreventionExpectationsNotFilled() {
@@ -158,7 +188,7 @@ public class ExpectationApi extends RestBehavior {
   public InjectExpectation updateInjectExpectation(
       @PathVariable @NotBlank final String expectationId,
       @Valid @RequestBody @NotNull InjectExpectationUpdateInput input) {
-    return injectExpectationService.updateInjectExpectation(expectationId, input);
+    return injectExpectationUpdateWriter.write(expectationId, input);
   }
 
   @Operation(
@@ -169,7 +199,7 @@ public class ExpectationApi extends RestBehavior {
   @Transactional(rollbackOn = Exception.class)
   public void updateInjectExpectation(
       @Valid @RequestBody @NotNull InjectExpectationBulkUpdateInput inputs) {
-    injectExpectationService.bulkUpdateInjectExpectation(inputs.getInputs());
+    injectExpectationUpdateWriter.writeAll(inputs.getInputs());
   }
 
   @Operation(summary = "Get available expectations for an inject by injector contract id")
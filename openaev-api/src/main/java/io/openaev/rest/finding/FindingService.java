@@ -91,21 +91,10 @@ public class FindingService {
    */
   public void buildFinding(
       Inject inject, Asset asset, ContractOutputElement contractOutputElement, String finalValue) {
-    String[] tagIds =
-        contractOutputElement.getTags().isEmpty()
-            ? new String[0]
-            : contractOutputElement.getTags().stream().map(Tag::getId).toArray(String[]::new);
-
     // Save or update the finding and add or update the list of assets and/or tags
-    findingRepository.saveCompleteFinding(
-        contractOutputElement.getKey(),
-        contractOutputElement.getType().name(),
-        finalValue,
-        new String[0],
-        inject.getId(),
-        contractOutputElement.getName(),
-        asset.getId(),
-        tagIds);
+    FindingUpsertBatch batch = new FindingUpsertBatch(inject.getId());
+    batch.add(contractOutputElement, finalValue, asset);
+    batch.save(findingRepository);
   }
 
   // -- Extract findings from structured output : Here we compute the findings from structured
@@ -142,6 +131,10 @@ public class FindingService {
       List<InjectorContractContentOutputElement> contractOutputs, ObjectNode structuredOutput) {
 
     List<Finding> findings = new ArrayList<>();
+    // The same assets, teams and users are usually linked to many findings: load them once
+    Map<String, Optional<Asset>> assetsById = new HashMap<>();
+    Map<String, Optional<Team>> teamsById = new HashMap<>();
+    Map<String, Optional<User>> usersById = new HashMap<>();
     contractOutputs.forEach(
         contractOutput -> {
           if (!contractOutput.isFindingCompatible()) {
@@ -156,7 +149,9 @@ public class FindingService {
                 }
                 Finding finding = FindingUtils.createFinding(contractOutput);
                 finding.setValue(contractOutput.getType().toFindingValue.apply(jsonNode));
-                Finding linkedFinding = linkFindings(contractOutput, jsonNode, finding);
+                Finding linkedFinding =
+                    linkFindings(
+                        contractOutput, jsonNode, finding, assetsById, teamsById, usersById);
                 findings.add(linkedFinding);
               }
             }
@@ -167,7 +162,8 @@ public class FindingService {
             }
             Finding finding = FindingUtils.createFinding(contractOutput);
             finding.setValue(contractOutput.getType().toFindingValue.apply(jsonNode));
-            Finding linkedFinding = linkFindings(contractOutput, jsonNode, finding);
+            Finding linkedFinding =
+                linkFindings(contractOutput, jsonNode, finding, assetsById, teamsById, usersById);
             findings.add(linkedFinding);
           }
         });
@@ -176,12 +172,19 @@ public class FindingService {
   }
 
   private Finding linkFindings(
-      InjectorContractContentOutputElement contractOutput, JsonNode jsonNode, Finding finding) {
+      InjectorContractContentOutputElement contractOutput,
+      JsonNode jsonNode,
+      Finding finding,
+      Map<String, Optional<Asset>> assetsById,
+      Map<String, Optional<Team>> teamsById,
+      Map<String, Optional<User>> usersById) {
     // Create links with assets
     if (contractOutput.getType().toFindingAssets != null) {
       List<String> assetsIds = contractOutput.getType().toFindingAssets.apply(jsonNode);
       List<Optional<Asset>> assets =
-          assetsIds.stream().map(this.assetRepository::findById).toList();
+          assetsIds.stream()
+              .map(id -> assetsById.computeIfAbsent(id, this.assetRepository::findById))
+              .toList();
       if (!assets.isEmpty()) {
         finding.setAssets(assets.stream().filter(Optional::isPresent).map(Optional::get).toList());
       }
@@ -189,7 +192,10 @@ public class FindingService {
     // Create links with teams
     if (contractOutput.getType().toFindingTeams != null) {
       List<String> teamsIds = contractOutput.getType().toFindingTeams.apply(jsonNode);
-      List<Optional<Team>> teams = teamsIds.stream().map(this.teamRepository::findById).toList();
+      List<Optional<Team>> teams =
+          teamsIds.stream()
+              .map(id -> teamsById.computeIfAbsent(id, this.teamRepository::findById))
+              .toList();
       if (!teams.isEmpty()) {
         finding.setTeams(teams.stream().filter(Optional::isPresent).map(Optional::get).toList());
       }
@@ -197,7 +203,10 @@ public class FindingService {
     // Create links with users
     if (contractOutput.getType().toFindingUsers != null) {
       List<String> usersIds = contractOutput.getType().toFindingUsers.apply(jsonNode);
-      List<Optional<User>> users = usersIds.stream().map(this.userRepository::findById).toList();
+      List<Optional<User>> users =
+          usersIds.stream()
+              .map(id -> usersById.computeIfAbsent(id, this.userRepository::findById))
+              .toList();
       if (!users.isEmpty()) {
         finding.setUsers(users.stream().filter(Optional::isPresent).map(Optional::get).toList());
       }
@@ -253,8 +262,14 @@ public class FindingService {
     List<ContractOutputElement> contractOutputElements =
         this.getAllIsFindingContractOutputElementsOfOutputParser(outputParsers);
 
+    if (contractOutputElements.isEmpty()) {
+      return;
+    }
+
     Map<String, Endpoint> valueTargetedAssetsMap = injectService.getValueTargetedAssetMap(inject);
 
+    // All the findings of the execution are saved at once
+    FindingUpsertBatch batch = new FindingUpsertBatch(inject.getId());
     contractOutputElements.forEach(
         contractOutputElement -> {
           JsonNode jsonNodes = structuredOutput.get(contractOutputElement.getKey());
@@ -268,13 +283,14 @@ public class FindingService {
               throw new IllegalArgumentException("Finding not correctly formatted");
             }
 
-            // Build and save the finding
-            this.buildFinding(
-                inject,
-                getAssetLinkedToStructuredOutput(jsonNode, valueTargetedAssetsMap, agent),
+            batch.add(
                 contractOutputElement,
-                contractOutputElement.getType().toFindingValue.apply(jsonNode));
+                contractOutputElement.getType().toFindingValue.apply(jsonNode),
+                getAssetLinkedToStructuredOutput(jsonNode, valueTargetedAssetsMap, agent));
           }
         });
+    if (batch.size() > 0) {
+      batch.save(findingRepository);
+    }
   }
 }
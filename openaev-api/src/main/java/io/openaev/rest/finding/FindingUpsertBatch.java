@@ -0,0 +1,118 @@
+package io.openaev.rest.finding;
+
+import io.openaev.database.model.Asset;
+import io.openaev.database.model.ContractOutputElement;
+import io.openaev.database.model.Tag;
+import io.openaev.database.repository.FindingRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * The findings extracted from an execution of an inject, saved together.
+ *
+ * <p>A finding is identified by its field, type and value within the inject: the duplicates are
+ * merged while collecting, their assets and tags added up, so that each finding is written once.
+ * The findings are then upserted by chunks, each chunk in a single statement.
+ */
+class FindingUpsertBatch {
+
+  static final int CHUNK_SIZE = 1000;
+
+  private record Key(String field, String type, String value) {}
+
+  private static final class Values {
+    private String name;
+    private final Set<String> assetIds = new LinkedHashSet<>();
+    private final Set<String> tagIds = new LinkedHashSet<>();
+  }
+
+  private final String injectId;
+  private final Map<Key, Values> findings = new LinkedHashMap<>();
+
+  FindingUpsertBatch(String injectId) {
+    this.injectId = injectId;
+  }
+
+  /**
+   * @param contractOutputElement the element defining the field, type, name and tags of the finding
+   * @param value the value of the finding
+   * @param asset the asset to link to the finding, if any
+   */
+  void add(ContractOutputElement contractOutputElement, String value, @Nullable Asset asset) {
+    Values values =
+        findings.computeIfAbsent(
+            new Key(contractOutputElement.getKey(), contractOutputElement.getType().name(), value),
+            key -> new Values());
+    // As with successive upserts, the last name wins
+    values.name = contractOutputElement.getName();
+    if (asset != null) {
+      values.assetIds.add(asset.getId());
+    }
+    contractOutputElement.getTags().stream().map(Tag::getId).forEach(values.tagIds::add);
+  }
+
+  int size() {
+    return findings.size();
+  }
+
+  /**
+   * @return the ids of the saved findings
+   */
+  List<String> save(FindingRepository findingRepository) {
+    List<String> ids = new ArrayList<>();
+    List<Map.Entry<Key, Values>> entries = new ArrayList<>(findings.entrySet());
+    for (int start = 0; start < entries.size(); start += CHUNK_SIZE) {
+      ids.addAll(
+          saveChunk(
+              findingRepository,
+              entries.subList(start, Math.min(start + CHUNK_SIZE, entries.size()))));
+    }
+    return ids;
+  }
+
+  private List<String> saveChunk(
+      FindingRepository findingRepository, List<Map.Entry<Key, Values>> chunk) {
+    List<Key> assetKeys = new ArrayList<>();
+    List<String> assetIds = new ArrayList<>();
+    List<Key> tagKeys = new ArrayList<>();
+    List<String> tagIds = new ArrayList<>();
+    for (Map.Entry<Key, Values> entry : chunk) {
+      entry
+          .getValue()
+          .assetIds
+          .forEach(
+              assetId -> {
+                assetKeys.add(entry.getKey());
+                assetIds.add(assetId);
+              });
+      entry
+          .getValue()
+          .tagIds
+          .forEach(
+              tagId -> {
+                tagKeys.add(entry.getKey());
+                tagIds.add(tagId);
+              });
+    }
+    List<Key> keys = chunk.stream().map(Map.Entry::getKey).toList();
+    return findingRepository.saveCompleteFindings(
+        injectId,
+        keys.stream().map(Key::field).toArray(String[]::new),
+        keys.stream().map(Key::type).toArray(String[]::new),
+        keys.stream().map(Key::value).toArray(String[]::new),
+        chunk.stream().map(entry -> entry.getValue().name).toArray(String[]::new),
+        assetKeys.stream().map(Key::field).toArray(String[]::new),
+        assetKeys.stream().map(Key::type).toArray(String[]::new),
+        assetKeys.stream().map(Key::value).toArray(String[]::new),
+        assetIds.toArray(String[]::new),
+        tagKeys.stream().map(Key::field).toArray(String[]::new),
+        tagKeys.stream().map(Key::type).toArray(String[]::new),
+        tagKeys.stream().map(Key::value).toArray(String[]::new),
+        tagIds.toArray(String[]::new));
+  }
+}
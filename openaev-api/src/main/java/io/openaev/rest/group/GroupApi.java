@@ -13,6 +13,7 @@ import io.openaev.database.repository.UserRepository;
 import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.group.form.*;
 import io.openaev.rest.helper.RestBehavior;
+import io.openaev.rest.stream.AccessRightsChangedEvent;
 import io.openaev.service.GrantService;
 import io.openaev.service.GroupService;
 import io.openaev.service.RoleService;
@@ -24,6 +25,7 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import java.util.Spliterator;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
@@ -38,6 +40,7 @@ public class GroupApi extends RestBehavior {
   private final UserRepository userRepository;
   private final RoleService roleService;
   private final GrantService grantService;
+  private final ApplicationEventPublisher appPublisher;
 
   @GetMapping("/api/groups")
   @RBAC(actionPerformed = Action.READ, resourceType = ResourceType.USER_GROUP)
@@ -79,7 +82,9 @@ public class GroupApi extends RestBehavior {
     Spliterator<User> userSpliterator =
         userRepository.findAllById(input.getUserIds()).spliterator();
     group.setUsers(stream(userSpliterator, false).collect(toList()));
-    return groupRepository.save(group);
+    Group savedGroup = groupRepository.save(group);
+    appPublisher.publishEvent(new AccessRightsChangedEvent(savedGroup.getId()));
+    return savedGroup;
   }
 
   @PutMapping("/api/groups/{groupId}/roles")
@@ -4,12 +4,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rabbitmq.client.*;
 import io.openaev.config.QueueConfig;
 import io.openaev.config.RabbitmqConfig;
+import io.openaev.telemetry.metric_collectors.MetricRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongHistogram;
 import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -32,9 +38,11 @@ public class BatchQueueService<T extends Queueable> {
   private final String exchangeName;
   private final String queueName;
 
-  private final Map<Integer, BlockingQueue<T>> queue;
-
-  private final Map<T, DeliveryContext> deliveryTable = new ConcurrentHashMap<>();
+  // One bounded buffer per worker, a full buffer blocks the consumers until the worker catches up
+  private final Map<Integer, BlockingQueue<DeliveryContext<T>>> queue;
+  private final int workerCapacity;
+  private final AtomicInteger nextWorker = new AtomicInteger();
+  private final AtomicInteger nextPublisher = new AtomicInteger();
 
   private final QueueConfig queueConfig;
   private final ScheduledExecutorService reconnectionExecutor;
@@ -43,6 +51,12 @@ public class BatchQueueService<T extends Queueable> {
   private final List<Channel> consumerChannels = new ArrayList<>();
   private final Map<Integer, AtomicBoolean> insertInProgress = new HashMap<>();
   private final ExecutorService executor;
+  private final ScheduledExecutorService scheduledExecutor;
+
+  private final LongHistogram batchSizeHistogram;
+  private final LongHistogram batchDurationHistogram;
+  private final LongHistogram deliveryLatencyHistogram;
+  private final Attributes metricAttributes;
 
   /**
    * Public constructor of the BatchQueueService
@@ -52,6 +66,7 @@ public class BatchQueueService<T extends Queueable> {
    * @param rabbitmqConfig the rabbitmq config object
    * @param mapper the mapper to use
    * @param queueConfig the queue config to use
+   * @param metricRegistry the registry of the batch metrics
    * @throws IOException In case of issue when communicating with rabbitMQ
    * @throws TimeoutException In case of a non responding rabbitMQ
    */
@@ -60,7 +75,8 @@ public class BatchQueueService<T extends Queueable> {
       QueueExecution<T> queueExecution,
       RabbitmqConfig rabbitmqConfig,
       ObjectMapper mapper,
-      QueueConfig queueConfig)
+      QueueConfig queueConfig,
+      MetricRegistry metricRegistry)
       throws IOException, TimeoutException {
     this.clazz = clazz;
     this.queueExecution = queueExecution;
@@ -80,16 +96,37 @@ public class BatchQueueService<T extends Queueable> {
         rabbitmqConfig.getPrefix()
             + String.format(BatchQueueService.QUEUE_NAME, queueConfig.getQueueName());
 
-    // The queue that will contain the object we need to process
+    batchSizeHistogram =
+        metricRegistry.registerHistogram(
+            "queue_batch_size", "Number of elements processed by batch", "count");
+    batchDurationHistogram =
+        metricRegistry.registerHistogram(
+            "queue_batch_duration", "Processing time of the batches", "ms");
+    deliveryLatencyHistogram =
+        metricRegistry.registerHistogram(
+            "queue_delivery_latency",
+            "Time between the reception of an element and its acknowledgement",
+            "ms");
+    metricAttributes = Attributes.of(AttributeKey.stringKey("queue"), queueConfig.getQueueName());
+
+    // The queue that will contain the object we need to process. The broker never delivers more
+    // than the consumer QoS per consumer, which bounds what a single worker can receive.
+    workerCapacity =
+        Math.max(
+            queueConfig.getMaxSize(),
+            queueConfig.getConsumerQos() > 0
+                ? queueConfig.getConsumerQos() * queueConfig.getConsumerNumber()
+                : queueConfig.getMaxSize() * 4);
     queue = new HashMap<>();
     for (int i = 0; i < queueConfig.getWorkerNumber(); i++) {
-      queue.put(i, new LinkedBlockingQueue<>());
+      queue.put(i, new LinkedBlockingQueue<>(workerCapacity));
+      insertInProgress.put(i, new AtomicBoolean(false));
     }
 
     establishConnection();
 
     // A scheduler to handle batches that did not reached the critical mass
-    ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
     scheduledExecutor.scheduleAtFixedRate(
         () -> queue.keySet().forEach(this::processBufferedBatch),
         this.queueConfig.getWorkerFrequency(),
@@ -156,6 +193,7 @@ public class BatchQueueService<T extends Queueable> {
         Channel consumerChannel = connection.createChannel();
         consumerChannels.add(consumerChannel);
         consumerChannel.basicQos(queueConfig.getConsumerQos());
+        ChannelAcknowledger acknowledger = new ChannelAcknowledger(consumerChannel);
 
         // What to do when a message is consumed
         DeliverCallback deliverCallback =
@@ -164,26 +202,38 @@ public class BatchQueueService<T extends Queueable> {
               String message = new String(delivery.getBody(), StandardCharsets.UTF_8);
               log.trace("Received message from queue {} : '{}'", queueName, message);
 
-              // Unmarshalling of our object and setting it in the queue for processing
-              T element = mapper.readValue(message, clazz);
+              // Unmarshalling of our object, keeping its delivery tag to ack once inserted in base
+              long tag = delivery.getEnvelope().getDeliveryTag();
+              T element;
+              try {
+                element = mapper.readValue(message, clazz);
+              } catch (IOException e) {
+                log.error("Invalid message from queue {}, rejecting it", queueName, e);
+                consumerChannel.basicReject(tag, false);
+                return;
+              }
+              acknowledger.received(tag);
               int elementKey = groupByKey(element);
-              queue
-                  .computeIfAbsent(elementKey, integer -> new LinkedBlockingQueue<>())
-                  .add(element);
-
-              // Add the message and delivery tag into a hashmap that will allow us to ack when
-              // we've inserted in base
-              deliveryTable.put(
-                  element,
-                  DeliveryContext.builder()
-                      .tag(delivery.getEnvelope().getDeliveryTag())
-                      .deliveryChannel(consumerChannel)
-                      .build());
+              BlockingQueue<DeliveryContext<T>> workerQueue = queue.get(elementKey);
 
               // If we reach a critical mass, we take care of it immediately
-              if (queue.get(elementKey).size() > this.queueConfig.getMaxSize()) {
+              if (workerQueue.size() >= this.queueConfig.getMaxSize()) {
                 processBufferedBatch(elementKey);
               }
+
+              // Setting it in the queue for processing, waiting for room if the worker is late
+              try {
+                workerQueue.put(
+                    DeliveryContext.<T>builder()
+                        .element(element)
+                        .tag(tag)
+                        .acknowledger(acknowledger)
+                        .receivedAt(System.currentTimeMillis())
+                        .build());
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while buffering the message", e);
+              }
             };
 
         CancelCallback cancelCallback =
@@ -279,7 +329,9 @@ public class BatchQueueService<T extends Queueable> {
 
   @PreDestroy
   public void stop() throws IOException, TimeoutException {
+    scheduledExecutor.shutdown();
     closeResources();
+    executor.shutdown();
   }
 
   /**
@@ -287,67 +339,72 @@ public class BatchQueueService<T extends Queueable> {
    * configures in openbas.queue-config.<name of the queue>.max-size
    */
   public void processBufferedBatch(int workerId) {
-    if (insertInProgress
-        .computeIfAbsent(workerId, integer -> new AtomicBoolean(false))
-        .compareAndSet(false, true)) {
+    if (insertInProgress.get(workerId).compareAndSet(false, true)) {
       executor.execute(
           () -> {
-            do {
-              // Draining the queue into the list with a max size
-              List<T> currentBatch = new ArrayList<>();
-              queue.get(workerId).drainTo(currentBatch);
-
-              // If the list is not empty, we process it
-              List<T> processedElement = new ArrayList<>();
-              if (!currentBatch.isEmpty()) {
-                log.info("Processing batch of {}", currentBatch.size());
-                try {
-                  processedElement.addAll(queueExecution.perform(currentBatch));
-                } catch (Exception e) {
-                  log.error("Error processing batch - Error during ingestion", e);
-                }
-              }
-
-              // Sending Ack for all the processed element in the batch
-              for (T element : processedElement) {
-                try {
-                  DeliveryContext elementToAck = deliveryTable.remove(element);
-                  if (elementToAck != null) {
-                    elementToAck.getDeliveryChannel().basicAck(elementToAck.getTag(), false);
-                    currentBatch.remove(element);
-                  }
-                } catch (IOException e) {
-                  log.error(
-                      String.format(
-                          "Error processing batch - Cannot Ack the message: %s", e.getMessage()),
-                      e);
-                }
-              }
-
-              // The elements that were not successfully processed are rejected
-              for (T element : currentBatch) {
-                try {
-                  DeliveryContext elementToReject = deliveryTable.remove(element);
-                  if (elementToReject != null) {
-                    // To avoid having elements that are not properly processed but can never be,
-                    // we're not requeueing them.
-                    elementToReject
-                        .getDeliveryChannel()
-                        .basicReject(elementToReject.getTag(), false);
-                  }
-                } catch (IOException e) {
-                  log.error(
-                      String.format(
-                          "Error processing batch - Cannot Nack the message: %s", e.getMessage()),
-                      e);
+            try {
+              do {
+                // Draining the queue into the list with a max size
+                List<DeliveryContext<T>> currentBatch = new ArrayList<>();
+                queue.get(workerId).drainTo(currentBatch, queueConfig.getMaxSize());
+
+                // If the list is not empty, we process it
+                if (!currentBatch.isEmpty()) {
+                  processBatch(currentBatch);
                 }
-              }
-            } while (queue.get(workerId).size() > (queueConfig.getMaxSize() * 0.75));
-            insertInProgress.get(workerId).set(false);
+              } while (queue.get(workerId).size() > (queueConfig.getMaxSize() * 0.75));
+            } finally {
+              insertInProgress.get(workerId).set(false);
+            }
           });
     }
   }
 
+  /**
+   * Process a batch, then acknowledge the processed elements and reject the others
+   *
+   * @param currentBatch the deliveries to process
+   */
+  private void processBatch(List<DeliveryContext<T>> currentBatch) {
+    log.info("Processing batch of {}", currentBatch.size());
+    long start = System.currentTimeMillis();
+    // Elements are matched by identity, two equal elements are still two deliveries
+    Set<T> processedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+    try {
+      processedElements.addAll(
+          queueExecution.perform(currentBatch.stream().map(DeliveryContext::getElement).toList()));
+    } catch (Exception e) {
+      log.error("Error processing batch - Error during ingestion", e);
+    }
+    long end = System.currentTimeMillis();
+    batchSizeHistogram.record(currentBatch.size(), metricAttributes);
+    batchDurationHistogram.record(end - start, metricAttributes);
+
+    // Sending one ack per channel for all the processed elements of the batch. The elements that
+    // were not successfully processed are rejected. To avoid having elements that are not properly
+    // processed but can never be, we're not requeueing them.
+    Map<ChannelAcknowledger, List<DeliveryContext<T>>> byChannel =
+        currentBatch.stream().collect(Collectors.groupingBy(DeliveryContext::getAcknowledger));
+    byChannel.forEach(
+        (acknowledger, deliveries) -> {
+          List<Long> acked = new ArrayList<>();
+          List<Long> rejected = new ArrayList<>();
+          for (DeliveryContext<T> delivery : deliveries) {
+            (processedElements.contains(delivery.getElement()) ? acked : rejected)
+                .add(delivery.getTag());
+            deliveryLatencyHistogram.record(end - delivery.getReceivedAt(), metricAttributes);
+          }
+          try {
+            acknowledger.settle(acked, rejected);
+          } catch (IOException e) {
+            log.error(
+                String.format(
+                    "Error processing batch - Cannot Ack the messages: %s", e.getMessage()),
+                e);
+          }
+        });
+  }
+
   /**
    * Publish a stringified object of type T into the queue
    *
@@ -357,7 +414,7 @@ public class BatchQueueService<T extends Queueable> {
   public void publish(T element) throws IOException {
     try {
       publisherChannels
-          .get(element.hashCode() % publisherChannels.size())
+          .get(Math.floorMod(nextPublisher.getAndIncrement(), publisherChannels.size()))
           .basicPublish(
               exchangeName, routingKey, null, mapper.writeValueAsString(element).getBytes());
     } catch (IOException e) {
@@ -388,8 +445,9 @@ public class BatchQueueService<T extends Queueable> {
    */
   private int groupByKey(T element) {
     if (element.getUniqueElementKey() != null && !element.getUniqueElementKey().isEmpty()) {
-      return element.getUniqueElementKey().hashCode() % queueConfig.getWorkerNumber();
+      return Math.floorMod(element.getUniqueElementKey().hashCode(), queueConfig.getWorkerNumber());
     }
-    return 0;
+    // Elements without key are spread over all the workers
+    return Math.floorMod(nextWorker.getAndIncrement(), queueConfig.getWorkerNumber());
   }
 }
@@ -0,0 +1,66 @@
+package io.openaev.rest.helper.queue;
+
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Tracks the deliveries of a consumer channel and acknowledges them by ranges.
+ *
+ * <p>Deliveries of a channel are processed by several workers, in any order. A processed delivery
+ * is only acknowledged once all the deliveries received before it are settled, with a single {@code
+ * basicAck(multiple=true)} covering all of them. Rejections are sent one by one, as soon as they
+ * are known. All operations are thread safe.
+ */
+public class ChannelAcknowledger {
+
+  private final Channel channel;
+  private final NavigableSet<Long> pending = new TreeSet<>();
+  private final NavigableSet<Long> acknowledgeable = new TreeSet<>();
+
+  public ChannelAcknowledger(Channel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * @param tag the delivery tag of a message received on the channel
+   */
+  public synchronized void received(long tag) {
+    pending.add(tag);
+  }
+
+  /**
+   * Settles processed deliveries, sending the rejections and the acknowledgement they unlock.
+   *
+   * @param acked the delivery tags successfully processed
+   * @param rejected the delivery tags that failed, they are not requeued
+   * @throws IOException in case of issue when communicating with rabbitMQ
+   */
+  public synchronized void settle(Collection<Long> acked, Collection<Long> rejected)
+      throws IOException {
+    pending.removeAll(acked);
+    pending.removeAll(rejected);
+    acknowledgeable.addAll(acked);
+    for (long tag : rejected) {
+      channel.basicReject(tag, false);
+    }
+    long upTo = acknowledgeableUpTo();
+    if (upTo >= 0) {
+      acknowledgeable.headSet(upTo, true).clear();
+      channel.basicAck(upTo, true);
+    }
+  }
+
+  /**
+   * @return the highest processed delivery tag preceded by settled deliveries only, -1 if none
+   */
+  private long acknowledgeableUpTo() {
+    if (acknowledgeable.isEmpty()) {
+      return -1;
+    }
+    Long upTo = pending.isEmpty() ? acknowledgeable.last() : acknowledgeable.lower(pending.first());
+    return upTo != null ? upTo : -1;
+  }
+}
@@ -1,14 +1,17 @@
 package io.openaev.rest.helper.queue;
 
-import com.rabbitmq.client.Channel;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
-public class DeliveryContext {
+public class DeliveryContext<T> {
+
+  private T element;
 
   private long tag;
 
-  private Channel deliveryChannel;
+  private ChannelAcknowledger acknowledger;
+
+  private long receivedAt;
 }
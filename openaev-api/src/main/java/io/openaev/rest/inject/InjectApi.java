@@ -37,6 +37,7 @@ import io.openaev.rest.settings.PreviewFeature;
 import io.openaev.service.PreviewFeatureService;
 import io.openaev.service.UserService;
 import io.openaev.service.targets.TargetService;
+import io.openaev.telemetry.metric_collectors.MetricRegistry;
 import io.openaev.utils.FilterUtilsJpa;
 import io.openaev.utils.TargetType;
 import io.openaev.utils.mapper.PayloadMapper;
@@ -45,7 +46,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.annotation.PostConstruct;
-import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -93,6 +93,7 @@ public class InjectApi extends RestBehavior {
   private final RabbitmqConfig rabbitmqConfig;
   private final OpenAEVConfig openAEVConfig;
   private final ObjectMapper objectMapper;
+  private final MetricRegistry metricRegistry;
 
   private final PreviewFeatureService previewFeatureService;
 
@@ -109,7 +110,8 @@ public class InjectApi extends RestBehavior {
               batchExecutionTraceExecutor::handleInjectExecutionCallbackList,
               rabbitmqConfig,
               objectMapper,
-              openAEVConfig.getQueueConfig().get("inject-trace"));
+              openAEVConfig.getQueueConfig().get("inject-trace"),
+              metricRegistry);
     }
   }
 
@@ -205,15 +207,12 @@ public class InjectApi extends RestBehavior {
   private void runInjectExport(
       List<Inject> injects, int exportOptionsMask, HttpServletResponse response)
       throws IOException {
-    byte[] zippedExport = injectExportService.exportInjectsToZip(injects, exportOptionsMask);
     String zipName = injectExportService.getZipFileName(exportOptionsMask);
 
     response.addHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + zipName);
     response.addHeader(HttpHeaders.CONTENT_TYPE, "application/zip");
     response.setStatus(HttpServletResponse.SC_OK);
-    ServletOutputStream outputStream = response.getOutputStream();
-    outputStream.write(zippedExport);
-    outputStream.close();
+    injectExportService.exportInjectsToZip(injects, exportOptionsMask, response.getOutputStream());
   }
 
   /**
@@ -1,6 +1,7 @@
 package io.openaev.rest.inject.form;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -17,5 +18,5 @@ public class InjectExpectationBulkUpdateInput {
   /** Map of expectation IDs to their corresponding update inputs. */
   @NotNull
   @JsonProperty("inputs")
-  private Map<String, InjectExpectationUpdateInput> inputs;
+  private Map<String, @Valid InjectExpectationUpdateInput> inputs;
 }
@@ -0,0 +1,47 @@
+package io.openaev.rest.inject.form;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.openaev.rest.helper.queue.Queueable;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InjectExpectationCollectorUpdate implements Queueable {
+
+  @Builder.Default private String id = UUID.randomUUID().toString();
+
+  @JsonProperty("inject_expectation_id")
+  private String expectationId;
+
+  @JsonProperty("inject_id")
+  private String injectId;
+
+  @JsonProperty("inject_expectation_input")
+  private InjectExpectationUpdateInput input;
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof InjectExpectationCollectorUpdate) {
+      return id != null && id.equals(((InjectExpectationCollectorUpdate) o).getId());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(id);
+  }
+
+  @Override
+  public String getUniqueElementKey() {
+    // The updates of an inject are handled by the same worker, to be propagated together
+    return injectId;
+  }
+}
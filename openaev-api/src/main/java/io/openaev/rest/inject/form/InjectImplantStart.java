@@ -0,0 +1,48 @@
+package io.openaev.rest.inject.form;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.openaev.rest.helper.queue.Queueable;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InjectImplantStart implements Queueable {
+
+  @Builder.Default private String id = UUID.randomUUID().toString();
+
+  @JsonProperty("agent_id")
+  private String agentId;
+
+  @JsonProperty("inject_id")
+  private String injectId;
+
+  @JsonProperty("implant_start_date")
+  private Instant startDate;
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof InjectImplantStart) {
+      return id != null && id.equals(((InjectImplantStart) o).getId());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(id);
+  }
+
+  @Override
+  public String getUniqueElementKey() {
+    // The starts of an inject are handled by the same worker, to be written together
+    return injectId;
+  }
+}
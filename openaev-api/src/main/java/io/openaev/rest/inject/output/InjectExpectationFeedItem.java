@@ -0,0 +1,58 @@
+package io.openaev.rest.inject.output;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.openaev.database.model.InjectExpectation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(NON_NULL)
+@Schema(description = "Inject expectation, restricted to what a collector needs to fill it")
+public class InjectExpectationFeedItem {
+
+  @NotBlank
+  @JsonProperty("inject_expectation_id")
+  private String id;
+
+  @NotNull
+  @JsonProperty("inject_expectation_type")
+  private InjectExpectation.EXPECTATION_TYPE type;
+
+  @JsonProperty("inject_expectation_inject")
+  private String injectId;
+
+  @JsonProperty("inject_expectation_exercise")
+  private String exerciseId;
+
+  @JsonProperty("inject_expectation_agent")
+  private String agentId;
+
+  @JsonProperty("inject_expectation_asset")
+  private String assetId;
+
+  @JsonProperty("inject_expectation_asset_group")
+  private String assetGroupId;
+
+  @Schema(type = "array", description = "Signatures of the expectation, as stored")
+  @JsonRawValue
+  @JsonProperty("inject_expectation_signatures")
+  private String signatures;
+
+  @JsonProperty("inject_expiration_time")
+  private Long expirationTime;
+
+  @JsonProperty("inject_expectation_created_at")
+  private Instant createdAt;
+
+  @JsonProperty("inject_expectation_updated_at")
+  private Instant updatedAt;
+}
@@ -0,0 +1,28 @@
+package io.openaev.rest.inject.output;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Page of the inject expectations feed of the collectors")
+public class InjectExpectationFeedOutput {
+
+  @NotNull
+  @JsonProperty("data")
+  private List<InjectExpectationFeedItem> data;
+
+  @Schema(
+      description =
+          "Position after the last returned expectation, to request the next page or, once the feed is exhausted, the next changes")
+  @JsonProperty("next_cursor")
+  private String nextCursor;
+
+  @Schema(description = "Whether more expectations are immediately available after this page")
+  @JsonProperty("has_more")
+  private boolean hasMore;
+}
@@ -7,6 +7,8 @@ import io.openaev.database.repository.*;
 import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.inject.form.InjectExecutionAction;
 import io.openaev.rest.inject.form.InjectExecutionCallback;
+import io.openaev.rest.inject.form.InjectImplantStart;
+import io.openaev.service.InjectExpectationService;
 import jakarta.annotation.Resource;
 import jakarta.transaction.Transactional;
 import java.util.*;
@@ -29,6 +31,8 @@ public class BatchingInjectStatusService {
   private final AgentRepository agentRepository;
   private final StructuredOutputUtils structuredOutputUtils;
   private final InjectExecutionService injectExecutionService;
+  private final InjectStatusRepository injectStatusRepository;
+  private final InjectExpectationService injectExpectationService;
 
   @Resource protected ObjectMapper mapper;
 
@@ -147,4 +151,72 @@ public class BatchingInjectStatusService {
         });
     return successfullyProcessedCallbacks;
   }
+
+  /**
+   * Handle the list of implant starts, writing their start traces and start date signatures
+   *
+   * @param implantStarts the implant starts
+   * @return the implant starts successfully processed
+   */
+  @LogExecutionTime
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public List<InjectImplantStart> handleImplantStarts(List<InjectImplantStart> implantStarts) {
+    List<InjectImplantStart> successfullyProcessedStarts = new ArrayList<>();
+
+    // Getting all the agents all at once
+    Map<String, Agent> mapAgentsById =
+        StreamSupport.stream(
+                agentRepository
+                    .findAllById(
+                        implantStarts.stream().map(InjectImplantStart::getAgentId).toList())
+                    .spliterator(),
+                false)
+            .collect(Collectors.toMap(Agent::getId, Function.identity()));
+
+    // Each inject status is loaded and saved once for all its agents
+    Map<String, List<InjectImplantStart>> startsByInject =
+        implantStarts.stream()
+            .collect(
+                Collectors.groupingBy(
+                    InjectImplantStart::getInjectId, LinkedHashMap::new, Collectors.toList()));
+
+    startsByInject.forEach(
+        (injectId, starts) -> {
+          try {
+            InjectStatus injectStatus =
+                injectStatusRepository
+                    .findByInjectId(injectId)
+                    .orElseThrow(
+                        () -> new ElementNotFoundException("Inject status not found: " + injectId));
+            for (InjectImplantStart start : starts) {
+              Agent agent = mapAgentsById.get(start.getAgentId());
+              if (agent == null) {
+                log.warn("Agent not found for the implant start: {}", start.getAgentId());
+                continue;
+              }
+              injectStatus.addTrace(
+                  new ExecutionTrace(
+                      injectStatus,
+                      ExecutionTraceStatus.INFO,
+                      null,
+                      InjectStatusService.IMPLANT_START_MESSAGE,
+                      ExecutionTraceAction.START,
+                      agent,
+                      start.getStartDate()));
+              injectExpectationService.addStartDateSignatureToInjectExpectationsByAgent(
+                  injectId, start.getAgentId(), start.getStartDate());
+            }
+            injectStatusRepository.save(injectStatus);
+            successfullyProcessedStarts.addAll(starts);
+          } catch (ElementNotFoundException e) {
+            // The start can never be written, it is dropped
+            log.warn(e.getMessage());
+            successfullyProcessedStarts.addAll(starts);
+          } catch (Exception e) {
+            log.warn(
+                "The was a problem processing the implant starts for the inject {}", injectId, e);
+          }
+        });
+    return successfullyProcessedStarts;
+  }
 }
@@ -14,7 +14,6 @@ import io.openaev.injectors.openaev.util.OpenAEVObfuscationMap;
 import io.openaev.rest.document.DocumentService;
 import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.payload.service.PayloadService;
-import io.openaev.service.InjectExpectationService;
 import jakarta.annotation.Resource;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -35,9 +34,9 @@ public class ExecutableInjectService {
 
   private final InjectService injectService;
   private final DocumentService documentService;
-  private final InjectStatusService injectStatusService;
-  private final InjectExpectationService injectExpectationService;
   private final PayloadService payloadService;
+  private final ExecutablePayloadCache executablePayloadCache;
+  private final ImplantStartWriter implantStartWriter;
 
   @Resource protected ObjectMapper mapper;
 
@@ -200,11 +199,10 @@ public class ExecutableInjectService {
     // but it would require more changes in the implant code and change this endpoint from a get to
     // a post.
     Instant startTime = Instant.now();
-    Payload payloadToExecute = getExecutablePayloadInject(injectId);
-    this.injectStatusService.addStartImplantExecutionTraceByInject(
-        injectId, agentId, "Implant is up and starting execution", startTime);
-    this.injectExpectationService.addStartDateSignatureToInjectExpectationsByAgent(
-        injectId, agentId, startTime);
+    // The payload is the same for all the agents of the inject, it is only rendered once
+    Payload payloadToExecute =
+        executablePayloadCache.get(injectId, this::getExecutablePayloadInject);
+    this.implantStartWriter.write(injectId, agentId, startTime);
     return payloadToExecute;
   }
 
@@ -0,0 +1,101 @@
+package io.openaev.rest.inject.service;
+
+import static io.openaev.database.audit.ModelBaseListener.DATA_PERSIST;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.openaev.database.audit.BaseEvent;
+import io.openaev.database.model.*;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches the payload rendered for an inject, shared by all the implants executing it.
+ *
+ * <p>The rendering only depends on the inject (its content, obfuscator included) and on its
+ * contract payload, so an entry is dropped when its inject is updated or deleted, and the whole
+ * cache is emptied when a payload, a contract or a document changes. Entries expire after the
+ * execution window to bound the staleness of the other inputs (e.g. targeted assets).
+ *
+ * <p>Cached payloads are shared between requests and must never be modified.
+ */
+@Slf4j
+@Component
+public class ExecutablePayloadCache {
+
+  /** A rendering of a payload raising a checked exception. */
+  @FunctionalInterface
+  public interface Renderer {
+    Payload render(String injectId) throws Exception;
+  }
+
+  private final Cache<String, Payload> payloads;
+
+  public ExecutablePayloadCache(
+      @Value("${openaev.implant.payload-cache.ttl:300}") long ttlSeconds,
+      @Value("${openaev.implant.payload-cache.max-size:1000}") long maxSize) {
+    this.payloads =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maxSize)
+            .build();
+  }
+
+  /**
+   * Returns the payload of an inject, rendering it once for all the concurrent callers.
+   *
+   * @param injectId the id of the inject
+   * @param renderer the rendering of the payload, called on a cache miss
+   * @return the rendered payload
+   * @throws Exception the exception raised by the rendering
+   */
+  public Payload get(String injectId, Renderer renderer) throws Exception {
+    try {
+      return payloads.get(
+          injectId,
+          id -> {
+            try {
+              return renderer.render(id);
+            } catch (RuntimeException e) {
+              throw e;
+            } catch (Exception e) {
+              throw new CompletionException(e);
+            }
+          });
+    } catch (CompletionException e) {
+      throw (Exception) e.getCause();
+    }
+  }
+
+  /**
+   * @param injectId the id of the inject to render again on its next fetch
+   */
+  public void invalidate(String injectId) {
+    payloads.invalidate(injectId);
+  }
+
+  /** Empties the cache. */
+  public void invalidateAll() {
+    payloads.invalidateAll();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void listenDatabaseUpdate(BaseEvent event) {
+    if (DATA_PERSIST.equals(event.getType())) {
+      return;
+    }
+    Base instance = event.getInstance();
+    if (instance instanceof Inject inject) {
+      invalidate(inject.getId());
+    } else if (instance instanceof Payload
+        || instance instanceof InjectorContract
+        || instance instanceof Document) {
+      log.debug("Payload inputs changed, emptying the executable payload cache");
+      invalidateAll();
+    }
+  }
+}
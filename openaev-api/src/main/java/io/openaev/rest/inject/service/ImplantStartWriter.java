@@ -0,0 +1,96 @@
+package io.openaev.rest.inject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.config.OpenAEVConfig;
+import io.openaev.config.RabbitmqConfig;
+import io.openaev.rest.helper.queue.BatchQueueService;
+import io.openaev.rest.inject.form.InjectImplantStart;
+import io.openaev.service.InjectExpectationService;
+import io.openaev.telemetry.metric_collectors.MetricRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes the start trace and the start date signatures of the implants.
+ *
+ * <p>Implants of a same inject start all together, their starts go through the {@code
+ * implant-start} batch queue, keyed by inject so that the starts of an inject are written by the
+ * same worker, in one transaction per batch and one inject status update per inject. Without this
+ * queue configured, or if it cannot be reached, starts are written immediately.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImplantStartWriter {
+
+  public static final String QUEUE_CONFIG_KEY = "implant-start";
+
+  private final InjectStatusService injectStatusService;
+  private final InjectExpectationService injectExpectationService;
+  private final BatchingInjectStatusService batchingInjectStatusService;
+  private final RabbitmqConfig rabbitmqConfig;
+  private final OpenAEVConfig openAEVConfig;
+  private final ObjectMapper objectMapper;
+  private final MetricRegistry metricRegistry;
+
+  // For testing purpose, we add a setter
+  @Setter private BatchQueueService<InjectImplantStart> implantStartQueueService;
+
+  @PostConstruct
+  public void init() throws IOException, TimeoutException {
+    if (openAEVConfig.getQueueConfig() != null
+        && openAEVConfig.getQueueConfig().get(QUEUE_CONFIG_KEY) != null) {
+      // Initializing the queue for batching the implant starts
+      implantStartQueueService =
+          new BatchQueueService<>(
+              InjectImplantStart.class,
+              batchingInjectStatusService::handleImplantStarts,
+              rabbitmqConfig,
+              objectMapper,
+              openAEVConfig.getQueueConfig().get(QUEUE_CONFIG_KEY),
+              metricRegistry);
+    }
+  }
+
+  @PreDestroy
+  public void stop() throws IOException, TimeoutException {
+    if (implantStartQueueService != null) {
+      implantStartQueueService.stop();
+    }
+  }
+
+  /**
+   * Records the start of an implant.
+   *
+   * @param injectId the id of the executed inject
+   * @param agentId the id of the agent running the implant
+   * @param startTime the start date of the implant
+   */
+  public void write(String injectId, String agentId, Instant startTime) {
+    if (implantStartQueueService != null) {
+      try {
+        // Publishing the start into a queue for later ingestion
+        implantStartQueueService.publish(
+            InjectImplantStart.builder()
+                .injectId(injectId)
+                .agentId(agentId)
+                .startDate(startTime)
+                .build());
+        return;
+      } catch (IOException e) {
+        log.warn("Failed to queue the implant start, writing it immediately", e);
+      }
+    }
+    injectStatusService.addStartImplantExecutionTraceByInject(
+        injectId, agentId, InjectStatusService.IMPLANT_START_MESSAGE, startTime);
+    injectExpectationService.addStartDateSignatureToInjectExpectationsByAgent(
+        injectId, agentId, startTime);
+  }
+}
@@ -1,27 +1,20 @@
 package io.openaev.rest.inject.service;
 
-import static io.openaev.service.ImportService.EXPORT_ENTRY_ATTACHMENT;
 import static io.openaev.service.ImportService.EXPORT_ENTRY_EXERCISE;
 import static java.time.Instant.now;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.openaev.database.model.Document;
 import io.openaev.database.model.Inject;
-import io.openaev.database.repository.DocumentRepository;
-import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.exercise.exports.ExportOptions;
 import io.openaev.rest.inject.exports.InjectsFileExport;
 import io.openaev.service.ArticleService;
 import io.openaev.service.ChallengeService;
-import io.openaev.service.FileService;
+import io.openaev.service.ExportZipService;
 import jakarta.annotation.Resource;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Optional;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -29,10 +22,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class InjectExportService {
   @Resource protected ObjectMapper mapper;
-  @Resource private DocumentRepository documentRepository;
   @Resource private ChallengeService challengeService;
   @Resource private ArticleService articleService;
-  @Resource private FileService fileService;
+  @Resource private ExportZipService exportZipService;
 
   public String getZipFileName(int exportOptionsMask) {
     String infos =
@@ -53,6 +45,20 @@ public class InjectExportService {
   }
 
   public byte[] exportInjectsToZip(List<Inject> injects, int exportOptionsMask) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    exportInjectsToZip(injects, exportOptionsMask, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Writes the export archive of injects, with the files of their documents.
+   *
+   * @param injects the injects to export
+   * @param exportOptionsMask the {@link ExportOptions} of the export
+   * @param outputStream the stream to write the archive to, closed once the archive is complete
+   */
+  public void exportInjectsToZip(
+      List<Inject> injects, int exportOptionsMask, OutputStream outputStream) throws IOException {
     ObjectMapper objectMapper = mapper.copy();
 
     InjectsFileExport importExport =
@@ -60,41 +66,12 @@ public class InjectExportService {
                 injects, objectMapper, this.challengeService, this.articleService)
             .withOptions(exportOptionsMask);
 
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    ZipOutputStream zipExport = new ZipOutputStream(outputStream);
-    ZipEntry zipEntry = new ZipEntry("injects.json");
-    zipEntry.setComment(EXPORT_ENTRY_EXERCISE);
-    zipExport.putNextEntry(zipEntry);
-    zipExport.write(
-        importExport
-            .getObjectMapper()
-            .writerWithDefaultPrettyPrinter()
-            .writeValueAsBytes(importExport));
-    zipExport.closeEntry();
-    // Add the actual files for the documents
-    importExport.getAllDocumentIds().stream()
-        .distinct()
-        .forEach(
-            docId -> {
-              Document doc =
-                  documentRepository.findById(docId).orElseThrow(ElementNotFoundException::new);
-              Optional<InputStream> docStream = fileService.getFile(doc);
-              if (docStream.isPresent()) {
-                try {
-                  ZipEntry zipDoc = new ZipEntry(doc.getTarget());
-                  zipDoc.setComment(EXPORT_ENTRY_ATTACHMENT);
-                  byte[] data = docStream.get().readAllBytes();
-                  zipExport.putNextEntry(zipDoc);
-                  zipExport.write(data);
-                  zipExport.closeEntry();
-                } catch (IOException e) {
-                  log.error(e.getMessage(), e);
-                }
-              }
-            });
-    zipExport.finish();
-    zipExport.close();
-
-    return outputStream.toByteArray();
+    exportZipService.writeZip(
+        outputStream,
+        "injects.json",
+        EXPORT_ENTRY_EXERCISE,
+        importExport.getObjectMapper().writerWithDefaultPrettyPrinter(),
+        importExport,
+        importExport.getAllDocumentIds());
   }
 }
@@ -35,6 +35,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class InjectStatusService {
 
+  public static final String IMPLANT_START_MESSAGE = "Implant is up and starting execution";
+
   private final InjectRepository injectRepository;
   private final AgentRepository agentRepository;
   private final InjectService injectService;
@@ -4,12 +4,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.*;
 import io.openaev.database.model.*;
+import io.openaev.utils.PatternCache;
+import io.openaev.utils.TimeBoundedCharSequence;
 import jakarta.annotation.Resource;
+import java.time.Duration;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
@@ -20,6 +22,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class StructuredOutputUtils {
 
+  private static final int REGEX_FLAGS =
+      Pattern.MULTILINE | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CHARACTER_CLASS;
+  // Time allowed to find each match of a rule
+  private static final Duration REGEX_MATCH_BUDGET = Duration.ofMillis(500);
+  private static final Pattern ANSI_ESCAPE_PATTERN = Pattern.compile("\\u001b\\[[0-9;]*m");
+
   @Resource private final ObjectMapper mapper;
 
   Set<OutputParser> extractOutputParsers(Inject inject) {
@@ -45,11 +53,9 @@ public class StructuredOutputUtils {
       return Optional.empty();
     }
 
+    JsonNode rawOutputNode = readRawOutput(rawOutput);
     for (OutputParser outputParser : outputParsers) {
-      String rawOutputByMode = extractRawOutputByMode(rawOutput, outputParser.getMode());
-      if (rawOutputByMode == null) {
-        continue;
-      }
+      String rawOutputByMode = extractRawOutputByMode(rawOutputNode, outputParser.getMode());
 
       Optional<ObjectNode> parsed;
       switch (outputParser.getType()) {
@@ -67,22 +73,28 @@ public class StructuredOutputUtils {
     return result.isEmpty() ? Optional.empty() : Optional.of(result);
   }
 
-  private static String extractRawOutputByMode(String rawOutput, ParserMode mode) {
+  private JsonNode readRawOutput(String rawOutput) {
     if (rawOutput == null || rawOutput.isEmpty()) {
-      return "";
+      return null;
     }
 
     try {
-      ObjectMapper objectMapper = new ObjectMapper();
-      JsonNode rootNode = objectMapper.readTree(rawOutput);
-
-      if (mode == ParserMode.STDOUT && rootNode.has("stdout")) {
-        return rootNode.get("stdout").asText();
-      } else if (mode == ParserMode.STDERR && rootNode.has("stderr")) {
-        return rootNode.get("stderr").asText();
-      }
+      return mapper.readTree(rawOutput);
     } catch (Exception e) {
       log.log(Level.WARNING, e.getMessage(), e);
+      return null;
+    }
+  }
+
+  private static String extractRawOutputByMode(JsonNode rootNode, ParserMode mode) {
+    if (rootNode == null) {
+      return "";
+    }
+
+    if (mode == ParserMode.STDOUT && rootNode.has("stdout")) {
+      return rootNode.get("stdout").asText();
+    } else if (mode == ParserMode.STDERR && rootNode.has("stderr")) {
+      return rootNode.get("stderr").asText();
     }
 
     return "";
@@ -96,41 +108,33 @@ public class StructuredOutputUtils {
    */
   public Optional<ObjectNode> computeStructuredOutputUsingRegexRules(
       String rawOutputByMode, Set<ContractOutputElement> contractOutputElements) {
-    Map<String, Pattern> patternCache = new HashMap<>();
     ObjectNode resultRoot = mapper.createObjectNode();
+    TimeBoundedCharSequence cleanOutput =
+        new TimeBoundedCharSequence(
+            ANSI_ESCAPE_PATTERN.matcher(rawOutputByMode).replaceAll(""), REGEX_MATCH_BUDGET);
 
     for (ContractOutputElement contractOutputElement : contractOutputElements) {
-      String regex = contractOutputElement.getRule();
-      // Compile and cache regex
-      Pattern pattern =
-          patternCache.computeIfAbsent(
-              regex,
-              r -> {
-                try {
-                  return Pattern.compile(
-                      r,
-                      Pattern.MULTILINE
-                          | Pattern.CASE_INSENSITIVE
-                          | Pattern.UNICODE_CHARACTER_CLASS);
-                } catch (PatternSyntaxException e) {
-                  log.log(Level.INFO, "Invalid regex pattern: " + r, e.getMessage());
-                  return null;
-                }
-              });
-
-      if (pattern == null) {
+      Optional<Pattern> pattern =
+          PatternCache.compile(contractOutputElement.getRule(), REGEX_FLAGS);
+      if (pattern.isEmpty()) {
         continue;
       }
-      String ansiPattern = "\\u001b\\[[0-9;]*m";
-      String cleanOutput = rawOutputByMode.replaceAll(ansiPattern, "");
 
-      Matcher matcher = pattern.matcher(cleanOutput);
+      Matcher matcher = pattern.get().matcher(cleanOutput);
       ArrayNode matchesArray = mapper.createArrayNode();
 
-      while (matcher.find()) {
-        buildStructuredJsonNode(contractOutputElement, matcher)
-            .filter(structured -> contractOutputElement.getType().validate.apply(structured))
-            .ifPresent(matchesArray::add);
+      try {
+        cleanOutput.restartBudget();
+        while (matcher.find()) {
+          buildStructuredJsonNode(contractOutputElement, matcher)
+              .filter(structured -> contractOutputElement.getType().validate.apply(structured))
+              .ifPresent(matchesArray::add);
+          cleanOutput.restartBudget();
+        }
+      } catch (TimeBoundedCharSequence.RegexTimeoutException e) {
+        // Keep the matches found so far, the rule is most likely catastrophically backtracking
+        log.warning(
+            "Stopped regex rule " + contractOutputElement.getRule() + ": " + e.getMessage());
       }
       resultRoot.set(contractOutputElement.getKey(), matchesArray);
     }
@@ -62,12 +62,20 @@ public class ScenarioStatisticService {
 
   private List<ExpectationTypeAndGlobalScore> getAllGlobalScores(
       List<FinishedExerciseWithInjects> finishedExercises) {
-    return finishedExercises.stream().flatMap(this::getExpectationTypeAndGlobalScores).toList();
+    Map<String, List<ExpectationResultsByType>> globalResultsByExerciseIds =
+        resultUtils.computeGlobalExpectationResultsByExerciseIds(
+            finishedExercises.stream().map(FinishedExerciseWithInjects::id).toList());
+    return finishedExercises.stream()
+        .flatMap(
+            finishedExercise ->
+                getExpectationTypeAndGlobalScores(
+                    finishedExercise, globalResultsByExerciseIds.get(finishedExercise.id())))
+        .toList();
   }
 
   private Stream<ExpectationTypeAndGlobalScore> getExpectationTypeAndGlobalScores(
-      FinishedExerciseWithInjects finishedExercise) {
-    return resultUtils.computeGlobalExpectationResults(finishedExercise.injectIds()).stream()
+      FinishedExerciseWithInjects finishedExercise, List<ExpectationResultsByType> globalResults) {
+    return globalResults.stream()
         .map(
             expectationResultByType ->
                 getExpectationTypeAndGlobalScore(finishedExercise, expectationResultByType));
@@ -97,7 +105,9 @@ public class ScenarioStatisticService {
         .map(
             exercise ->
                 new FinishedExerciseWithInjects(
-                    exercise.getExercise_end_date(), exercise.getInject_ids()))
+                    exercise.getExercise_id(),
+                    exercise.getExercise_end_date(),
+                    exercise.getInject_ids()))
         .sorted(Collections.reverseOrder())
         .toList();
   }
@@ -138,7 +148,7 @@ public class ScenarioStatisticService {
         .reduce(0, Integer::sum);
   }
 
-  private record FinishedExerciseWithInjects(Instant endDate, Set<String> injectIds)
+  private record FinishedExerciseWithInjects(String id, Instant endDate, Set<String> injectIds)
       implements Comparable<FinishedExerciseWithInjects> {
     @Override
     public int compareTo(FinishedExerciseWithInjects exercise) {
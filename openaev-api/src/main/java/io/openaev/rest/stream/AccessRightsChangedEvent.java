@@ -0,0 +1,9 @@
+package io.openaev.rest.stream;
+
+/**
+ * Published when the access rights of users changed without any entity event, e.g. the members or
+ * the roles of a group updated through their join tables.
+ *
+ * @param groupId the id of the group whose members or roles changed
+ */
+public record AccessRightsChangedEvent(String groupId) {}
@@ -4,28 +4,24 @@ import static io.openaev.config.SessionHelper.currentUser;
 import static io.openaev.database.audit.ModelBaseListener.DATA_DELETE;
 import static java.time.Instant.now;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.openaev.aop.RBAC;
 import io.openaev.config.OpenAEVPrincipal;
 import io.openaev.database.audit.BaseEvent;
-import io.openaev.database.model.Action;
 import io.openaev.database.model.ResourceType;
-import io.openaev.database.model.User;
 import io.openaev.rest.helper.RestBehavior;
-import io.openaev.service.PermissionService;
-import io.openaev.service.UserService;
 import jakarta.transaction.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -35,10 +31,9 @@ import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
-import reactor.util.function.Tuple2;
-import reactor.util.function.Tuples;
 
 @RestController
 @Slf4j
@@ -47,24 +42,21 @@ public class StreamApi extends RestBehavior {
   public static final String EVENT_TYPE_MESSAGE = "message";
   public static final String EVENT_TYPE_PING = "ping";
   public static final String X_ACCEL_BUFFERING = "X-Accel-Buffering";
-  private final Map<String, Tuple2<OpenAEVPrincipal, FluxSink<Object>>> consumers = new HashMap<>();
 
-  private final PermissionService permissionService;
-  private final UserService userService;
+  /** A connected stream session. */
+  record StreamConsumer(OpenAEVPrincipal principal, FluxSink<Object> sink) {}
 
-  private Instant lastUpdate = Instant.now();
+  private final Map<String, StreamConsumer> consumers = new ConcurrentHashMap<>();
 
-  public StreamApi(PermissionService permissionService, UserService userService) {
-    this.permissionService = permissionService;
-    this.userService = userService;
-  }
+  private final StreamPermissionCache permissionCache;
 
-  private void sendStreamEvent(FluxSink<Object> flux, BaseEvent event) {
-    // Serialize the instance now for lazy session decoupling
-    event.setInstanceData(mapper.valueToTree(event.getInstance()));
-    ServerSentEvent<BaseEvent> message =
-        ServerSentEvent.builder(event).event(EVENT_TYPE_MESSAGE).build();
-    flux.next(message);
+  @Value("${openaev.stream.buffer-size:1000}")
+  private int bufferSize = 1000;
+
+  private Instant lastUpdate = Instant.now();
+
+  public StreamApi(StreamPermissionCache permissionCache) {
+    this.permissionCache = permissionCache;
   }
 
   private static final EnumSet<ResourceType> RESOURCES_STREAM_BLACKLIST =
@@ -83,52 +75,63 @@ public class StreamApi extends RestBehavior {
           "There are currently {} users connected to the stream. The id of the users connected : {}",
           consumers.size(),
           consumers.values().stream()
-              .map(Tuple2::getT1)
+              .map(StreamConsumer::principal)
               .map(OpenAEVPrincipal::getId)
               .collect(Collectors.joining(", ")));
 
       lastUpdate = Instant.now();
     }
+    if (consumers.isEmpty()) {
+      return;
+    }
 
-    consumers.forEach(
-        (key, tupleFlux) -> {
-          User user = userService.user(tupleFlux.getT1().getId());
-          // FIXME find a way to cache user
-          // -> close session when user se login
-
-          FluxSink<Object> fluxSink = tupleFlux.getT2();
-          if (!permissionService.hasPermission(
-              user,
-              Optional.empty(),
-              event.getInstance().getId(),
-              event.getInstance().getResourceType(),
-              Action.READ)) {
-            // If user as no visibility, we can send a "delete" userEvent with only the internal
-            // id
-            // TODO -> rethink this logic -> do we need to send DELETE events
-            try {
-              String propertyId =
-                  event
-                      .getInstance()
-                      .getClass()
-                      .getDeclaredField("id")
-                      .getAnnotation(JsonProperty.class)
-                      .value();
-              ObjectNode deleteNode = mapper.createObjectNode();
-              deleteNode.set(
-                  propertyId, mapper.convertValue(event.getInstance().getId(), JsonNode.class));
-              BaseEvent userEvent = event.clone();
-              userEvent.setInstanceData(deleteNode);
-              userEvent.setType(DATA_DELETE);
-              sendStreamEvent(fluxSink, userEvent);
-            } catch (Exception e) {
-              String simpleName = event.getInstance().getClass().getSimpleName();
-              log.warn(String.format("Class %s can't be streamed", simpleName), e);
-            }
-          } else {
-            sendStreamEvent(fluxSink, event);
-          }
-        });
+    // Serialize the instance now for lazy session decoupling, once for all the consumers
+    event.setInstanceData(mapper.valueToTree(event.getInstance()));
+    ServerSentEvent<BaseEvent> message = toMessage(event);
+    // If user as no visibility, we send a "delete" event with only the internal id
+    // TODO -> rethink this logic -> do we need to send DELETE events
+    ServerSentEvent<BaseEvent> deleteMessage = null;
+    boolean deleteMessageBuilt = false;
+
+    for (StreamConsumer consumer : consumers.values()) {
+      boolean canRead;
+      try {
+        canRead = permissionCache.canRead(consumer.principal().getId(), event.getInstance());
+      } catch (Exception e) {
+        log.warn("Stream permission check failed for user {}", consumer.principal().getId(), e);
+        continue;
+      }
+      if (canRead) {
+        consumer.sink().next(message);
+        continue;
+      }
+      if (!deleteMessageBuilt) {
+        deleteMessage = toDeleteMessage(event);
+        deleteMessageBuilt = true;
+      }
+      if (deleteMessage != null) {
+        consumer.sink().next(deleteMessage);
+      }
+    }
+  }
+
+  private ServerSentEvent<BaseEvent> toMessage(BaseEvent event) {
+    return ServerSentEvent.builder(event).event(EVENT_TYPE_MESSAGE).build();
+  }
+
+  private ServerSentEvent<BaseEvent> toDeleteMessage(BaseEvent event) {
+    String propertyId = event.getAttributeId();
+    if (propertyId == null) {
+      String simpleName = event.getInstance().getClass().getSimpleName();
+      log.warn(String.format("Class %s can't be streamed", simpleName));
+      return null;
+    }
+    ObjectNode deleteNode = mapper.createObjectNode();
+    deleteNode.set(propertyId, mapper.convertValue(event.getInstance().getId(), JsonNode.class));
+    BaseEvent userEvent = event.clone();
+    userEvent.setInstanceData(deleteNode);
+    userEvent.setType(DATA_DELETE);
+    return toMessage(userEvent);
   }
 
   /** Create a flux for current user & session */
@@ -136,11 +139,26 @@ public class StreamApi extends RestBehavior {
   @RBAC(skipRBAC = true) // TODO RBAC check must be done manually for every event in this method
   public ResponseEntity<Flux<Object>> streamFlux() {
     String sessionId = RequestContextHolder.currentRequestAttributes().getSessionId();
-    // Build the database event flux.
+    OpenAEVPrincipal principal = currentUser();
+    AtomicLong overflows = new AtomicLong();
+    // Build the database event flux, bounded so that a slow client cannot exhaust the memory
     Flux<Object> dataFlux =
         Flux.create(
                 fluxSinkConsumer ->
-                    consumers.put(sessionId, Tuples.of(currentUser(), fluxSinkConsumer)))
+                    consumers.put(sessionId, new StreamConsumer(principal, fluxSinkConsumer)))
+            .onBackpressureBuffer(
+                bufferSize,
+                dropped -> {
+                  long count = overflows.incrementAndGet();
+                  if (count == 1 || count % bufferSize == 0) {
+                    log.warn(
+                        "Stream buffer full for user {} (session {}), {} events dropped so far",
+                        principal.getId(),
+                        sessionId,
+                        count);
+                  }
+                },
+                BufferOverflowStrategy.DROP_OLDEST)
             .doAfterTerminate(() -> consumers.remove(sessionId));
     // Build the health check flux.
     Flux<Object> ping =
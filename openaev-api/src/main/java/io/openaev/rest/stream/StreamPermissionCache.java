@@ -0,0 +1,91 @@
+package io.openaev.rest.stream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.openaev.database.audit.BaseEvent;
+import io.openaev.database.model.*;
+import io.openaev.service.PermissionService;
+import io.openaev.service.UserService;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches the users connected to the stream and their read permission decisions.
+ *
+ * <p>Every entity event is checked against every connected user, so both the user lookup and the
+ * permission computation are cached. Any change on users, groups, roles, grants or organizations
+ * may change a decision and empties the whole cache, as well as the membership and role changes
+ * published as {@link AccessRightsChangedEvent}. Entries also expire after a short time to catch
+ * the changes not covered by these events (e.g. an inject moved to another simulation).
+ */
+@Component
+@Slf4j
+public class StreamPermissionCache {
+
+  private static final Duration USER_TTL = Duration.ofMinutes(1);
+  private static final Duration DECISION_TTL = Duration.ofMinutes(5);
+  private static final long MAX_USERS = 10_000;
+  private static final long MAX_DECISIONS = 200_000;
+
+  private record DecisionKey(String userId, String resourceId, ResourceType resourceType) {}
+
+  private final PermissionService permissionService;
+  private final UserService userService;
+
+  private final Cache<String, User> users =
+      Caffeine.newBuilder().expireAfterWrite(USER_TTL).maximumSize(MAX_USERS).build();
+  private final Cache<DecisionKey, Boolean> decisions =
+      Caffeine.newBuilder().expireAfterWrite(DECISION_TTL).maximumSize(MAX_DECISIONS).build();
+
+  public StreamPermissionCache(PermissionService permissionService, UserService userService) {
+    this.permissionService = permissionService;
+    this.userService = userService;
+  }
+
+  /**
+   * @param userId the id of the connected user
+   * @param instance the entity of the event
+   * @return whether the user can read the entity
+   */
+  public boolean canRead(String userId, Base instance) {
+    DecisionKey key = new DecisionKey(userId, instance.getId(), instance.getResourceType());
+    return decisions.get(
+        key,
+        k ->
+            permissionService.hasPermission(
+                users.get(userId, userService::user),
+                Optional.empty(),
+                k.resourceId(),
+                k.resourceType(),
+                Action.READ));
+  }
+
+  /** Empties the cache. */
+  public void invalidateAll() {
+    users.invalidateAll();
+    decisions.invalidateAll();
+  }
+
+  @TransactionalEventListener
+  public void listenDatabaseUpdate(BaseEvent event) {
+    Base instance = event.getInstance();
+    if (instance instanceof User
+        || instance instanceof Group
+        || instance instanceof Role
+        || instance instanceof Grant
+        || instance instanceof Organization) {
+      log.debug("Access rights changed, emptying the stream permission cache");
+      invalidateAll();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void listenAccessRightsChange(AccessRightsChangedEvent event) {
+    log.debug(
+        "Access rights of group {} changed, emptying the stream permission cache", event.groupId());
+    invalidateAll();
+  }
+}
@@ -1,9 +1,9 @@
 package io.openaev.rest.vulnerability.service;
 
-import static io.openaev.helper.StreamHelper.fromIterable;
 import static io.openaev.utils.pagination.PaginationUtils.buildPaginationJPA;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.openaev.config.cache.LicenseCacheManager;
 import io.openaev.database.model.*;
@@ -27,7 +27,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -35,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class VulnerabilityService {
 
   private static final String VULNERABILITY_NOT_FOUND_MSG = "Vulnerability not found with id: ";
+  static final int BULK_UPSERT_CHUNK_SIZE = 1000;
 
   private final CollectorService collectorService;
   private final Ee eeService;
@@ -42,6 +43,7 @@ public class VulnerabilityService {
   private final VulnerabilityRepository vulnerabilityRepository;
   private final CweRepository cweRepository;
   private final LicenseCacheManager licenseCacheManager;
+  private final TransactionTemplate transactionTemplate;
 
   @Resource protected ObjectMapper mapper;
 
@@ -55,34 +57,67 @@ public class VulnerabilityService {
     return vulnerabilityRepository.save(vulnerability);
   }
 
-  private List<Vulnerability> batchUpsertVulnerabilities(
-      List<VulnerabilityCreateInput> vulnerabilityInput) {
-    // Extract external IDs
-    Set<String> externalIds =
-        vulnerabilityInput.stream()
-            .map(VulnerabilityCreateInput::getExternalId)
-            .collect(Collectors.toSet());
-
-    // Batch fetch existing vulnerabilities
-    Map<String, Vulnerability> existingVulnerabilitiesMap =
-        getVulnerabilitiesByExternalIds(externalIds).stream()
-            .collect(Collectors.toMap(Vulnerability::getExternalId, Function.identity()));
+  /**
+   * Upsert the vulnerabilities by chunks, each chunk committed on its own through set-based
+   * statements: the vulnerabilities are matched on their external id, and their reference urls and
+   * CWEs replaced by the given ones. Replaying the same vulnerabilities gives the same result.
+   *
+   * @return the number of upserted vulnerabilities
+   */
+  private int batchUpsertVulnerabilities(List<VulnerabilityCreateInput> vulnerabilityInput) {
+    // As with successive upserts, the last input of an external id wins
+    Map<String, VulnerabilityCreateInput> inputsByExternalId = new LinkedHashMap<>();
+    vulnerabilityInput.forEach(input -> inputsByExternalId.put(input.getExternalId(), input));
+    List<VulnerabilityCreateInput> inputs = new ArrayList<>(inputsByExternalId.values());
 
-    // Process with pre-fetched data
-    List<Vulnerability> vulnerabilities =
-        vulnerabilityInput.stream()
-            .map(
-                cveInput -> {
-                  Vulnerability vulnerability =
-                      existingVulnerabilitiesMap.getOrDefault(
-                          cveInput.getExternalId(), new Vulnerability());
-                  vulnerability.setUpdateAttributes(cveInput);
-                  updateCweAssociations(vulnerability, cveInput.getCwes());
-                  return vulnerability;
-                })
-            .toList();
+    for (int start = 0; start < inputs.size(); start += BULK_UPSERT_CHUNK_SIZE) {
+      String vulnerabilities =
+          toBulkUpsertJson(
+              inputs.subList(start, Math.min(start + BULK_UPSERT_CHUNK_SIZE, inputs.size())));
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            vulnerabilityRepository.bulkInsertMissingCwes(vulnerabilities);
+            vulnerabilityRepository.bulkUpsert(vulnerabilities);
+            vulnerabilityRepository.bulkMergeReferenceUrls(vulnerabilities);
+            vulnerabilityRepository.bulkMergeCwes(vulnerabilities);
+          });
+    }
+    return inputs.size();
+  }
 
-    return fromIterable(vulnerabilityRepository.saveAll(vulnerabilities));
+  private String toBulkUpsertJson(List<VulnerabilityCreateInput> inputs) {
+    ArrayNode vulnerabilities = mapper.createArrayNode();
+    for (VulnerabilityCreateInput input : inputs) {
+      ObjectNode vulnerability = vulnerabilities.addObject();
+      vulnerability.put("vulnerability_external_id", input.getExternalId());
+      vulnerability.put("vulnerability_source_identifier", input.getSourceIdentifier());
+      vulnerability.put("vulnerability_published", Objects.toString(input.getPublished(), null));
+      vulnerability.put("vulnerability_description", input.getDescription());
+      vulnerability.put(
+          "vulnerability_vuln_status",
+          input.getVulnStatus() != null ? input.getVulnStatus().name() : null);
+      vulnerability.put("vulnerability_cvss_v31", input.getCvssV31());
+      vulnerability.put(
+          "vulnerability_cisa_exploit_add", Objects.toString(input.getCisaExploitAdd(), null));
+      vulnerability.put(
+          "vulnerability_cisa_action_due", Objects.toString(input.getCisaActionDue(), null));
+      vulnerability.put("vulnerability_cisa_required_action", input.getCisaRequiredAction());
+      vulnerability.put("vulnerability_cisa_vulnerability_name", input.getCisaVulnerabilityName());
+      vulnerability.put("vulnerability_remediation", input.getRemediation());
+      ArrayNode referenceUrls = vulnerability.putArray("vulnerability_reference_urls");
+      Optional.ofNullable(input.getReferenceUrls())
+          .ifPresent(urls -> urls.forEach(referenceUrls::add));
+      ArrayNode cwes = vulnerability.putArray("vulnerability_cwes");
+      Optional.ofNullable(input.getCwes())
+          .ifPresent(
+              cweInputs ->
+                  cweInputs.forEach(
+                      cweInput ->
+                          cwes.addObject()
+                              .put("cwe_external_id", cweInput.getExternalId())
+                              .put("cwe_source", cweInput.getSource())));
+    }
+    return vulnerabilities.toString();
   }
 
   private void updateCollectorStateFromVulnerabilityBulkInsertInput(
@@ -95,17 +130,24 @@ public class VulnerabilityService {
     this.collectorService.updateCollectorState(collector, collectorNewState);
   }
 
-  @Transactional(rollbackFor = Exception.class)
+  /**
+   * Upsert the vulnerabilities sent by a collector, then save its state. The state is only saved
+   * once all the vulnerabilities are committed: if the upsert fails midway, the collector sends the
+   * same vulnerabilities again from its previous state, and the chunks already committed are
+   * upserted again to the same values.
+   *
+   * <p>The native upserts publish no entity event: the vulnerabilities are not sent to the stream
+   * and no event listener handles them or their CWEs.
+   */
   public void bulkUpsertVulnerabilities(@NotNull VulnerabilityBulkInsertInput inputs) {
     Collector collector = this.collectorService.collector(inputs.getSourceIdentifier());
 
-    List<Vulnerability> vulnerabilities =
-        this.batchUpsertVulnerabilities(inputs.getVulnerabilities());
+    int vulnerabilityCount = this.batchUpsertVulnerabilities(inputs.getVulnerabilities());
     this.updateCollectorStateFromVulnerabilityBulkInsertInput(collector, inputs);
 
     log.info(
         "Bulk upsert {} vulnerabilities with last modified date fetched: {}",
-        vulnerabilities.size(),
+        vulnerabilityCount,
         inputs.getLastModifiedDateFetched());
   }
 
@@ -7,17 +7,20 @@ import io.openaev.scheduler.jobs.*;
 import io.openaev.scheduler.jobs.user_event.UserEventRetentionJob;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
+import org.quartz.JobKey;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PlatformJobDefinitions {
 
+  public static final JobKey INJECTS_EXECUTION_JOB_KEY = jobKey("InjectsExecutionJob");
+
   @Bean
   public JobDetail getInjectsExecution() {
     return JobBuilder.newJob(InjectsExecutionJob.class)
         .storeDurably()
-        .withIdentity(jobKey("InjectsExecutionJob"))
+        .withIdentity(INJECTS_EXECUTION_JOB_KEY)
         .build();
   }
 
@@ -0,0 +1,88 @@
+package io.openaev.scheduler.dispatcher;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * In-memory priority queue of upcoming inject fire dates.
+ *
+ * <p>Each entry is identified by an opaque key (inject id, simulation id, ...) and only keeps its
+ * latest fire date: rescheduling a key supersedes the previous entry, which is then lazily
+ * discarded when it reaches the head of the queue. All operations are thread safe.
+ */
+public class InjectDispatchQueue {
+
+  private record Entry(String key, Instant fireAt) {}
+
+  private final PriorityQueue<Entry> queue =
+      new PriorityQueue<>(Comparator.comparing(Entry::fireAt));
+  private final Map<String, Instant> fireDates = new HashMap<>();
+
+  /**
+   * Schedules (or reschedules) a key at the given date.
+   *
+   * @param key the key to schedule
+   * @param fireAt the date at which the key must be dispatched
+   */
+  public synchronized void schedule(String key, Instant fireAt) {
+    Instant previous = fireDates.put(key, fireAt);
+    if (!fireAt.equals(previous)) {
+      queue.add(new Entry(key, fireAt));
+    }
+  }
+
+  /**
+   * Removes a key from the schedule, if present.
+   *
+   * @param key the key to cancel
+   */
+  public synchronized void cancel(String key) {
+    fireDates.remove(key);
+  }
+
+  /**
+   * Replaces the whole schedule with the given fire dates.
+   *
+   * @param schedule the fire dates indexed by key
+   */
+  public synchronized void reset(Map<String, Instant> schedule) {
+    queue.clear();
+    fireDates.clear();
+    schedule.forEach(this::schedule);
+  }
+
+  /**
+   * Removes and returns every key whose fire date is before or equal to the given date.
+   *
+   * @param now the reference date
+   * @return the due keys, ordered by fire date
+   */
+  public synchronized List<String> pollDue(Instant now) {
+    List<String> due = new ArrayList<>();
+    while (!queue.isEmpty() && !queue.peek().fireAt().isAfter(now)) {
+      Entry entry = queue.poll();
+      if (entry.fireAt().equals(fireDates.get(entry.key()))) {
+        fireDates.remove(entry.key());
+        due.add(entry.key());
+      }
+    }
+    return due;
+  }
+
+  /**
+   * @return the closest fire date still scheduled, if any
+   */
+  public synchronized Optional<Instant> nextFireDate() {
+    while (!queue.isEmpty() && !queue.peek().fireAt().equals(fireDates.get(queue.peek().key()))) {
+      queue.poll();
+    }
+    return Optional.ofNullable(queue.peek()).map(Entry::fireAt);
+  }
+
+  /**
+   * @return the number of keys currently scheduled
+   */
+  public synchronized int size() {
+    return fireDates.size();
+  }
+}
@@ -0,0 +1,202 @@
+package io.openaev.scheduler.dispatcher;
+
+import static io.openaev.database.audit.ModelBaseListener.DATA_DELETE;
+import static io.openaev.scheduler.PlatformJobDefinitions.INJECTS_EXECUTION_JOB_KEY;
+
+import io.openaev.database.audit.BaseEvent;
+import io.openaev.database.model.ExecutionStatus;
+import io.openaev.database.model.Exercise;
+import io.openaev.database.model.ExerciseStatus;
+import io.openaev.database.model.Inject;
+import io.openaev.database.repository.ExerciseRepository;
+import io.openaev.helper.InjectHelper;
+import io.openaev.scheduler.jobs.InjectsExecutionJob;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fires the inject execution job as soon as an inject is due.
+ *
+ * <p>The dispatcher keeps the expected execution date of every pending inject (and the start date
+ * of every scheduled simulation) in memory. It is seeded from the database at startup, kept current
+ * by the entity lifecycle events and periodically reconciled with the database. Every second, due
+ * entries trigger an immediate run of the {@link InjectsExecutionJob}, whose clock-aligned runs
+ * then only sweep the injects as a low-frequency safety net.
+ */
+@Component
+@Profile("!test")
+@ConditionalOnProperty(
+    name = "inject.dispatcher.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InjectDispatcher {
+
+  private static final Duration TICK = Duration.ofSeconds(1);
+  private static final Duration TRIGGER_RETRY_DELAY = Duration.ofSeconds(10);
+
+  @Value("${inject.dispatcher.reconciliation.minutes:5}")
+  private int reconciliationMinutes;
+
+  private final InjectHelper injectHelper;
+  private final ExerciseRepository exerciseRepository;
+  private final Scheduler scheduler;
+  private final ThreadPoolTaskScheduler taskScheduler;
+
+  private final InjectDispatchQueue queue = new InjectDispatchQueue();
+  // Last known state of each simulation, to only reload its injects when it actually changed
+  private final Map<String, String> exerciseStates = new ConcurrentHashMap<>();
+  private final List<ScheduledFuture<?>> timers = new ArrayList<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    reconcile();
+    Duration reconciliation = Duration.ofMinutes(reconciliationMinutes);
+    timers.add(taskScheduler.scheduleAtFixedRate(this::dispatchDueInjects, TICK));
+    timers.add(
+        taskScheduler.scheduleWithFixedDelay(
+            this::reconcile, Instant.now().plus(reconciliation), reconciliation));
+  }
+
+  @PreDestroy
+  public void stop() {
+    timers.forEach(timer -> timer.cancel(false));
+    timers.clear();
+  }
+
+  /**
+   * Asks for an inject execution run at the given date.
+   *
+   * @param key the inject (or simulation) id
+   * @param fireAt the date at which the run must happen
+   */
+  public void schedule(String key, Instant fireAt) {
+    queue.schedule(key, fireAt);
+  }
+
+  /** Rebuilds the whole schedule from the database. */
+  public void reconcile() {
+    try {
+      Map<String, Instant> schedule = new HashMap<>(injectHelper.getPendingInjectDates(null));
+      exerciseRepository
+          .findAllScheduled()
+          .forEach(
+              exercise ->
+                  exercise.getStart().ifPresent(start -> schedule.put(exercise.getId(), start)));
+      queue.reset(schedule);
+      log.debug("Inject dispatcher reconciled with {} scheduled entries", queue.size());
+    } catch (Exception e) {
+      log.error("Inject dispatcher reconciliation failed: {}", e.getMessage(), e);
+    }
+  }
+
+  @TransactionalEventListener
+  public void listenDatabaseUpdate(BaseEvent event) {
+    try {
+      if (event.getInstance() instanceof Inject inject) {
+        onInjectChange(event.getType(), inject);
+      } else if (event.getInstance() instanceof Exercise exercise) {
+        onExerciseChange(event.getType(), exercise);
+      }
+    } catch (Exception e) {
+      // The reconciliation will catch up, never fail the caller for this
+      log.warn("Inject dispatcher failed to handle event: {}", e.getMessage(), e);
+    }
+  }
+
+  private void onInjectChange(String type, Inject inject) {
+    if (DATA_DELETE.equals(type) || !isWaitingForExecution(inject)) {
+      queue.cancel(inject.getId());
+      return;
+    }
+    inject
+        .getDate()
+        .ifPresentOrElse(
+            date -> queue.schedule(inject.getId(), date), () -> queue.cancel(inject.getId()));
+  }
+
+  private boolean isWaitingForExecution(Inject inject) {
+    if (!inject.isEnabled()) {
+      return false;
+    }
+    if (inject.isAtomicTesting()) {
+      return inject
+          .getStatus()
+          .map(status -> ExecutionStatus.QUEUING.equals(status.getName()))
+          .orElse(false);
+    }
+    return inject.getExercise() != null && inject.isNotExecuted();
+  }
+
+  private void onExerciseChange(String type, Exercise exercise) {
+    String exerciseId = exercise.getId();
+    if (DATA_DELETE.equals(type)) {
+      exerciseStates.remove(exerciseId);
+      queue.cancel(exerciseId);
+      return;
+    }
+    String state = exercise.getStatus() + "@" + exercise.getStart().orElse(null);
+    if (state.equals(exerciseStates.put(exerciseId, state))) {
+      return;
+    }
+    if (ExerciseStatus.SCHEDULED.equals(exercise.getStatus()) && exercise.getStart().isPresent()) {
+      queue.schedule(exerciseId, exercise.getStart().get());
+      return;
+    }
+    queue.cancel(exerciseId);
+    if (ExerciseStatus.RUNNING.equals(exercise.getStatus())) {
+      // Inject dates depend on the simulation start and pauses, reload them outside the caller
+      taskScheduler.execute(
+          () -> injectHelper.getPendingInjectDates(exerciseId).forEach(queue::schedule));
+    }
+  }
+
+  private void dispatchDueInjects() {
+    Instant now = Instant.now();
+    List<String> due = queue.pollDue(now);
+    if (due.isEmpty()) {
+      return;
+    }
+    try {
+      if (isInjectsExecutionRunning()) {
+        // The running execution may have missed these injects, retry on next tick
+        due.forEach(key -> queue.schedule(key, now));
+        return;
+      }
+      log.debug("Inject dispatcher triggering execution for {} due entries", due.size());
+      scheduler.triggerJob(
+          INJECTS_EXECUTION_JOB_KEY, new JobDataMap(Map.of(InjectsExecutionJob.DISPATCHED, true)));
+    } catch (SchedulerException e) {
+      log.error("Inject dispatcher failed to trigger execution: {}", e.getMessage(), e);
+      due.forEach(key -> queue.schedule(key, now.plus(TRIGGER_RETRY_DELAY)));
+    }
+  }
+
+  private boolean isInjectsExecutionRunning() throws SchedulerException {
+    for (JobExecutionContext context : scheduler.getCurrentlyExecutingJobs()) {
+      if (INJECTS_EXECUTION_JOB_KEY.equals(context.getJobDetail().getKey())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,66 @@
+package io.openaev.scheduler.jobs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.openaev.database.model.InjectDependencyConditions;
+import java.util.List;
+import java.util.Map;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates the inject dependency conditions against the state of the parent injects.
+ *
+ * <p>A condition is compiled into a SpEL expression reading each of its keys from the state map.
+ * Compiled expressions are cached by condition content, so a condition shared by many injects or
+ * checked on every execution attempt is only parsed once.
+ */
+@Component
+public class InjectDependencyConditionEvaluator {
+
+  private static final long MAX_EXPRESSIONS = 10_000;
+
+  private final ExpressionParser parser = new SpelExpressionParser();
+  private final Cache<String, Expression> expressions =
+      Caffeine.newBuilder().maximumSize(MAX_EXPRESSIONS).build();
+
+  /**
+   * @param condition the dependency condition
+   * @param state whether each expectation (or the execution) of the parents is met
+   * @return whether the condition is met
+   * @throws org.springframework.expression.ParseException if the condition cannot be compiled
+   * @throws org.springframework.expression.EvaluationException if the condition cannot be evaluated
+   */
+  public boolean evaluate(
+      InjectDependencyConditions.InjectDependencyCondition condition, Map<String, Boolean> state) {
+    EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+    return Boolean.TRUE.equals(compile(condition).getValue(context, state, Boolean.class));
+  }
+
+  /**
+   * @param condition the dependency condition
+   * @return the compiled condition, reading its keys from the evaluated map
+   */
+  public Expression compile(InjectDependencyConditions.InjectDependencyCondition condition) {
+    return expressions.get(condition.toString(), content -> parse(condition));
+  }
+
+  private Expression parse(InjectDependencyConditions.InjectDependencyCondition condition) {
+    String expressionToEvaluate = condition.toString();
+    List<String> conditions =
+        condition.getConditions().stream()
+            .map(InjectDependencyConditions.Condition::toString)
+            .toList();
+    for (String element : conditions) {
+      expressionToEvaluate =
+          expressionToEvaluate.replaceAll(
+              element.split("==")[0].trim(),
+              String.format("#this['%s']", element.split("==")[0].trim()));
+    }
+    return parser.parseExpression(expressionToEvaluate);
+  }
+}
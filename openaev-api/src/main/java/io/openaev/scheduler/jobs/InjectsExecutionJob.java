@@ -20,6 +20,7 @@ import io.openaev.notification.model.NotificationEventType;
 import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.inject.service.InjectService;
 import io.openaev.rest.inject.service.InjectStatusService;
+import io.openaev.scheduler.dispatcher.InjectDispatcher;
 import io.openaev.scheduler.jobs.exception.ErrorMessagesPreExecutionException;
 import io.openaev.service.NotificationEventService;
 import io.openaev.service.SecurityCoverageSendJobService;
@@ -27,9 +28,13 @@ import io.openaev.telemetry.metric_collectors.ActionMetricCollector;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Resource;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -41,14 +46,10 @@ import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.env.Environment;
-import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
-import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.SpelParseException;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -58,10 +59,13 @@ import org.springframework.stereotype.Component;
 public class InjectsExecutionJob implements Job {
 
   public static final String DEFAULT_EXECUTION_THRESHOLD_TIME_IN_MINUTES = "10";
+  // Set on the runs requested by the inject dispatcher
+  public static final String DISPATCHED = "dispatched";
   private static final long delayForSimulationCompletedEvent = 3600L;
 
   private final Environment env;
   private int injectExecutionThreshold;
+  private int injectReconciliationMinutes;
 
   private final InjectHelper injectHelper;
   private final InjectService injectService;
@@ -73,6 +77,8 @@ public class InjectsExecutionJob implements Job {
   private final ActionMetricCollector actionMetricCollector;
   private final NotificationEventService notificationEventService;
   private final SecurityCoverageSendJobService securityCoverageSendJobService;
+  private final ObjectProvider<InjectDispatcher> injectDispatcher;
+  private final InjectDependencyConditionEvaluator conditionEvaluator;
 
   private final List<ExecutionStatus> executionStatusesNotReady =
       List.of(
@@ -86,6 +92,26 @@ public class InjectsExecutionJob implements Job {
 
   @Resource protected ObjectMapper mapper;
 
+  /**
+   * The parents of a batch of injects and the expectations of these parents, loaded at once for the
+   * whole batch.
+   *
+   * @param parentsByChild the dependencies of each inject, by inject id
+   * @param expectationsByParent the expectations of each parent, by parent inject id
+   */
+  private record DependencyContext(
+      Map<String, List<InjectDependency>> parentsByChild,
+      Map<String, List<InjectExpectation>> expectationsByParent) {
+
+    private List<InjectDependency> parentsOf(String injectId) {
+      return parentsByChild.getOrDefault(injectId, List.of());
+    }
+
+    private List<InjectExpectation> expectationsOf(String parentId) {
+      return expectationsByParent.getOrDefault(parentId, List.of());
+    }
+  }
+
   @PostConstruct
   private void init() {
     String threshold = env.getProperty("inject.execution.threshold.minutes");
@@ -93,6 +119,8 @@ public class InjectsExecutionJob implements Job {
       threshold = DEFAULT_EXECUTION_THRESHOLD_TIME_IN_MINUTES;
     }
     this.injectExecutionThreshold = Integer.parseInt(threshold);
+    this.injectReconciliationMinutes =
+        env.getProperty("inject.dispatcher.reconciliation.minutes", Integer.class, 5);
   }
 
   public void handleAutoStartExercises() {
@@ -174,12 +202,13 @@ public class InjectsExecutionJob implements Job {
     injectStatusService.saveAll(updatedStatuses);
   }
 
-  private void executeInject(ExecutableInject executableInject) throws Exception {
+  private void executeInject(ExecutableInject executableInject, DependencyContext dependencies)
+      throws Exception {
     // Depending on injector type (internal or external) execution must be done differently
     Inject inject = executableInject.getInjection().getInject();
     // We are now checking if we depend on another inject and if it did not failed
     if (ofNullable(executableInject.getExerciseId()).isPresent()) {
-      checkErrorMessagesPreExecution(executableInject.getExerciseId(), inject);
+      checkErrorMessagesPreExecution(executableInject.getExerciseId(), inject, dependencies);
     }
     if (!inject.isReady()) {
       throw new UnsupportedOperationException(
@@ -200,6 +229,16 @@ public class InjectsExecutionJob implements Job {
       throws ErrorMessagesPreExecutionException {
     List<InjectDependency> injectDependencies =
         injectDependenciesRepository.findParents(List.of(inject.getId()));
+    checkErrorMessagesPreExecution(
+        exerciseId,
+        inject,
+        loadDependencyContext(Map.of(inject.getId(), injectDependencies), Set.of(exerciseId)));
+  }
+
+  private void checkErrorMessagesPreExecution(
+      String exerciseId, Inject inject, DependencyContext dependencies)
+      throws ErrorMessagesPreExecutionException {
+    List<InjectDependency> injectDependencies = dependencies.parentsOf(inject.getId());
     if (!injectDependencies.isEmpty()) {
       List<Inject> parents =
           injectDependencies.stream()
@@ -207,7 +246,7 @@ public class InjectsExecutionJob implements Job {
               .toList();
 
       Map<String, Boolean> mapCondition =
-          getStringBooleanMap(parents, exerciseId, injectDependencies);
+          getStringBooleanMap(parents, injectDependencies, dependencies);
 
       List<String> errorMessages = new ArrayList<>();
 
@@ -239,25 +278,10 @@ public class InjectsExecutionJob implements Job {
 
         if (injectDependency.getInjectDependencyCondition().getConditions().stream()
             .allMatch(condition -> availableKeys.contains(condition.getKey().toLowerCase()))) {
-          String expressionToEvaluate = injectDependency.getInjectDependencyCondition().toString();
-          List<String> conditions =
-              injectDependency.getInjectDependencyCondition().getConditions().stream()
-                  .map(InjectDependencyConditions.Condition::toString)
-                  .toList();
-          for (String condition : conditions) {
-            expressionToEvaluate =
-                expressionToEvaluate.replaceAll(
-                    condition.split("==")[0].trim(),
-                    String.format("#this['%s']", condition.split("==")[0].trim()));
-          }
-
-          ExpressionParser parser = new SpelExpressionParser();
-
-          EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
           try {
-            Expression exp = parser.parseExpression(expressionToEvaluate);
             boolean canBeExecuted =
-                Boolean.TRUE.equals(exp.getValue(context, mapCondition, Boolean.class));
+                conditionEvaluator.evaluate(
+                    injectDependency.getInjectDependencyCondition(), mapCondition);
             if (!canBeExecuted) {
               if (errorMessages.isEmpty()) {
                 errorMessages.add(
@@ -285,16 +309,74 @@ public class InjectsExecutionJob implements Job {
     }
   }
 
+  /**
+   * Load the parents of the given injects and the expectations of these parents
+   *
+   * @param parentsByChild the dependencies of each inject, by inject id
+   * @param exerciseIds the ids of the exercises of the injects
+   * @return the dependencies of the injects
+   */
+  private DependencyContext loadDependencyContext(
+      Map<String, List<InjectDependency>> parentsByChild, Set<String> exerciseIds) {
+    Set<String> parentIds =
+        parentsByChild.values().stream()
+            .flatMap(List::stream)
+            .map(injectDependency -> injectDependency.getCompositeId().getInjectParent().getId())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    if (parentIds.isEmpty()) {
+      return new DependencyContext(parentsByChild, Map.of());
+    }
+    Map<String, List<InjectExpectation>> expectationsByParent =
+        injectExpectationRepository.findAllForExercisesAndInjects(exerciseIds, parentIds).stream()
+            .collect(groupingBy(injectExpectation -> injectExpectation.getInject().getId()));
+    return new DependencyContext(parentsByChild, expectationsByParent);
+  }
+
+  /**
+   * Load the parents of a batch of injects and their expectations, in two queries
+   *
+   * @param injects the injects of the batch
+   * @return the dependencies of the injects of the batch
+   */
+  private DependencyContext loadDependencyContext(Collection<ExecutableInject> injects) {
+    List<ExecutableInject> simulationInjects =
+        injects.stream()
+            .filter(executableInject -> executableInject.getExerciseId() != null)
+            .toList();
+    if (simulationInjects.isEmpty()) {
+      return new DependencyContext(Map.of(), Map.of());
+    }
+    Map<String, List<InjectDependency>> parentsByChild =
+        injectDependenciesRepository
+            .findParents(
+                simulationInjects.stream()
+                    .map(executableInject -> executableInject.getInjection().getInject().getId())
+                    .toList())
+            .stream()
+            .collect(
+                groupingBy(
+                    injectDependency ->
+                        injectDependency.getCompositeId().getInjectChildren().getId()));
+    return loadDependencyContext(
+        parentsByChild,
+        simulationInjects.stream()
+            .map(ExecutableInject::getExerciseId)
+            .collect(Collectors.toSet()));
+  }
+
   /**
    * Get a map containing the expectations and if they are met or not
    *
    * @param parents the parents injects
-   * @param exerciseId the id of the exercise
    * @param injectDependencies the list of dependencies
+   * @param dependencies the preloaded expectations of the parents
    * @return a map of expectations and their value
    */
   private @NotNull Map<String, Boolean> getStringBooleanMap(
-      List<Inject> parents, String exerciseId, List<InjectDependency> injectDependencies) {
+      List<Inject> parents,
+      List<InjectDependency> injectDependencies,
+      DependencyContext dependencies) {
     Map<String, Boolean> mapCondition =
         injectDependencies.stream()
             .flatMap(
@@ -311,8 +393,7 @@ public class InjectsExecutionJob implements Job {
                   && !ExecutionStatus.ERROR.equals(parent.getStatus().get().getName())
                   && !executionStatusesNotReady.contains(parent.getStatus().get().getName()));
 
-          List<InjectExpectation> expectations =
-              injectExpectationRepository.findAllForExerciseAndInject(exerciseId, parent.getId());
+          List<InjectExpectation> expectations = dependencies.expectationsOf(parent.getId());
           expectations.forEach(
               injectExpectation -> {
                 String name =
@@ -360,64 +441,10 @@ public class InjectsExecutionJob implements Job {
     try {
       // Handle starting exercises if needed.
       handleAutoStartExercises();
-      // Get all injects to execute grouped by exercise.
-      List<ExecutableInject> injects = injectHelper.getInjectsToRun();
-
-      // We're grouping the injects to run by exercises but also making sure no injects
-      // run in the same batch as it's parents
-      Map<String, List<ExecutableInject>> byExercises =
-          injects.stream()
-              .filter(
-                  executableInject ->
-                      // If we got dependencies, we check that the parents are not part of the
-                      // current batch of injects running. If so, we're filtering them out and
-                      // they'll be part of the next batch of launched injects. Do note that this is
-                      // an edge case as it's not allowed to add a dependency less than a minute
-                      // after a parent but can happen if the platform was restarted after some time
-                      // out. It'll then start the injects that were not started because the
-                      // platform was down.
-                      executableInject.getInjection().getInject().getDependsOn() == null
-                          || !intersect(
-                              injects.stream()
-                                  .map(execInject -> execInject.getInjection().getId())
-                                  .toList(),
-                              executableInject.getInjection().getInject().getDependsOn().stream()
-                                  .map(
-                                      injectDependency ->
-                                          injectDependency
-                                              .getCompositeId()
-                                              .getInjectParent()
-                                              .getInject()
-                                              .getId())
-                                  .toList()))
-              .collect(
-                  groupingBy(
-                      ex ->
-                          ex.getInjection().getExercise() == null
-                              ? "atomic"
-                              : ex.getInjection().getExercise().getId()));
-
-      // Execute injects in parallel for each exercise.
-      byExercises.entrySet().parallelStream()
-          .forEach(
-              (entry) -> {
-                // Execute each inject for the exercise in order.
-                entry.getValue().parallelStream()
-                    .forEach(
-                        executableInject -> {
-                          try {
-                            this.executeInject(executableInject);
-                          } catch (Exception e) {
-                            Inject inject = executableInject.getInjection().getInject();
-                            log.warn(e.getMessage(), e);
-                            injectStatusService.failInjectStatus(inject.getId(), e.getMessage());
-                          }
-                        });
-                // Update the exercise
-                if (!entry.getKey().equals("atomic")) {
-                  updateExercise(entry.getKey());
-                }
-              });
+      // Fire the injects that are due.
+      if (shouldExecuteInjects(jobExecutionContext)) {
+        executeDueInjects();
+      }
       // Change status of finished exercises.
       handleAutoClosingExercises();
       handlePendingInject();
@@ -428,6 +455,108 @@ public class InjectsExecutionJob implements Job {
     }
   }
 
+  /**
+   * Without the inject dispatcher, every run fires the due injects. With it, the due injects are
+   * fired by the runs it requests, the clock-aligned runs only sweeping them every few minutes as a
+   * safety net: the other runs still handle the simulations and the statuses every minute.
+   */
+  private boolean shouldExecuteInjects(JobExecutionContext jobExecutionContext) {
+    if (injectDispatcher.getIfAvailable() == null
+        || Boolean.TRUE.equals(jobExecutionContext.getMergedJobDataMap().get(DISPATCHED))
+        || jobExecutionContext.getScheduledFireTime() == null) {
+      return true;
+    }
+    int minute =
+        jobExecutionContext.getScheduledFireTime().toInstant().atZone(ZoneOffset.UTC).getMinute();
+    return minute % Math.max(1, injectReconciliationMinutes) == 0;
+  }
+
+  private void executeDueInjects() {
+    // Get all injects to execute grouped by exercise.
+    List<ExecutableInject> injects = injectHelper.getInjectsToRun();
+    Set<String> injectIdsToRun =
+        injects.stream()
+            .map(executableInject -> executableInject.getInjection().getId())
+            .collect(Collectors.toSet());
+
+    // We're grouping the injects to run by exercises but also making sure no injects
+    // run in the same batch as it's parents
+    Map<String, List<ExecutableInject>> byExercises =
+        injects.stream()
+            .filter(
+                executableInject ->
+                    // If we got dependencies, we check that the parents are not part of the
+                    // current batch of injects running. If so, we're filtering them out and
+                    // they'll be part of the next batch of launched injects. Do note that this is
+                    // an edge case as it's not allowed to add a dependency less than a minute
+                    // after a parent but can happen if the platform was restarted after some time
+                    // out. It'll then start the injects that were not started because the
+                    // platform was down.
+                    executableInject.getInjection().getInject().getDependsOn() == null
+                        || executableInject.getInjection().getInject().getDependsOn().stream()
+                            .noneMatch(
+                                injectDependency ->
+                                    injectIdsToRun.contains(
+                                        injectDependency
+                                            .getCompositeId()
+                                            .getInjectParent()
+                                            .getInject()
+                                            .getId())))
+            .collect(
+                groupingBy(
+                    ex ->
+                        ex.getInjection().getExercise() == null
+                            ? "atomic"
+                            : ex.getInjection().getExercise().getId()));
+
+    // Injects held back because of a parent in the current batch must run right after it
+    scheduleDeferredInjects(injects, byExercises);
+
+    // The parents of all the injects of the batch and their expectations are loaded at once
+    DependencyContext dependencies =
+        loadDependencyContext(byExercises.values().stream().flatMap(List::stream).toList());
+
+    // Execute injects in parallel for each exercise.
+    byExercises.entrySet().parallelStream()
+        .forEach(
+            (entry) -> {
+              // Execute each inject for the exercise in order.
+              entry.getValue().parallelStream()
+                  .forEach(
+                      executableInject -> {
+                        try {
+                          this.executeInject(executableInject, dependencies);
+                        } catch (Exception e) {
+                          Inject inject = executableInject.getInjection().getInject();
+                          log.warn(e.getMessage(), e);
+                          injectStatusService.failInjectStatus(inject.getId(), e.getMessage());
+                        }
+                      });
+              // Update the exercise
+              if (!entry.getKey().equals("atomic")) {
+                updateExercise(entry.getKey());
+              }
+            });
+  }
+
+  private void scheduleDeferredInjects(
+      List<ExecutableInject> injects, Map<String, List<ExecutableInject>> byExercises) {
+    InjectDispatcher dispatcher = injectDispatcher.getIfAvailable();
+    if (dispatcher == null) {
+      return;
+    }
+    Set<String> batchIds =
+        byExercises.values().stream()
+            .flatMap(List::stream)
+            .map(executableInject -> executableInject.getInjection().getId())
+            .collect(Collectors.toSet());
+    Instant nextRun = now();
+    injects.stream()
+        .map(executableInject -> executableInject.getInjection().getId())
+        .filter(injectId -> !batchIds.contains(injectId))
+        .forEach(injectId -> dispatcher.schedule(injectId, nextRun));
+  }
+
   private void handleInjectExpectationCollectStatus() {
     List<Inject> injects = injectService.getExecutedAndNotFinished();
     if (injects.isEmpty()) {
@@ -449,19 +578,4 @@ public class InjectsExecutionJob implements Job {
     }
     injectService.saveAll(fulfilled);
   }
-
-  /**
-   * Return true if some elements are in the two lists
-   *
-   * @param firstList the first list to test
-   * @param secondList the second list to test
-   * @return true if some elements are present in both the lists
-   */
-  private boolean intersect(List<String> firstList, List<String> secondList) {
-    return !firstList.stream()
-        .distinct()
-        .filter(secondList::contains)
-        .collect(Collectors.toSet())
-        .isEmpty();
-  }
 }
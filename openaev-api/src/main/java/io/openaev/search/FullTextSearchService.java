@@ -298,7 +298,7 @@ public class FullTextSearchService<T extends Base> {
   }
 
   private static String getFinalSearchTerm(String searchTerm) {
-    return Arrays.stream(searchTerm.split(" "))
+    return Arrays.stream(searchTerm.trim().split("\\s+"))
         .map(s -> "(" + s + ":*)")
         .collect(Collectors.joining(" & "));
   }
@@ -3,9 +3,11 @@ package io.openaev.service;
 import static io.openaev.database.model.Filters.isEmptyFilterGroup;
 import static io.openaev.helper.StreamHelper.fromIterable;
 import static io.openaev.utils.FilterUtilsJpa.computeFilterGroupJpa;
-import static io.openaev.utils.FilterUtilsRuntime.computeFilterGroupRuntime;
+import static io.openaev.utils.FilterUtilsRuntime.compileFilterGroupRuntime;
 import static java.time.Instant.now;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.openaev.database.model.*;
 import io.openaev.database.raw.RawAssetGroup;
 import io.openaev.database.repository.AssetGroupRepository;
@@ -15,6 +17,7 @@ import io.openaev.utils.FilterUtilsJpa;
 import io.openaev.utils.mapper.AssetGroupMapper;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -30,12 +33,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AssetGroupService {
 
+  private static final String ENDPOINT_TYPE = "Endpoint";
+  private static final long MAX_DYNAMIC_FILTERS = 1_000;
+  // Native bulk updates don't change the assets version, expire the memoised endpoints to catch up
+  private static final Duration DYNAMIC_ASSETS_TTL = Duration.ofMinutes(1);
+  static final int ASSETS_CHUNK_SIZE = 1_000;
+
   private final AssetGroupRepository assetGroupRepository;
   private final AssetService assetService;
   private final EndpointService endpointService;
   private final TagRuleService tagRuleService;
   private final AssetGroupMapper assetGroupMapper;
 
+  private final Cache<String, List<String>> dynamicAssetIds =
+      Caffeine.newBuilder()
+          .expireAfterWrite(DYNAMIC_ASSETS_TTL)
+          .maximumSize(MAX_DYNAMIC_FILTERS)
+          .build();
+
   // -- ASSET GROUP --
 
   public AssetGroup createAssetGroup(@NotNull final AssetGroup assetGroup) {
@@ -100,6 +115,10 @@ public class AssetGroupService {
     return this.assetGroupRepository.findByExternalReference(externalReference);
   }
 
+  public Set<String> assetIdsFromAssetGroup(@NotBlank final String assetGroupId) {
+    return this.assetGroupRepository.findAssetIdsByAssetGroupId(assetGroupId);
+  }
+
   public AssetGroup updateAssetGroup(@NotNull final AssetGroup assetGroup) {
     assetGroup.setUpdatedAt(now());
     AssetGroup assetGroupUpdated = this.assetGroupRepository.save(assetGroup);
@@ -144,34 +163,71 @@ public class AssetGroupService {
   }
 
   private List<AssetGroup> computeDynamicAssets(@NotNull final List<AssetGroup> assetGroups) {
-    if (assetGroups.stream()
-        .noneMatch(assetGroup -> isEmptyFilterGroup(assetGroup.getDynamicFilter()))) {
+    List<AssetGroup> dynamicAssetGroups =
+        assetGroups.stream()
+            .filter(assetGroup -> !isEmptyFilterGroup(assetGroup.getDynamicFilter()))
+            .toList();
+    if (dynamicAssetGroups.isEmpty()) {
       return assetGroups;
     }
 
-    List<Asset> assets = this.assetService.assets();
-    assetGroups.forEach(
-        assetGroup -> {
-          if (!isEmptyFilterGroup(assetGroup.getDynamicFilter())) {
-            Predicate<Object> filters = computeFilterGroupRuntime(assetGroup.getDynamicFilter());
-
-            List<Asset> filteredAssets =
-                assets.stream()
-                    .filter(
-                        asset ->
-                            "Endpoint"
-                                .equals(
-                                    asset.getType())) // Filters for dynamic assets are applicable
-                    // only to endpoints
-                    .filter(filters)
-                    .toList();
-
-            assetGroup.setDynamicAssets(filteredAssets);
-          }
-        });
+    // Matching endpoints are memoised by filter, until an asset or an asset group changes
+    String version = this.assetService.assetsVersion();
+    Map<String, List<String>> assetIdsByKey = new HashMap<>();
+    Map<String, Filters.FilterGroup> filtersToEvaluate = new HashMap<>();
+    for (AssetGroup assetGroup : dynamicAssetGroups) {
+      String key = dynamicAssetsKey(version, assetGroup.getDynamicFilter());
+      List<String> assetIds = this.dynamicAssetIds.getIfPresent(key);
+      if (assetIds != null) {
+        assetIdsByKey.put(key, assetIds);
+      } else {
+        filtersToEvaluate.put(key, assetGroup.getDynamicFilter());
+      }
+    }
+
+    List<Asset> assets;
+    if (filtersToEvaluate.isEmpty()) {
+      // Only load the matching endpoints, by chunks to stay below the bind parameters limit
+      List<String> assetIds =
+          assetIdsByKey.values().stream().flatMap(List::stream).distinct().toList();
+      assets = new ArrayList<>();
+      for (int start = 0; start < assetIds.size(); start += ASSETS_CHUNK_SIZE) {
+        assets.addAll(
+            this.assetService.assets(
+                assetIds.subList(start, Math.min(start + ASSETS_CHUNK_SIZE, assetIds.size()))));
+      }
+    } else {
+      // Filters for dynamic assets are applicable only to endpoints
+      assets = this.assetService.assetsByTypes(List.of(ENDPOINT_TYPE));
+      List<Endpoint> endpoints =
+          assets.stream().filter(Endpoint.class::isInstance).map(Endpoint.class::cast).toList();
+      filtersToEvaluate.forEach(
+          (key, filter) -> {
+            Predicate<Endpoint> predicate = compileFilterGroupRuntime(filter, Endpoint.class);
+            List<String> assetIds =
+                endpoints.stream().filter(predicate).map(Endpoint::getId).toList();
+            this.dynamicAssetIds.put(key, assetIds);
+            assetIdsByKey.put(key, assetIds);
+          });
+    }
+
+    Map<String, Asset> assetsById =
+        assets.stream().collect(Collectors.toMap(Asset::getId, asset -> asset, (a, b) -> a));
+    dynamicAssetGroups.forEach(
+        assetGroup ->
+            assetGroup.setDynamicAssets(
+                assetIdsByKey.get(dynamicAssetsKey(version, assetGroup.getDynamicFilter())).stream()
+                    .map(assetsById::get)
+                    .filter(Objects::nonNull)
+                    .toList()));
     return assetGroups;
   }
 
+  private static String dynamicAssetsKey(
+      @NotNull final String version, @NotNull final Filters.FilterGroup filter) {
+    return version + "|" + filter;
+  }
+
   public AssetGroup computeDynamicAssets(@NotNull final AssetGroup assetGroup) {
     if (isEmptyFilterGroup(assetGroup.getDynamicFilter())) {
       return assetGroup;
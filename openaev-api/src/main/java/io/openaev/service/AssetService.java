@@ -39,6 +39,17 @@ public class AssetService {
     return fromIterable(this.assetRepository.findAll());
   }
 
+  public List<Asset> assetsByTypes(@NotNull final List<String> types) {
+    return this.assetRepository.findByType(types);
+  }
+
+  /**
+   * @return a version of the assets, changing whenever an asset or an asset group is updated
+   */
+  public String assetsVersion() {
+    return this.assetRepository.assetsVersion();
+  }
+
   public List<SecurityPlatform> securityPlatforms() {
     return fromIterable(securityPlatformRepository.findAll());
   }
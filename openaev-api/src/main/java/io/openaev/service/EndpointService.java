@@ -43,12 +43,15 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -324,100 +327,117 @@ public class EndpointService {
    * Get agents from SentinelOne, Crowdstrike API and register them into OpenAEV agents and
    * endpoints
    *
+   * <p>Inputs are matched against the existing agents by external reference, then against the
+   * existing endpoints by MAC address, through hash indexes. Only the endpoints and agents whose
+   * attributes changed are saved.
+   *
    * @param inputs from the API
    * @param existingAgents in the database
-   * @return OpenAEV agents
+   * @return OpenAEV agents, saved or unchanged
    */
   public List<Agent> syncAgentsEndpoints(
       List<AgentRegisterInput> inputs, List<Agent> existingAgents) {
     List<Agent> agentsToSave = new ArrayList<>();
+    List<Agent> unchangedAgents = new ArrayList<>();
     List<Asset> endpointsToSave = new ArrayList<>();
     Endpoint endpointToSave;
     Agent agentToSave;
+    // Index the existing agents by external reference, and their endpoints
+    Map<String, Agent> existingAgentsByExternalReference = new HashMap<>();
+    Set<String> existingAgentsAssetIds = new HashSet<>();
+    for (Agent existingAgent : existingAgents) {
+      existingAgentsByExternalReference.putIfAbsent(
+          existingAgent.getExternalReference(), existingAgent);
+      existingAgentsAssetIds.add(existingAgent.getAsset().getId());
+    }
     // Update agents/endpoints with external reference
-    Set<String> inputsExternalRefs =
-        inputs.stream().map(AgentRegisterInput::getExternalReference).collect(Collectors.toSet());
-    if (!inputsExternalRefs.isEmpty()) {
-      Set<Agent> agentsToUpdate =
-          existingAgents.stream()
-              .filter(agent -> inputsExternalRefs.contains(agent.getExternalReference()))
-              .collect(Collectors.toSet());
-      Map<String, AgentRegisterInput> inputsByExternalReference =
-          inputs.stream()
-              .collect(
-                  Collectors.toMap(AgentRegisterInput::getExternalReference, agent2 -> agent2));
-      for (Agent agentToUpdate : agentsToUpdate) {
-        final AgentRegisterInput inputToSave =
-            inputsByExternalReference.get(agentToUpdate.getExternalReference());
+    List<AgentRegisterInput> remainingInputs = new ArrayList<>();
+    Set<String> handledExternalReferences = new HashSet<>();
+    for (AgentRegisterInput inputToSave : inputs) {
+      Agent agentToUpdate =
+          existingAgentsByExternalReference.get(inputToSave.getExternalReference());
+      if (agentToUpdate == null) {
+        remainingInputs.add(inputToSave);
+      } else if (handledExternalReferences.add(inputToSave.getExternalReference())) {
         endpointToSave = (Endpoint) agentToUpdate.getAsset();
-        setUpdatedEndpointAttributes(endpointToSave, inputToSave);
-        agentToUpdate.setAsset(endpointToSave);
-        agentToUpdate.setLastSeen(inputToSave.getLastSeen());
         // TODO: Making this function transactional is not helping to solve tags
         // addSourceTagToEndpoint(endpointToSave, inputToSave);
-        endpointsToSave.add(endpointToSave);
-        agentsToSave.add(agentToUpdate);
-        inputs.removeIf(
-            input -> input.getExternalReference().equals(inputToSave.getExternalReference()));
+        if (setUpdatedEndpointAttributes(endpointToSave, inputToSave)) {
+          endpointsToSave.add(endpointToSave);
+        }
+        if (setUpdatedAgentAttributes(agentToUpdate, inputToSave, endpointToSave)) {
+          agentsToSave.add(agentToUpdate);
+        } else {
+          unchangedAgents.add(agentToUpdate);
+        }
       }
     }
     // Update agents/endpoints with mac address
-    String[] inputsMacAddresses =
-        inputs.stream().map(AgentRegisterInput::getMacAddresses).toList().stream()
-            .flatMap(Arrays::stream)
-            .toArray(String[]::new);
-    if (inputsMacAddresses.length > 0) {
-      List<Endpoint> endpointsToUpdate = findEndpointsByMacAddresses(inputsMacAddresses);
-      Optional<AgentRegisterInput> optionalInputToSave;
+    Map<String, AgentRegisterInput> remainingInputsByMacAddress = new HashMap<>();
+    for (AgentRegisterInput input : remainingInputs) {
+      for (String macAddress : input.getMacAddresses()) {
+        remainingInputsByMacAddress.putIfAbsent(macAddress, input);
+      }
+    }
+    Set<AgentRegisterInput> handledInputs = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<List<String>> handledMacAddresses = new HashSet<>();
+    if (!remainingInputsByMacAddress.isEmpty()) {
+      List<Endpoint> endpointsToUpdate =
+          findEndpointsByMacAddresses(remainingInputsByMacAddress.keySet().toArray(String[]::new));
       for (Endpoint endpointToUpdate : endpointsToUpdate) {
-        optionalInputToSave =
-            inputs.stream()
-                .filter(
-                    input ->
-                        Arrays.stream(endpointToUpdate.getMacAddresses())
-                            .anyMatch(
-                                macAddress ->
-                                    Arrays.asList(input.getMacAddresses()).contains(macAddress)))
+        // If existing agent Crowdstrike/SentinelOne in this endpoint, leave it
+        if (existingAgentsAssetIds.contains(endpointToUpdate.getId())) {
+          continue;
+        }
+        Optional<AgentRegisterInput> optionalInputToSave =
+            Arrays.stream(endpointToUpdate.getMacAddresses())
+                .map(remainingInputsByMacAddress::get)
+                .filter(input -> input != null && !handledInputs.contains(input))
                 .findFirst();
         if (optionalInputToSave.isPresent()) {
-          // If no existing agent Crowdstrike/SentinelOne in this endpoint, add to it
-          if (existingAgents.stream()
-              .noneMatch(agent -> agent.getAsset().getId().equals(endpointToUpdate.getId()))) {
-            final AgentRegisterInput inputToSave = optionalInputToSave.get();
-            setUpdatedEndpointAttributes(endpointToUpdate, inputToSave);
-            agentToSave = new Agent();
-            setNewAgentAttributes(inputToSave, agentToSave);
-            setUpdatedAgentAttributes(agentToSave, inputToSave, endpointToUpdate);
-            // TODO: Making this function transactional is not helping to solve tags
-            // addSourceTagToEndpoint(endpointToUpdate, inputToSave);
-            endpointsToSave.add(endpointToUpdate);
-            agentsToSave.add(agentToSave);
-            inputs.removeIf(
-                input -> Arrays.equals(input.getMacAddresses(), inputToSave.getMacAddresses()));
-          }
+          final AgentRegisterInput inputToSave = optionalInputToSave.get();
+          setUpdatedEndpointAttributes(endpointToUpdate, inputToSave);
+          agentToSave = new Agent();
+          setNewAgentAttributes(inputToSave, agentToSave);
+          setUpdatedAgentAttributes(agentToSave, inputToSave, endpointToUpdate);
+          // TODO: Making this function transactional is not helping to solve tags
+          // addSourceTagToEndpoint(endpointToUpdate, inputToSave);
+          endpointsToSave.add(endpointToUpdate);
+          agentsToSave.add(agentToSave);
+          existingAgentsAssetIds.add(endpointToUpdate.getId());
+          handledInputs.add(inputToSave);
+          handledMacAddresses.add(Arrays.asList(inputToSave.getMacAddresses()));
         }
       }
     }
     // Create new agents/endpoints
-    if (!inputs.isEmpty()) {
-      for (AgentRegisterInput inputToUpdate : inputs) {
-        endpointToSave = new Endpoint();
-        endpointToSave.setUpdateAttributes(inputToUpdate);
-        endpointToSave.setIps(inputToUpdate.getIps());
-        endpointToSave.setSeenIp(inputToUpdate.getSeenIp());
-        endpointToSave.setMacAddresses(inputToUpdate.getMacAddresses());
-        // TODO: Making this function transactional is not helping to solve tags
-        // addSourceTagToEndpoint(endpointToSave, inputToUpdate);
-        endpointsToSave.add(endpointToSave);
-        agentToSave = new Agent();
-        setNewAgentAttributes(inputToUpdate, agentToSave);
-        setUpdatedAgentAttributes(agentToSave, inputToUpdate, endpointToSave);
-        agentsToSave.add(agentToSave);
+    for (AgentRegisterInput inputToUpdate : remainingInputs) {
+      if (handledInputs.contains(inputToUpdate)
+          || handledMacAddresses.contains(Arrays.asList(inputToUpdate.getMacAddresses()))) {
+        continue;
       }
+      endpointToSave = new Endpoint();
+      endpointToSave.setUpdateAttributes(inputToUpdate);
+      endpointToSave.setIps(inputToUpdate.getIps());
+      endpointToSave.setSeenIp(inputToUpdate.getSeenIp());
+      endpointToSave.setMacAddresses(inputToUpdate.getMacAddresses());
+      // TODO: Making this function transactional is not helping to solve tags
+      // addSourceTagToEndpoint(endpointToSave, inputToUpdate);
+      endpointsToSave.add(endpointToSave);
+      agentToSave = new Agent();
+      setNewAgentAttributes(inputToUpdate, agentToSave);
+      setUpdatedAgentAttributes(agentToSave, inputToUpdate, endpointToSave);
+      agentsToSave.add(agentToSave);
+    }
+    // Save the changes in database
+    if (!endpointsToSave.isEmpty()) {
+      assetService.saveAllAssets(endpointsToSave);
     }
-    // Save all in database
-    assetService.saveAllAssets(endpointsToSave);
-    return agentService.saveAllAgents(agentsToSave);
+    List<Agent> agents = new ArrayList<>(unchangedAgents);
+    if (!agentsToSave.isEmpty()) {
+      agents.addAll(agentService.saveAllAgents(agentsToSave));
+    }
+    return agents;
   }
 
   @Transactional
@@ -542,7 +562,15 @@ public class EndpointService {
     return agentService.createOrUpdateAgent(agent);
   }
 
-  private void setUpdatedEndpointAttributes(Endpoint endpoint, AgentRegisterInput input) {
+  /**
+   * @return true if an attribute of the endpoint changed
+   */
+  private boolean setUpdatedEndpointAttributes(Endpoint endpoint, AgentRegisterInput input) {
+    String hostname = endpoint.getHostname();
+    Endpoint.PLATFORM_ARCH arch = endpoint.getArch();
+    String[] ips = endpoint.getIps();
+    String seenIp = endpoint.getSeenIp();
+    String[] macAddresses = endpoint.getMacAddresses();
     // Hostname and arch not updated by Crowdstrike because Crowdstrike hostname is 15 length max
     // and arch is hard coded
     if (!CROWDSTRIKE_EXECUTOR_TYPE.equals(input.getExecutor().getType())) {
@@ -553,14 +581,29 @@ public class EndpointService {
     endpoint.setSeenIp(input.getSeenIp());
     endpoint.setMacAddresses(
         EndpointMapper.mergeAddressArrays(endpoint.getMacAddresses(), input.getMacAddresses()));
+    return !Objects.equals(hostname, endpoint.getHostname())
+        || arch != endpoint.getArch()
+        || !Arrays.equals(ips, endpoint.getIps())
+        || !Objects.equals(seenIp, endpoint.getSeenIp())
+        || !Arrays.equals(macAddresses, endpoint.getMacAddresses());
   }
 
-  private void setUpdatedAgentAttributes(Agent agent, AgentRegisterInput input, Endpoint endpoint) {
+  /**
+   * @return true if an attribute of the agent changed
+   */
+  private boolean setUpdatedAgentAttributes(
+      Agent agent, AgentRegisterInput input, Endpoint endpoint) {
+    boolean changed =
+        agent.getAsset() != endpoint
+            || !Objects.equals(agent.getLastSeen(), input.getLastSeen())
+            || !Objects.equals(agent.getExternalReference(), input.getExternalReference())
+            || !Objects.equals(agent.getVersion(), input.getAgentVersion());
     agent.setAsset(endpoint);
     agent.setLastSeen(input.getLastSeen());
     agent.setExternalReference(input.getExternalReference());
     // For OpenAEV agent
     agent.setVersion(input.getAgentVersion());
+    return changed;
   }
 
   private Agent createNewEndpointAndAgent(AgentRegisterInput input) {
@@ -0,0 +1,107 @@
+package io.openaev.service;
+
+import static io.openaev.helper.StreamHelper.fromIterable;
+import static io.openaev.service.ImportService.EXPORT_ENTRY_ATTACHMENT;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.openaev.database.model.Document;
+import io.openaev.database.repository.DocumentRepository;
+import io.openaev.rest.exception.ElementNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes the export archives of simulations, scenarios and injects.
+ *
+ * <p>An archive holds the export as a JSON entry, followed by the files of its documents. It is
+ * written to the given stream as it is built, and the files are copied from the storage one after
+ * the other, so that neither the archive nor a file is held in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportZipService {
+
+  private final DocumentRepository documentRepository;
+  private final FileService fileService;
+
+  /**
+   * @param outputStream the stream to write the archive to, closed once the archive is complete
+   * @param exportEntryName the name of the JSON entry
+   * @param exportEntryComment the comment of the JSON entry, giving its type to the import
+   * @param writer the writer of the export
+   * @param export the export to write as JSON
+   * @param documentIds the documents to add to the archive, duplicates allowed
+   * @throws ElementNotFoundException if a document does not exist, before anything is written
+   */
+  public void writeZip(
+      OutputStream outputStream,
+      String exportEntryName,
+      String exportEntryComment,
+      ObjectWriter writer,
+      Object export,
+      Collection<String> documentIds)
+      throws IOException {
+    List<Document> documents = findDocuments(documentIds);
+
+    ZipOutputStream zipExport = new ZipOutputStream(outputStream);
+    ZipEntry zipEntry = new ZipEntry(exportEntryName);
+    zipEntry.setComment(exportEntryComment);
+    zipExport.putNextEntry(zipEntry);
+    writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(zipExport, export);
+    zipExport.closeEntry();
+    // Add the actual files for the documents
+    for (Document document : documents) {
+      writeDocument(zipExport, document);
+    }
+    zipExport.finish();
+    zipExport.close();
+  }
+
+  private List<Document> findDocuments(Collection<String> documentIds) {
+    List<String> ids = documentIds.stream().distinct().toList();
+    Map<String, Document> documentsById =
+        fromIterable(documentRepository.findAllById(ids)).stream()
+            .collect(Collectors.toMap(Document::getId, Function.identity()));
+    return ids.stream()
+        .map(
+            id ->
+                Optional.ofNullable(documentsById.get(id))
+                    .orElseThrow(() -> new ElementNotFoundException("Document not found: " + id)))
+        .toList();
+  }
+
+  private void writeDocument(ZipOutputStream zipExport, Document document) throws IOException {
+    Optional<InputStream> docStream = fileService.getFile(document);
+    if (docStream.isEmpty()) {
+      return;
+    }
+    try (InputStream data = docStream.get()) {
+      ZipEntry zipDoc = new ZipEntry(document.getTarget());
+      zipDoc.setComment(EXPORT_ENTRY_ATTACHMENT);
+      try {
+        zipExport.putNextEntry(zipDoc);
+      } catch (ZipException e) {
+        // Nothing written yet, such as for a file shared by two documents
+        log.error(e.getMessage(), e);
+        return;
+      }
+      data.transferTo(zipExport);
+      zipExport.closeEntry();
+    }
+  }
+}
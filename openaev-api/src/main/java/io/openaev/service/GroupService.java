@@ -8,11 +8,13 @@ import io.openaev.database.repository.GroupRepository;
 import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.group.form.GroupCreateInput;
 import io.openaev.rest.group.form.GroupUpdateRolesInput;
+import io.openaev.rest.stream.AccessRightsChangedEvent;
 import jakarta.validation.constraints.NotBlank;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,6 +22,7 @@ import org.springframework.stereotype.Service;
 public class GroupService {
   private final GroupRepository groupRepository;
   private final RoleService roleService;
+  private final ApplicationEventPublisher appPublisher;
 
   public Group createGroup(GroupCreateInput input) {
     return groupRepository.save(createGroupInner(UUID.randomUUID().toString(), input));
@@ -60,7 +63,9 @@ public class GroupService {
 
   public Group updateGroupRoles(@NotBlank final Group group, List<Role> roles) {
     group.setRoles(roles);
-    return groupRepository.save(group);
+    Group savedGroup = groupRepository.save(group);
+    appPublisher.publishEvent(new AccessRightsChangedEvent(savedGroup.getId()));
+    return savedGroup;
   }
 
   public Group updateGroupInfoWithRoles(
@@ -1,17 +1,20 @@
 package io.openaev.service;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.ZipEntry;
+import org.apache.commons.io.function.IOSupplier;
 
 public class ImportEntry {
 
   private ZipEntry entry;
 
-  private InputStream data;
+  // Opened on demand, the content stays in the import archive or on disk until then
+  private IOSupplier<InputStream> data;
 
   private long contentLength;
 
-  public ImportEntry(ZipEntry entry, InputStream data, long contentLength) {
+  public ImportEntry(ZipEntry entry, IOSupplier<InputStream> data, long contentLength) {
     this.entry = entry;
     this.data = data;
     this.contentLength = contentLength;
@@ -25,11 +28,14 @@ public class ImportEntry {
     this.entry = entry;
   }
 
-  public InputStream getData() {
-    return data;
+  /**
+   * @return a new stream on the content of the entry, to be closed by the caller
+   */
+  public InputStream getData() throws IOException {
+    return data.get();
   }
 
-  public void setData(InputStream data) {
+  public void setData(IOSupplier<InputStream> data) {
     this.data = data;
   }
 
@@ -16,16 +16,14 @@ import io.openaev.importer.V1_DataImporter;
 import io.openaev.utils.constants.Constants;
 import jakarta.annotation.Resource;
 import jakarta.transaction.Transactional;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import java.util.zip.ZipInputStream;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.function.IOSupplier;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -53,14 +51,14 @@ public class ImportService {
   }
 
   private void handleDataImport(
-      InputStream inputStream,
+      IOSupplier<InputStream> data,
       Map<String, ImportEntry> docReferences,
       Exercise exercise,
       Scenario scenario,
       Asset asset,
       AssetGroup assetGroup,
       String suffix) {
-    try {
+    try (InputStream inputStream = data.get()) {
       JsonNode importNode = mapper.readTree(inputStream);
       int importVersion = importNode.get("export_version").asInt();
       Importer importer = dataImporters.get(importVersion);
@@ -99,6 +97,14 @@ public class ImportService {
     handleInputStreamImport(is, exercise, scenario, asset, assetGroup, suffix);
   }
 
+  /**
+   * Imports an export archive.
+   *
+   * <p>The archive is spilled to disk and its entries are read from there when needed: the JSON
+   * entries are parsed straight from the archive, and the attachments are streamed to the storage.
+   * Nested payload archives and encrypted attachments are extracted to temporary files, so that
+   * none of them is held in memory.
+   */
   private void handleInputStreamImport(
       InputStream is,
       Exercise exercise,
@@ -111,8 +117,10 @@ public class ImportService {
     FileUtils.copyInputStreamToFile(is, tempFile);
     is.close();
 
+    List<File> tempFiles = new ArrayList<>();
+    List<ZipFile> nestedZips = new ArrayList<>();
     try (ZipFile parentZip = new ZipFile(tempFile)) { // java.util.zip.ZipFile!
-      List<InputStream> dataImports = new ArrayList<>();
+      List<IOSupplier<InputStream>> dataImports = new ArrayList<>();
       Map<String, ImportEntry> docReferences = new HashMap<>();
       Enumeration<? extends ZipEntry> entries = parentZip.entries();
 
@@ -120,31 +128,18 @@ public class ImportService {
         ZipEntry entry = entries.nextElement();
         String entryType = entry.getComment();
         String entryName = entry.getName();
-        ByteArrayOutputStream encryptedAttachmentsBuffer = null;
-        ByteArrayOutputStream encryptedArgumentsAttachmentsBuffer = null;
+        List<File> encryptedAttachments = new ArrayList<>();
         if (entry.isDirectory()) {
           continue;
         }
         // Handle direct import of payloads
         if (entryName.contains("payload.json")) {
-          try (InputStream dataStream = parentZip.getInputStream(entry)) {
-            ByteArrayOutputStream jsonBuffer = new ByteArrayOutputStream();
-            IOUtils.copy(dataStream, jsonBuffer);
-            dataImports.add(new ByteArrayInputStream(jsonBuffer.toByteArray()));
-            entryType = "DIRECT_IMPORT";
-          }
+          dataImports.add(() -> parentZip.getInputStream(entry));
+          entryType = "DIRECT_IMPORT";
         } else if (entryName.contains("attachments.zip")) {
-          try (InputStream dataStream = parentZip.getInputStream(entry)) {
-            encryptedAttachmentsBuffer = new ByteArrayOutputStream();
-            IOUtils.copy(dataStream, encryptedAttachmentsBuffer);
-            entryType = "DIRECT_IMPORT";
-          }
-        } else if (entryName.contains("arguments_attachments.zip")) {
-          try (InputStream dataStream = parentZip.getInputStream(entry)) {
-            encryptedArgumentsAttachmentsBuffer = new ByteArrayOutputStream();
-            IOUtils.copy(dataStream, encryptedArgumentsAttachmentsBuffer);
-            entryType = "DIRECT_IMPORT";
-          }
+          // Also matches arguments_attachments.zip
+          encryptedAttachments.add(spill(parentZip.getInputStream(entry), tempFiles));
+          entryType = "DIRECT_IMPORT";
         }
 
         if (entryType == null) {
@@ -153,108 +148,67 @@ public class ImportService {
         }
 
         if (EXPORT_ENTRY_PAYLOAD_ARCHIVE.equals(entryType)) {
-          try (InputStream payloadZipStream = parentZip.getInputStream(entry)) {
-            byte[] payloadZipBytes = IOUtils.toByteArray(payloadZipStream);
-            try (ZipInputStream payloadZipInputStream =
-                new ZipInputStream(new ByteArrayInputStream(payloadZipBytes))) {
-              ZipEntry payloadEntry;
-              while ((payloadEntry = payloadZipInputStream.getNextEntry()) != null) {
-                String payloadEntryName = payloadEntry.getName();
-                if ("payload.json".equals(payloadEntryName)) {
-                  ByteArrayOutputStream jsonBuffer = new ByteArrayOutputStream();
-                  IOUtils.copy(payloadZipInputStream, jsonBuffer);
-                  dataImports.add(new ByteArrayInputStream(jsonBuffer.toByteArray()));
-                } else if ("attachments.zip".equals(payloadEntryName)) {
-                  encryptedAttachmentsBuffer = new ByteArrayOutputStream();
-                  IOUtils.copy(payloadZipInputStream, encryptedAttachmentsBuffer);
-                } else if ("arguments_attachments.zip".equals(payloadEntryName)) {
-                  encryptedArgumentsAttachmentsBuffer = new ByteArrayOutputStream();
-                  IOUtils.copy(payloadZipInputStream, encryptedArgumentsAttachmentsBuffer);
-                }
-                payloadZipInputStream.closeEntry();
-              }
+          ZipFile payloadZip = new ZipFile(spill(parentZip.getInputStream(entry), tempFiles));
+          nestedZips.add(payloadZip);
+          Enumeration<? extends ZipEntry> payloadEntries = payloadZip.entries();
+          while (payloadEntries.hasMoreElements()) {
+            ZipEntry payloadEntry = payloadEntries.nextElement();
+            String payloadEntryName = payloadEntry.getName();
+            if ("payload.json".equals(payloadEntryName)) {
+              dataImports.add(() -> payloadZip.getInputStream(payloadEntry));
+            } else if ("attachments.zip".equals(payloadEntryName)
+                || "arguments_attachments.zip".equals(payloadEntryName)) {
+              encryptedAttachments.add(spill(payloadZip.getInputStream(payloadEntry), tempFiles));
             }
           }
         } else if (EXPORT_ENTRY_ATTACHMENT.equals(entryType)) {
-          try (InputStream attStream = parentZip.getInputStream(entry)) {
-            ByteArrayOutputStream attachmentBuffer = new ByteArrayOutputStream();
-            IOUtils.copy(attStream, attachmentBuffer);
-            docReferences.put(
-                entryName,
-                new ImportEntry(
-                    entry,
-                    new ByteArrayInputStream(attachmentBuffer.toByteArray()),
-                    attachmentBuffer.toByteArray().length));
-          }
+          docReferences.put(
+              entryName,
+              new ImportEntry(entry, () -> parentZip.getInputStream(entry), entry.getSize()));
         } else if (EXPORT_ENTRY_EXERCISE.equals(entryType)
             || EXPORT_ENTRY_SCENARIO.equals(entryType)) {
-          try (InputStream dataStream = parentZip.getInputStream(entry)) {
-            ByteArrayOutputStream dataBuffer = new ByteArrayOutputStream();
-            IOUtils.copy(dataStream, dataBuffer);
-            dataImports.add(new ByteArrayInputStream(dataBuffer.toByteArray()));
-          }
+          dataImports.add(() -> parentZip.getInputStream(entry));
         }
 
         // If encrypted attachments exist, extract with zip4j
-        if (encryptedAttachmentsBuffer != null) {
-          File tempEncryptedAttachmentFile = createTempFile("encrypted-attachment", ".zip");
-          try {
-            FileUtils.writeByteArrayToFile(
-                tempEncryptedAttachmentFile, encryptedAttachmentsBuffer.toByteArray());
-            try (net.lingala.zip4j.ZipFile encryptedZip =
-                new net.lingala.zip4j.ZipFile(
-                    tempEncryptedAttachmentFile, ZIP_PASSWORD.toCharArray())) {
-              encryptedZip.setRunInThread(false);
-              for (net.lingala.zip4j.model.FileHeader encHeader : encryptedZip.getFileHeaders()) {
-                try (InputStream fileInZip = encryptedZip.getInputStream(encHeader)) {
-                  String filename = encHeader.getFileName();
-                  byte[] fileBytes = IOUtils.toByteArray(fileInZip);
-                  ZipEntry fakeEntry = new ZipEntry(filename);
-                  docReferences.put(
-                      filename,
-                      new ImportEntry(
-                          fakeEntry, new ByteArrayInputStream(fileBytes), fileBytes.length));
-                }
-              }
-            }
-          } finally {
-            tempEncryptedAttachmentFile.delete();
-          }
-        }
-        // If encrypted arguments attachments exist, extract with zip4j
-        if (encryptedArgumentsAttachmentsBuffer != null) {
-          File tempEncryptedAttachmentFile = createTempFile("encrypted-attachment", ".zip");
-          try {
-            FileUtils.writeByteArrayToFile(
-                tempEncryptedAttachmentFile, encryptedArgumentsAttachmentsBuffer.toByteArray());
-            try (net.lingala.zip4j.ZipFile encryptedZip =
-                new net.lingala.zip4j.ZipFile(
-                    tempEncryptedAttachmentFile, ZIP_PASSWORD.toCharArray())) {
-              encryptedZip.setRunInThread(false);
-              for (net.lingala.zip4j.model.FileHeader encHeader : encryptedZip.getFileHeaders()) {
-                try (InputStream fileInZip = encryptedZip.getInputStream(encHeader)) {
-                  String filename = encHeader.getFileName();
-                  byte[] fileBytes = IOUtils.toByteArray(fileInZip);
-                  ZipEntry fakeEntry = new ZipEntry(filename);
-                  docReferences.put(
-                      filename,
-                      new ImportEntry(
-                          fakeEntry, new ByteArrayInputStream(fileBytes), fileBytes.length));
-                }
+        for (File encryptedAttachment : encryptedAttachments) {
+          try (net.lingala.zip4j.ZipFile encryptedZip =
+              new net.lingala.zip4j.ZipFile(encryptedAttachment, ZIP_PASSWORD.toCharArray())) {
+            encryptedZip.setRunInThread(false);
+            for (net.lingala.zip4j.model.FileHeader encHeader : encryptedZip.getFileHeaders()) {
+              try (InputStream fileInZip = encryptedZip.getInputStream(encHeader)) {
+                String filename = encHeader.getFileName();
+                File file = spill(fileInZip, tempFiles);
+                ZipEntry fakeEntry = new ZipEntry(filename);
+                docReferences.put(
+                    filename,
+                    new ImportEntry(
+                        fakeEntry, () -> FileUtils.openInputStream(file), file.length()));
               }
             }
-          } finally {
-            tempEncryptedAttachmentFile.delete();
           }
         }
       }
 
       // Process all loaded data
-      for (InputStream dataStream : dataImports) {
-        handleDataImport(dataStream, docReferences, exercise, scenario, asset, assetGroup, suffix);
+      for (IOSupplier<InputStream> dataImport : dataImports) {
+        handleDataImport(dataImport, docReferences, exercise, scenario, asset, assetGroup, suffix);
       }
     } finally {
+      for (ZipFile nestedZip : nestedZips) {
+        nestedZip.close();
+      }
+      tempFiles.forEach(File::delete);
       tempFile.delete();
     }
   }
+
+  private static File spill(InputStream data, List<File> tempFiles) throws IOException {
+    File file = createTempFile("openaev-import-entry", ".tmp");
+    tempFiles.add(file);
+    try (data) {
+      FileUtils.copyInputStreamToFile(data, file);
+    }
+    return file;
+  }
 }
@@ -0,0 +1,187 @@
+package io.openaev.service;
+
+import static io.openaev.database.model.InjectExpectation.EXPECTATION_TYPE.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.openaev.database.model.InjectExpectation;
+import io.openaev.database.raw.RawInjectExpectation;
+import io.openaev.database.repository.InjectExpectationRepository;
+import io.openaev.rest.exception.BadRequestException;
+import io.openaev.rest.inject.output.InjectExpectationFeedItem;
+import io.openaev.rest.inject.output.InjectExpectationFeedOutput;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Feed of the agent expectations still waiting for a result, polled by the collectors.
+ *
+ * <p>Expectations are returned by pages, ordered by last update. Each page gives the cursor of its
+ * last expectation: the next page is read from it and, once the feed is exhausted, polling again
+ * with the last cursor only returns the expectations created or updated since. The ETag of a page
+ * is derived from the expectations after its cursor, so that a poll with nothing new can be
+ * answered without reading them.
+ *
+ * <p>The update date of an expectation is set before its transaction commits, so an expectation may
+ * become visible after a cursor already moved past it. Each page thus also returns again the
+ * expectations updated within {@link #COMMIT_OVERLAP} before its cursor: collectors must ignore the
+ * ones they already handle.
+ */
+@Service
+@RequiredArgsConstructor
+public class InjectExpectationFeedService {
+
+  public static final int MAX_PAGE_SIZE = 5000;
+  // Longer than the transactions writing the expectations
+  static final Duration COMMIT_OVERLAP = Duration.ofMinutes(5);
+
+  private static final List<InjectExpectation.EXPECTATION_TYPE> DEFAULT_TYPES =
+      List.of(MANUAL, PREVENTION, DETECTION);
+  private static final String CURSOR_SEPARATOR = "|";
+
+  private final InjectExpectationRepository injectExpectationRepository;
+
+  /** Keyset position in the feed. */
+  record Cursor(Instant updatedAt, String id) {
+
+    static final Cursor START = new Cursor(Instant.EPOCH, "");
+  }
+
+  /**
+   * @param types the expectation types to read, all the collector types if empty
+   * @param sourceId the collector reading the feed, to skip the expectations it already filled
+   * @param cursor the position to read from, the start of the feed if blank
+   * @param size the maximum number of expectations to return
+   * @return the entity tag of the requested page
+   */
+  public String etag(
+      @Nullable final List<InjectExpectation.EXPECTATION_TYPE> types,
+      @Nullable final String sourceId,
+      @Nullable final String cursor,
+      final int size) {
+    Cursor from = decodeCursor(cursor);
+    // Also covers the expectations returned again behind the cursor
+    String version =
+        injectExpectationRepository.feedVersionAfter(
+            typeNames(types), from.updatedAt().minus(COMMIT_OVERLAP), "");
+    String key =
+        String.join(
+            CURSOR_SEPARATOR,
+            version,
+            String.join(",", typeNames(types)),
+            String.valueOf(sourceId),
+            String.valueOf(cursor),
+            String.valueOf(pageSize(size)));
+    return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(UTF_8)) + "\"";
+  }
+
+  /**
+   * @param types the expectation types to read, all the collector types if empty
+   * @param sourceId the collector reading the feed, to skip the expectations it already filled
+   * @param cursor the position to read from, the start of the feed if blank
+   * @param size the maximum number of expectations to return
+   * @return the page of the feed
+   */
+  public InjectExpectationFeedOutput feed(
+      @Nullable final List<InjectExpectation.EXPECTATION_TYPE> types,
+      @Nullable final String sourceId,
+      @Nullable final String cursor,
+      final int size) {
+    int limit = pageSize(size);
+    Cursor from = decodeCursor(cursor);
+    // One more row tells whether another page follows
+    List<RawInjectExpectation> rows =
+        injectExpectationRepository.rawNotFilledAfter(
+            typeNames(types), sourceId, from.updatedAt(), from.id(), limit + 1);
+    boolean hasMore = rows.size() > limit;
+    List<RawInjectExpectation> page = hasMore ? rows.subList(0, limit) : rows;
+
+    String nextCursor = cursor;
+    if (!page.isEmpty()) {
+      RawInjectExpectation last = page.getLast();
+      nextCursor =
+          encodeCursor(
+              new Cursor(last.getInject_expectation_updated_at(), last.getInject_expectation_id()));
+    }
+
+    // Read again behind the cursor, for the expectations committed after it moved past them
+    Map<String, RawInjectExpectation> data = new LinkedHashMap<>();
+    if (!Cursor.START.equals(from)) {
+      List<RawInjectExpectation> overlap =
+          injectExpectationRepository.rawNotFilledBefore(
+              typeNames(types),
+              sourceId,
+              from.updatedAt().minus(COMMIT_OVERLAP),
+              from.updatedAt(),
+              from.id(),
+              limit);
+      overlap.reversed().forEach(raw -> data.putIfAbsent(raw.getInject_expectation_id(), raw));
+    }
+    page.forEach(raw -> data.putIfAbsent(raw.getInject_expectation_id(), raw));
+    return InjectExpectationFeedOutput.builder()
+        .data(data.values().stream().map(InjectExpectationFeedService::toFeedItem).toList())
+        .nextCursor(nextCursor)
+        .hasMore(hasMore)
+        .build();
+  }
+
+  // -- CURSOR --
+
+  static String encodeCursor(final Cursor cursor) {
+    String position = cursor.updatedAt().toString() + CURSOR_SEPARATOR + cursor.id();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(UTF_8));
+  }
+
+  static Cursor decodeCursor(@Nullable final String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return Cursor.START;
+    }
+    try {
+      String position = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+      int separator = position.indexOf(CURSOR_SEPARATOR);
+      if (separator < 0) {
+        throw new BadRequestException("Invalid cursor: " + cursor);
+      }
+      return new Cursor(
+          Instant.parse(position.substring(0, separator)), position.substring(separator + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BadRequestException("Invalid cursor: " + cursor);
+    }
+  }
+
+  // -- UTILS --
+
+  private static int pageSize(final int size) {
+    return Math.clamp(size, 1, MAX_PAGE_SIZE);
+  }
+
+  private static List<String> typeNames(
+      @Nullable final List<InjectExpectation.EXPECTATION_TYPE> types) {
+    return (types == null || types.isEmpty() ? DEFAULT_TYPES : types)
+        .stream().map(Enum::name).distinct().sorted().toList();
+  }
+
+  private static InjectExpectationFeedItem toFeedItem(final RawInjectExpectation raw) {
+    return InjectExpectationFeedItem.builder()
+        .id(raw.getInject_expectation_id())
+        .type(InjectExpectation.EXPECTATION_TYPE.valueOf(raw.getInject_expectation_type()))
+        .injectId(raw.getInject_id())
+        .exerciseId(raw.getExercise_id())
+        .agentId(raw.getAgent_id())
+        .assetId(raw.getAsset_id())
+        .assetGroupId(raw.getAsset_group_id())
+        .signatures(raw.getInject_expectation_signatures())
+        .expirationTime(raw.getInject_expiration_time())
+        .createdAt(raw.getInject_expectation_created_at())
+        .updatedAt(raw.getInject_expectation_updated_at())
+        .build();
+  }
+}
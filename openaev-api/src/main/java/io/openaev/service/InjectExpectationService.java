@@ -10,8 +10,10 @@ import static io.openaev.utils.ExpectationUtils.*;
 import static io.openaev.utils.inject_expectation_result.ExpectationResultBuilder.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.aop.LogExecutionTime;
 import io.openaev.database.helper.InjectExpectationRepositoryHelper;
 import io.openaev.database.model.*;
+import io.openaev.database.raw.RawInjectExpectation;
 import io.openaev.database.repository.InjectExpectationRepository;
 import io.openaev.database.specification.InjectExpectationSpecification;
 import io.openaev.execution.ExecutableInject;
@@ -22,6 +24,7 @@ import io.openaev.rest.atomic_testing.form.InjectExpectationAgentOutput;
 import io.openaev.rest.collector.service.CollectorService;
 import io.openaev.rest.exception.ElementNotFoundException;
 import io.openaev.rest.exercise.form.ExpectationUpdateInput;
+import io.openaev.rest.inject.form.InjectExpectationCollectorUpdate;
 import io.openaev.rest.inject.form.InjectExpectationUpdateInput;
 import io.openaev.utils.ExpectationUtils;
 import io.openaev.utils.TargetType;
@@ -39,11 +42,9 @@ import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -336,6 +337,155 @@ public class InjectExpectationService {
             : null);
   }
 
+  /**
+   * @param expectationIds the ids of the inject expectations
+   * @return the inject id of each existing expectation, by expectation id
+   */
+  public Map<String, String> findInjectIdsByExpectationIds(
+      @NotNull final Set<String> expectationIds) {
+    if (expectationIds.isEmpty()) {
+      return Map.of();
+    }
+    return this.injectExpectationRepository.rawInjectByExpectationIds(expectationIds).stream()
+        .collect(
+            Collectors.toMap(
+                RawInjectExpectation::getInject_expectation_id,
+                RawInjectExpectation::getInject_id));
+  }
+
+  /**
+   * Applies a batch of queued collector updates.
+   *
+   * <p>The results of the batch are added to the agent expectations, saved at once, then the asset
+   * and asset group expectations are recomputed once per impacted asset and asset group of each
+   * inject, instead of once per update.
+   *
+   * @param updates the collector updates, in their reception order
+   * @return the processed updates, including the ones targeting an unknown expectation or collector
+   */
+  @LogExecutionTime
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<InjectExpectationCollectorUpdate> handleCollectorUpdates(
+      @NotNull final List<InjectExpectationCollectorUpdate> updates) {
+    if (updates.isEmpty()) {
+      return updates;
+    }
+
+    Set<String> expectationIds =
+        updates.stream()
+            .map(InjectExpectationCollectorUpdate::getExpectationId)
+            .collect(Collectors.toSet());
+    Map<String, InjectExpectation> expectationsById =
+        fromIterable(this.injectExpectationRepository.findAllById(expectationIds)).stream()
+            .collect(Collectors.toMap(InjectExpectation::getId, Function.identity()));
+    Map<String, Optional<Collector>> collectorsById = new HashMap<>();
+
+    // Update inject expectations at agent level
+    Map<String, InjectExpectation> updated = new LinkedHashMap<>();
+    for (InjectExpectationCollectorUpdate update : updates) {
+      InjectExpectation injectExpectation = expectationsById.get(update.getExpectationId());
+      if (injectExpectation == null) {
+        log.error("Inject expectation not found for ID: {}", update.getExpectationId());
+        continue;
+      }
+      Optional<Collector> collector =
+          collectorsById.computeIfAbsent(update.getInput().getCollectorId(), this::findCollector);
+      if (collector.isEmpty()) {
+        log.error("Collector not found for ID: {}", update.getInput().getCollectorId());
+        continue;
+      }
+      computeInjectExpectationForAgentOrAssetAgentless(
+          injectExpectation, update.getInput(), collector.get());
+      updated.put(injectExpectation.getId(), injectExpectation);
+    }
+    if (updated.isEmpty()) {
+      return updates;
+    }
+    this.injectExpectationRepository.saveAll(updated.values());
+    propagateTechnicalExpectations(updated.values(), false);
+    return updates;
+  }
+
+  /**
+   * Computes the results of several technical expectations, then propagates them to the asset and
+   * asset group expectations once per impacted asset and asset group of each inject.
+   *
+   * @param inputs the result to add to each expectation
+   * @param collector the collector providing the results
+   * @param shouldPropagateLastInjectExpectationResult whether the last result of the expectations
+   *     is also added to the asset and asset group expectations
+   */
+  public void computeTechnicalExpectations(
+      @NotNull final Map<InjectExpectation, InjectExpectationUpdateInput> inputs,
+      @NotNull final Collector collector,
+      boolean shouldPropagateLastInjectExpectationResult) {
+    if (inputs.isEmpty()) {
+      return;
+    }
+    inputs.forEach(
+        (injectExpectation, input) ->
+            computeInjectExpectationForAgentOrAssetAgentless(injectExpectation, input, collector));
+    this.injectExpectationRepository.saveAll(inputs.keySet());
+    propagateTechnicalExpectations(inputs.keySet(), shouldPropagateLastInjectExpectationResult);
+  }
+
+  private void propagateTechnicalExpectations(
+      @NotNull final Collection<InjectExpectation> updated,
+      boolean shouldPropagateLastInjectExpectationResult) {
+    if (updated.isEmpty()) {
+      return;
+    }
+    // Propagate once per asset, then once per asset group, of each inject and expectation type
+    Map<List<String>, InjectExpectation> byAsset = new LinkedHashMap<>();
+    Map<List<String>, InjectExpectation> byAssetGroup = new LinkedHashMap<>();
+    for (InjectExpectation injectExpectation : updated) {
+      String injectId = injectExpectation.getInject().getId();
+      String type = injectExpectation.getType().name();
+      if (injectExpectation.getAsset() != null) {
+        byAsset.put(
+            List.of(injectId, injectExpectation.getAsset().getId(), type), injectExpectation);
+      }
+      if (injectExpectation.getAssetGroup() != null) {
+        byAssetGroup.put(
+            List.of(injectId, injectExpectation.getAssetGroup().getId(), type), injectExpectation);
+      }
+    }
+    List<InjectExpectation> propagated = new ArrayList<>();
+    byAsset
+        .values()
+        .forEach(
+            e ->
+                propagated.addAll(
+                    propagateToAsset(
+                        e, lastResult(e, shouldPropagateLastInjectExpectationResult))));
+    byAssetGroup
+        .values()
+        .forEach(
+            e ->
+                propagated.addAll(
+                    propagateToAssetGroup(
+                        e, lastResult(e, shouldPropagateLastInjectExpectationResult))));
+    this.injectExpectationRepository.saveAll(propagated);
+
+    // Security coverage job creation
+    List<Exercise> exercises =
+        updated.stream().map(e -> e.getInject().getExercise()).distinct().toList();
+    securityCoverageSendJobService.createOrUpdateCoverageSendJobForSimulationsIfReady(exercises);
+  }
+
+  private static Function<Double, InjectExpectationResult> lastResult(
+      @NotNull final InjectExpectation injectExpectation, boolean shouldPropagate) {
+    return shouldPropagate ? score -> injectExpectation.getResults().getLast() : null;
+  }
+
+  private Optional<Collector> findCollector(@NotBlank final String collectorId) {
+    try {
+      return Optional.of(this.collectorService.collector(collectorId));
+    } catch (ElementNotFoundException e) {
+      return Optional.empty();
+    }
+  }
+
   // -- COMPUTE RESULTS FROM INJECT EXPECTATIONS --
 
   public InjectExpectation computeInjectExpectationForAgentOrAssetAgentless(
@@ -356,18 +506,17 @@ public class InjectExpectationService {
 
   // -- FETCH INJECT EXPECTATIONS --
 
-  public Page<InjectExpectation> expectationsNotFill() {
-    return this.injectExpectationRepository.findAll(
-        (root, query, criteriaBuilder) ->
-            criteriaBuilder.and(
-                criteriaBuilder.isNull(root.get("score")),
-                criteriaBuilder.or(
-                    criteriaBuilder.equal(
-                        criteriaBuilder.function(
-                            "json_array_length", Integer.class, root.get("results")),
-                        0),
-                    criteriaBuilder.isNotNull(root.get("agent")))),
-        PageRequest.of(0, 10000, Sort.by(Sort.Direction.ASC, "createdAt")));
+  /**
+   * @param limit the maximum number of ids to return
+   * @return the ids of the expectations without result whose expiration time has passed, the
+   *     expectations of an inject together, agent ones first
+   */
+  public List<String> expiredExpectationIdsNotFilled(final int limit) {
+    return this.injectExpectationRepository.findExpiredNotFilledIds(limit);
+  }
+
+  public List<InjectExpectation> findAllById(@NotNull final Collection<String> ids) {
+    return fromIterable(this.injectExpectationRepository.findAllById(ids));
   }
 
   // -- EXPECTATIONS BY TYPE --
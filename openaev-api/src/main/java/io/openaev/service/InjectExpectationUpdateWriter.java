@@ -0,0 +1,125 @@
+package io.openaev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.config.OpenAEVConfig;
+import io.openaev.config.RabbitmqConfig;
+import io.openaev.database.model.InjectExpectation;
+import io.openaev.rest.collector.service.CollectorService;
+import io.openaev.rest.helper.queue.BatchQueueService;
+import io.openaev.rest.inject.form.InjectExpectationCollectorUpdate;
+import io.openaev.rest.inject.form.InjectExpectationUpdateInput;
+import io.openaev.telemetry.metric_collectors.MetricRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes the results pushed by the collectors on the inject expectations.
+ *
+ * <p>A single update is applied immediately, so that the caller gets the updated expectation. Bulk
+ * updates go through the {@code expectation-update} batch queue, keyed by inject so that the
+ * updates of an inject are applied by the same worker, in one transaction per batch, with the asset
+ * and asset group expectations recomputed once per batch. Their collectors are resolved before
+ * queuing, so that an unknown collector still fails the request. Without this queue configured, or
+ * if it cannot be reached, bulk updates are applied immediately.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InjectExpectationUpdateWriter {
+
+  public static final String QUEUE_CONFIG_KEY = "expectation-update";
+
+  private final InjectExpectationService injectExpectationService;
+  private final CollectorService collectorService;
+  private final RabbitmqConfig rabbitmqConfig;
+  private final OpenAEVConfig openAEVConfig;
+  private final ObjectMapper objectMapper;
+  private final MetricRegistry metricRegistry;
+
+  // For testing purpose, we add a setter
+  @Setter private BatchQueueService<InjectExpectationCollectorUpdate> expectationUpdateQueueService;
+
+  @PostConstruct
+  public void init() throws IOException, TimeoutException {
+    if (openAEVConfig.getQueueConfig() != null
+        && openAEVConfig.getQueueConfig().get(QUEUE_CONFIG_KEY) != null) {
+      // Initializing the queue for batching the collector updates
+      expectationUpdateQueueService =
+          new BatchQueueService<>(
+              InjectExpectationCollectorUpdate.class,
+              injectExpectationService::handleCollectorUpdates,
+              rabbitmqConfig,
+              objectMapper,
+              openAEVConfig.getQueueConfig().get(QUEUE_CONFIG_KEY),
+              metricRegistry);
+    }
+  }
+
+  @PreDestroy
+  public void stop() throws IOException, TimeoutException {
+    if (expectationUpdateQueueService != null) {
+      expectationUpdateQueueService.stop();
+    }
+  }
+
+  /**
+   * Records the result of a collector on an inject expectation.
+   *
+   * @param expectationId the id of the inject expectation
+   * @param input the result of the collector
+   * @return the updated inject expectation
+   */
+  public InjectExpectation write(String expectationId, InjectExpectationUpdateInput input) {
+    return injectExpectationService.updateInjectExpectation(expectationId, input);
+  }
+
+  /**
+   * Records the results of collectors on several inject expectations.
+   *
+   * @param inputs the result of the collectors, by inject expectation id
+   */
+  public void writeAll(Map<String, InjectExpectationUpdateInput> inputs) {
+    if (inputs.isEmpty()) {
+      return;
+    }
+    Map<String, InjectExpectationUpdateInput> remaining = new LinkedHashMap<>(inputs);
+    if (expectationUpdateQueueService != null) {
+      // Fail on an unknown collector now, the queued updates can't report it to the caller
+      inputs.values().stream()
+          .map(InjectExpectationUpdateInput::getCollectorId)
+          .distinct()
+          .forEach(collectorService::collector);
+      Map<String, String> injectIds =
+          injectExpectationService.findInjectIdsByExpectationIds(inputs.keySet());
+      try {
+        for (Map.Entry<String, InjectExpectationUpdateInput> entry : inputs.entrySet()) {
+          String injectId = injectIds.get(entry.getKey());
+          if (injectId == null) {
+            log.error("Inject expectation not found for ID: {}", entry.getKey());
+          } else {
+            // Publishing the update into a queue for later ingestion
+            expectationUpdateQueueService.publish(
+                InjectExpectationCollectorUpdate.builder()
+                    .expectationId(entry.getKey())
+                    .injectId(injectId)
+                    .input(entry.getValue())
+                    .build());
+          }
+          remaining.remove(entry.getKey());
+        }
+        return;
+      } catch (IOException e) {
+        log.warn("Failed to queue the expectation updates, applying them immediately", e);
+      }
+    }
+    injectExpectationService.bulkUpdateInjectExpectation(remaining);
+  }
+}
@@ -19,10 +19,12 @@ import io.openaev.rest.scenario.response.ImportPostSummary;
 import io.openaev.rest.scenario.response.ImportTestSummary;
 import io.openaev.utils.InjectImportUtils;
 import io.openaev.utils.InjectUtils;
+import io.openaev.utils.XlsSheetReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -86,19 +88,15 @@ public class InjectImportService {
     String fileID = UUID.randomUUID().toString();
     result.setImportId(fileID);
     try {
-      // We're opening the file and listing the names of the sheets
-      Workbook workbook = WorkbookFactory.create(file.getInputStream());
-      for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
-        result.getAvailableSheets().add(workbook.getSheetName(i));
-      }
-
       // Writing the file in a temp dir
       Path tempDir = Files.createDirectory(validatePathTraversal(BASE_DIR, fileID));
 
       // Sanitize filename extracting only extension from the base name
       String extension = getSanitizedExtension(file);
       Path tempFile = Files.createTempFile(tempDir, null, "." + extension);
-      Files.write(tempFile, file.getBytes());
+      try (InputStream inputStream = file.getInputStream()) {
+        Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+      }
 
       CompletableFuture.delayedExecutor(FILE_STORAGE_DURATION, TimeUnit.MINUTES)
           .execute(
@@ -110,6 +108,9 @@ public class InjectImportService {
       // We're making sure the files are deleted when the backend restart
       tempDir.toFile().deleteOnExit();
       tempFile.toFile().deleteOnExit();
+
+      // We're listing the names of the sheets, without loading their content
+      result.getAvailableSheets().addAll(XlsSheetReader.getSheetNames(tempFile));
     } catch (Exception ex) {
       log.error("Error while importing an xls file", ex);
       throw new BadRequestException("File seems to be corrupt");
@@ -308,11 +309,6 @@ public class InjectImportService {
                 .orElseThrow(() -> new BadRequestException("No file found in import directory"));
       }
 
-      // We open the file and convert it to an apache POI object
-      InputStream xlsFile = Files.newInputStream(file);
-      Workbook workbook = WorkbookFactory.create(xlsFile);
-      Sheet selectedSheet = workbook.getSheet(sheetName);
-
       Map<Integer, InjectTime> mapInstantByRowIndex = new HashMap<>();
 
       // For performance reasons, we compile the pattern of the Inject Importers only once
@@ -365,48 +361,57 @@ public class InjectImportService {
 
       ZoneOffset zoneOffset = ZoneOffset.ofTotalSeconds(timezoneOffset * 60);
 
+      // The user doing the import and the fields of the contracts are the same for all the rows
+      User user =
+          userRepository
+              .findById(currentUser().getId())
+              .orElseThrow(() -> new ElementNotFoundException("Current user not found"));
+      Map<String, Map<String, JsonNode>> mapFieldByKeyByInjectorContract = new HashMap<>();
+
       AtomicInteger count = new AtomicInteger(0);
-      // For each rows of the selected sheet
-      selectedSheet
-          .rowIterator()
-          .forEachRemaining(
-              row -> {
-                Instant start;
-                if (scenario != null) {
-                  start = scenario.getRecurrenceStart();
-                } else if (exercise != null) {
-                  start = exercise.getStart().orElse(null);
-                } else {
-                  throw new IllegalArgumentException(
-                      "At least one of exercise or scenario should be present");
-                }
-                ImportRow rowSummary =
-                    importRow(
-                        row,
-                        importMapper,
-                        start,
-                        mapPatternByInjectImport,
-                        mapTeamByName,
-                        mapPatternByAllTeams,
-                        zoneOffset,
-                        count);
-                // We set the exercise or scenario
-                Inject inject = rowSummary.getInject();
-                if (scenario != null && inject != null) {
-                  inject.setScenario(scenario);
-                } else if (exercise != null && inject != null) {
-                  inject.setExercise(exercise);
-                }
-                rowSummary.setInject(inject);
+      // For each rows of the selected sheet, streamed from the file
+      XlsSheetReader.readRows(
+          file,
+          sheetName,
+          row -> {
+            Instant start;
+            if (scenario != null) {
+              start = scenario.getRecurrenceStart();
+            } else if (exercise != null) {
+              start = exercise.getStart().orElse(null);
+            } else {
+              throw new IllegalArgumentException(
+                  "At least one of exercise or scenario should be present");
+            }
+            ImportRow rowSummary =
+                importRow(
+                    row,
+                    importMapper,
+                    start,
+                    mapPatternByInjectImport,
+                    mapTeamByName,
+                    mapPatternByAllTeams,
+                    zoneOffset,
+                    user,
+                    mapFieldByKeyByInjectorContract,
+                    count);
+            // We set the exercise or scenario
+            Inject inject = rowSummary.getInject();
+            if (scenario != null && inject != null) {
+              inject.setScenario(scenario);
+            } else if (exercise != null && inject != null) {
+              inject.setExercise(exercise);
+            }
+            rowSummary.setInject(inject);
 
-                importTestSummary.getImportMessage().addAll(rowSummary.getImportMessages());
-                if (rowSummary.getInject() != null) {
-                  importTestSummary.getInjects().add(rowSummary.getInject());
-                }
-                if (rowSummary.getInjectTime() != null) {
-                  mapInstantByRowIndex.put(row.getRowNum(), rowSummary.getInjectTime());
-                }
-              });
+            importTestSummary.getImportMessage().addAll(rowSummary.getImportMessages());
+            if (rowSummary.getInject() != null) {
+              importTestSummary.getInjects().add(rowSummary.getInject());
+            }
+            if (rowSummary.getInjectTime() != null) {
+              mapInstantByRowIndex.put(row.getRowNum(), rowSummary.getInjectTime());
+            }
+          });
 
       // Now that we did our first pass, we do another one real quick to find out
       // the date relative to each others
@@ -470,6 +475,8 @@ public class InjectImportService {
       Map<String, Team> mapTeamByName,
       Map<String, Pattern> mapPatternByAllTeams,
       ZoneOffset timezoneOffset,
+      User user,
+      Map<String, Map<String, JsonNode>> mapFieldByKeyByInjectorContract,
       AtomicInteger count) {
     ImportRow importTestSummary = new ImportRow();
     // The column that differenciate the importer is the same for all so we get it right now
@@ -739,6 +746,17 @@ public class InjectImportService {
     // So far, we only support one expectation
     AtomicReference<InjectExpectation> expectation = new AtomicReference<>();
 
+    // For ease of use, we create a map of the available keys for the injector
+    Map<String, JsonNode> mapFieldByKey =
+        mapFieldByKeyByInjectorContract.computeIfAbsent(
+            injectorContract.getId(),
+            id ->
+                StreamSupport.stream(
+                        injectorContract.getConvertedContent().get("fields").spliterator(), false)
+                    .collect(
+                        Collectors.toMap(
+                            jsonNode -> jsonNode.get("key").asText(), Function.identity())));
+
     // For each rule attributes of the importer
     matchingInjectImporter
         .getRuleAttributes()
@@ -751,15 +769,13 @@ public class InjectImportService {
                             inject,
                             ruleAttribute,
                             row,
+                            mapFieldByKey,
                             mapTeamByName,
                             expectation,
                             importMapper,
                             mapPatternByAllTeams)));
     // The user is the one doing the import
-    inject.setUser(
-        userRepository
-            .findById(currentUser().getId())
-            .orElseThrow(() -> new ElementNotFoundException("Current user not found")));
+    inject.setUser(user);
     // No exercise yet
     inject.setExercise(null);
     // No dependencies
@@ -814,6 +830,7 @@ public class InjectImportService {
       Inject inject,
       RuleAttribute ruleAttribute,
       Row row,
+      Map<String, JsonNode> mapFieldByKey,
       Map<String, Team> mapTeamByName,
       AtomicReference<InjectExpectation> expectation,
       ImportMapper importMapper,
@@ -823,20 +840,6 @@ public class InjectImportService {
       return emptyList();
     }
 
-    // For ease of use, we create a map of the available keys for the injector
-    Map<String, JsonNode> mapFieldByKey =
-        StreamSupport.stream(
-                (Objects.requireNonNull(
-                    inject
-                        .getInjectorContract()
-                        .map(
-                            injectorContract ->
-                                injectorContract.getConvertedContent().get("fields").spliterator())
-                        .orElse(null))),
-                false)
-            .collect(
-                Collectors.toMap(jsonNode -> jsonNode.get("key").asText(), Function.identity()));
-
     // Otherwise, the default type is text, but it can be overriden
     String type = "text";
     if (mapFieldByKey.get(ruleAttribute.getName()) != null) {
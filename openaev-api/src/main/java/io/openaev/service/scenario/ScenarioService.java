@@ -6,7 +6,6 @@ import static io.openaev.database.specification.ScenarioSpecification.findGrante
 import static io.openaev.database.specification.TeamSpecification.fromIds;
 import static io.openaev.helper.StreamHelper.fromIterable;
 import static io.openaev.rest.scenario.utils.ScenarioUtils.handleCustomFilter;
-import static io.openaev.service.ImportService.EXPORT_ENTRY_ATTACHMENT;
 import static io.openaev.service.ImportService.EXPORT_ENTRY_SCENARIO;
 import static io.openaev.utils.StringUtils.duplicateString;
 import static io.openaev.utils.constants.Constants.ARTICLES;
@@ -60,14 +59,11 @@ import jakarta.persistence.criteria.*;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotBlank;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -104,7 +100,6 @@ public class ScenarioService {
   private final ScenarioRepository scenarioRepository;
   private final TeamRepository teamRepository;
   private final UserRepository userRepository;
-  private final DocumentRepository documentRepository;
   private final ScenarioTeamUserRepository scenarioTeamUserRepository;
   private final ArticleRepository articleRepository;
 
@@ -116,7 +111,7 @@ public class ScenarioService {
   private final VariableService variableService;
   private final ChallengeService challengeService;
   private final TeamService teamService;
-  private final FileService fileService;
+  private final ExportZipService exportZipService;
   private final InjectDuplicateService injectDuplicateService;
   private final TagRuleService tagRuleService;
   private final InjectService injectService;
@@ -603,35 +598,13 @@ public class ScenarioService {
     response.addHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + zipName);
     response.addHeader(HttpHeaders.CONTENT_TYPE, "application/zip");
     response.setStatus(HttpServletResponse.SC_OK);
-    ZipOutputStream zipExport = new ZipOutputStream(response.getOutputStream());
-    ZipEntry zipEntry = new ZipEntry(scenario.getName() + ".json");
-    zipEntry.setComment(EXPORT_ENTRY_SCENARIO);
-    zipExport.putNextEntry(zipEntry);
-    zipExport.write(
-        objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(scenarioFileExport));
-    zipExport.closeEntry();
-    // Add the documents
-    documentIds.stream()
-        .distinct()
-        .forEach(
-            docId -> {
-              Document doc = this.documentRepository.findById(docId).orElseThrow();
-              Optional<InputStream> docStream = this.fileService.getFile(doc);
-              if (docStream.isPresent()) {
-                try {
-                  ZipEntry zipDoc = new ZipEntry(doc.getTarget());
-                  zipDoc.setComment(EXPORT_ENTRY_ATTACHMENT);
-                  byte[] data = docStream.get().readAllBytes();
-                  zipExport.putNextEntry(zipDoc);
-                  zipExport.write(data);
-                  zipExport.closeEntry();
-                } catch (IOException e) {
-                  log.error(e.getMessage(), e);
-                }
-              }
-            });
-    zipExport.finish();
-    zipExport.close();
+    exportZipService.writeZip(
+        response.getOutputStream(),
+        scenario.getName() + ".json",
+        EXPORT_ENTRY_SCENARIO,
+        objectMapper.writerWithDefaultPrettyPrinter(),
+        scenarioFileExport,
+        documentIds);
   }
 
   // -- TEAMS --
@@ -1,5 +1,6 @@
 package io.openaev.telemetry.metric_collectors;
 
+import io.opentelemetry.api.metrics.LongHistogram;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.ObservableDoubleGauge;
 import jakarta.annotation.PreDestroy;
@@ -38,4 +39,8 @@ public class MetricRegistry {
   public void registerGauge(String name, String description, Supplier<Long> valueSupplier) {
     registerGauge(name, description, valueSupplier, "count");
   }
+
+  public LongHistogram registerHistogram(String name, String description, String unit) {
+    return meter.histogramBuilder(name).ofLongs().setDescription(description).setUnit(unit).build();
+  }
 }
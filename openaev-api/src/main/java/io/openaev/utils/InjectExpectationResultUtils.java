@@ -3,6 +3,7 @@ package io.openaev.utils;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.openaev.database.model.InjectExpectation;
 import io.openaev.database.model.InjectExpectation.EXPECTATION_TYPE;
+import io.openaev.database.raw.RawExpectationResultCount;
 import io.openaev.database.raw.RawInjectExpectation;
 import io.openaev.expectation.ExpectationType;
 import jakarta.validation.constraints.NotNull;
@@ -32,6 +33,19 @@ import java.util.function.BiFunction;
  */
 public class InjectExpectationResultUtils {
 
+  /** Expectation types aggregated in each result type, in result order. */
+  private static final Map<ExpectationType, List<EXPECTATION_TYPE>> RESULT_TYPES =
+      new LinkedHashMap<>();
+
+  static {
+    RESULT_TYPES.put(ExpectationType.PREVENTION, List.of(EXPECTATION_TYPE.PREVENTION));
+    RESULT_TYPES.put(ExpectationType.DETECTION, List.of(EXPECTATION_TYPE.DETECTION));
+    RESULT_TYPES.put(ExpectationType.VULNERABILITY, List.of(EXPECTATION_TYPE.VULNERABILITY));
+    RESULT_TYPES.put(
+        ExpectationType.HUMAN_RESPONSE,
+        List.of(EXPECTATION_TYPE.ARTICLE, EXPECTATION_TYPE.CHALLENGE, EXPECTATION_TYPE.MANUAL));
+  }
+
   private InjectExpectationResultUtils() {}
 
   /**
@@ -55,32 +69,9 @@ public class InjectExpectationResultUtils {
       BiFunction<List<EXPECTATION_TYPE>, List<T>, List<Double>> scoreExtractor) {
 
     List<ExpectationResultsByType> result = new ArrayList<>();
-
-    addIfScoresPresent(
-        result,
-        List.of(EXPECTATION_TYPE.PREVENTION),
-        ExpectationType.PREVENTION,
-        expectations,
-        scoreExtractor);
-    addIfScoresPresent(
-        result,
-        List.of(EXPECTATION_TYPE.DETECTION),
-        ExpectationType.DETECTION,
-        expectations,
-        scoreExtractor);
-    addIfScoresPresent(
-        result,
-        List.of(EXPECTATION_TYPE.VULNERABILITY),
-        ExpectationType.VULNERABILITY,
-        expectations,
-        scoreExtractor);
-    addIfScoresPresent(
-        result,
-        List.of(EXPECTATION_TYPE.ARTICLE, EXPECTATION_TYPE.CHALLENGE, EXPECTATION_TYPE.MANUAL),
-        ExpectationType.HUMAN_RESPONSE,
-        expectations,
-        scoreExtractor);
-
+    RESULT_TYPES.forEach(
+        (resultType, types) ->
+            addIfScoresPresent(result, types, resultType, expectations, scoreExtractor));
     return result;
   }
 
@@ -97,6 +88,57 @@ public class InjectExpectationResultUtils {
     }
   }
 
+  /**
+   * Computes expectation results grouped by type from expectations already counted by outcome.
+   *
+   * <p>Gives the same results as {@link #getExpectationResultByTypes} on the counted expectations,
+   * without loading them.
+   *
+   * @param counts the expectations counted by expectation type and normalized outcome
+   * @return a list of expectation results grouped by type with aggregated scores
+   */
+  public static List<ExpectationResultsByType> getExpectationResultByTypesFromCounts(
+      List<RawExpectationResultCount> counts) {
+    List<ExpectationResultsByType> result = new ArrayList<>();
+    RESULT_TYPES.forEach(
+        (resultType, types) -> {
+          long success = 0;
+          long partial = 0;
+          long failed = 0;
+          long pending = 0;
+          for (RawExpectationResultCount count : counts) {
+            if (types.contains(EXPECTATION_TYPE.valueOf(count.getInject_expectation_type()))) {
+              success += count.getSuccess_count();
+              partial += count.getPartial_count();
+              failed += count.getFailed_count();
+              pending += count.getPending_count();
+            }
+          }
+          if (success + partial + failed + pending > 0) {
+            result.add(
+                new ExpectationResultsByType(
+                    resultType,
+                    getResult(success, partial, failed),
+                    getResultDetail(resultType, success, pending, partial, failed)));
+          }
+        });
+    return result;
+  }
+
+  private static InjectExpectation.EXPECTATION_STATUS getResult(
+      final long success, final long partial, final long failed) {
+    long scored = success + partial + failed;
+    if (scored == 0) {
+      return InjectExpectation.EXPECTATION_STATUS.PENDING;
+    }
+    if (success == scored) {
+      return InjectExpectation.EXPECTATION_STATUS.SUCCESS;
+    }
+    return failed == scored
+        ? InjectExpectation.EXPECTATION_STATUS.FAILED
+        : InjectExpectation.EXPECTATION_STATUS.PARTIAL;
+  }
+
   // -- NORMALIZED SCORES --
 
   /**
@@ -254,6 +296,15 @@ public class InjectExpectationResultUtils {
     long pendingCount = normalizedScores.stream().filter(Objects::isNull).count();
     long failureCount = normalizedScores.stream().filter(s -> s != null && s.equals(0.0)).count();
 
+    return getResultDetail(type, successCount, pendingCount, partialCount, failureCount);
+  }
+
+  private static List<ResultDistribution> getResultDetail(
+      final ExpectationType type,
+      final long successCount,
+      final long pendingCount,
+      final long partialCount,
+      final long failureCount) {
     return List.of(
         new ResultDistribution(ExpectationType.SUCCESS_ID, type.successLabel, (int) successCount),
         new ResultDistribution(ExpectationType.PENDING_ID, type.pendingLabel, (int) pendingCount),
@@ -0,0 +1,48 @@
+package io.openaev.utils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide cache of the compiled user regexes, such as the rules of the output parsers applied
+ * on every implant callback.
+ *
+ * <p>Patterns are immutable and thread-safe, so a compiled pattern is shared by all the callers.
+ * Invalid regexes are cached too, to be logged and compiled only once.
+ */
+@Slf4j
+public final class PatternCache {
+
+  private static final long MAX_SIZE = 2000;
+
+  private record Key(String regex, int flags) {}
+
+  private static final LoadingCache<Key, Optional<Pattern>> PATTERNS =
+      Caffeine.newBuilder().maximumSize(MAX_SIZE).build(PatternCache::compileKey);
+
+  private PatternCache() {}
+
+  /**
+   * Returns the compiled pattern of a regex, compiling it on its first use
+   *
+   * @param regex the regex
+   * @param flags the match flags, as for {@link Pattern#compile(String, int)}
+   * @return the pattern, or empty if the regex is invalid
+   */
+  public static Optional<Pattern> compile(String regex, int flags) {
+    return PATTERNS.get(new Key(regex, flags));
+  }
+
+  private static Optional<Pattern> compileKey(Key key) {
+    try {
+      return Optional.of(Pattern.compile(key.regex(), key.flags()));
+    } catch (PatternSyntaxException e) {
+      log.info("Invalid regex pattern: {} ({})", key.regex(), e.getMessage());
+      return Optional.empty();
+    }
+  }
+}
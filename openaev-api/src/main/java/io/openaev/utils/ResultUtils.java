@@ -3,13 +3,18 @@ package io.openaev.utils;
 import static java.util.Collections.emptyList;
 
 import io.openaev.database.model.*;
+import io.openaev.database.raw.RawExpectationResultCount;
 import io.openaev.database.raw.RawInjectExpectation;
 import io.openaev.database.repository.InjectExpectationRepository;
+import io.openaev.database.repository.InjectRepository;
 import io.openaev.rest.inject.form.InjectExpectationResultsByAttackPattern;
 import io.openaev.utils.InjectExpectationResultUtils.ExpectationResultsByType;
 import io.openaev.utils.mapper.InjectExpectationMapper;
 import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +39,7 @@ public class ResultUtils {
 
   private final InjectExpectationRepository injectExpectationRepository;
   private final InjectExpectationMapper injectExpectationMapper;
+  private final InjectRepository injectRepository;
 
   /**
    * Computes global expectation results across all specified injects.
@@ -56,6 +62,60 @@ public class ResultUtils {
     return injectExpectationMapper.extractExpectationResultByTypesFromRaw(injectIds, expectations);
   }
 
+  /**
+   * Computes global expectation results of several exercises at once.
+   *
+   * <p>Expectations are counted by the database, by exercise, type and outcome, in a single query
+   * whatever the number of exercises. Exercises without expectations yet (e.g. not started) get the
+   * expectation types defined in the contents of their injects, loaded in a second query.
+   *
+   * @param exerciseIds the IDs of the exercises to compute results for
+   * @return the aggregated results by expectation type, by exercise ID
+   */
+  public Map<String, List<ExpectationResultsByType>> computeGlobalExpectationResultsByExerciseIds(
+      Collection<String> exerciseIds) {
+
+    if (exerciseIds == null || exerciseIds.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<String, List<RawExpectationResultCount>> countsByExerciseIds =
+        injectExpectationRepository
+            .rawGlobalResultCountsByExerciseIds(new HashSet<>(exerciseIds))
+            .stream()
+            .collect(Collectors.groupingBy(RawExpectationResultCount::getExercise_id));
+
+    Set<String> exerciseIdsWithoutCounts =
+        exerciseIds.stream()
+            .filter(exerciseId -> !countsByExerciseIds.containsKey(exerciseId))
+            .collect(Collectors.toSet());
+    Map<String, List<String>> contentsByExerciseIds =
+        exerciseIdsWithoutCounts.isEmpty()
+            ? Map.of()
+            : injectRepository.findContentsByExerciseIds(exerciseIdsWithoutCounts).stream()
+                .collect(
+                    Collectors.groupingBy(
+                        row -> (String) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+
+    Map<String, List<ExpectationResultsByType>> results = new HashMap<>();
+    for (String exerciseId : exerciseIds) {
+      List<RawExpectationResultCount> counts = countsByExerciseIds.get(exerciseId);
+      if (counts != null) {
+        results.put(
+            exerciseId, InjectExpectationResultUtils.getExpectationResultByTypesFromCounts(counts));
+      } else if (contentsByExerciseIds.containsKey(exerciseId)) {
+        results.put(
+            exerciseId,
+            injectExpectationMapper.buildExpectationResultsFromContents(
+                contentsByExerciseIds.get(exerciseId)));
+      } else {
+        results.put(exerciseId, emptyList());
+      }
+    }
+    return results;
+  }
+
   /**
    * Computes global expectation results filtered by a specific security platform.
    *
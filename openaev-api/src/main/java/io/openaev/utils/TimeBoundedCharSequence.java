@@ -0,0 +1,68 @@
+package io.openaev.utils;
+
+import java.time.Duration;
+
+/**
+ * A text bounding the time spent by a regex matching it.
+ *
+ * <p>A {@link java.util.regex.Matcher} reads its input through {@link #charAt(int)}, including
+ * while backtracking, so the deadline is checked there: a pathological regex fails with a {@link
+ * RegexTimeoutException} instead of holding its thread. The clock is only read every few thousand
+ * characters to keep the regular matches as fast as on a plain string.
+ */
+public final class TimeBoundedCharSequence implements CharSequence {
+
+  /** Raised when a match exceeds its time budget. */
+  public static class RegexTimeoutException extends RuntimeException {
+
+    public RegexTimeoutException(Duration budget) {
+      super("Regex match exceeded its time budget of " + budget.toMillis() + " ms");
+    }
+  }
+
+  private static final int CHECK_INTERVAL_MASK = 0xFFF;
+
+  private final String text;
+  private final Duration budget;
+  private long deadline;
+  private int reads;
+
+  /**
+   * @param text the text to match
+   * @param budget the time allowed for each match, starting with {@link #restartBudget()}
+   */
+  public TimeBoundedCharSequence(String text, Duration budget) {
+    this.text = text;
+    this.budget = budget;
+    restartBudget();
+  }
+
+  /** Gives its full budget back to the next match. */
+  public void restartBudget() {
+    this.deadline = System.nanoTime() + budget.toNanos();
+  }
+
+  @Override
+  public char charAt(int index) {
+    if ((++reads & CHECK_INTERVAL_MASK) == 0 && System.nanoTime() - deadline > 0) {
+      throw new RegexTimeoutException(budget);
+    }
+    return text.charAt(index);
+  }
+
+  @Override
+  public int length() {
+    return text.length();
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    // Used to read the groups, once a match is found
+    return text.substring(start, end);
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+}
@@ -0,0 +1,234 @@
+package io.openaev.utils;
+
+import io.openaev.rest.exception.BadRequestException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.xmlbeans.XmlException;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTSheet;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads the sheets of the xls files to import.
+ *
+ * <p>The xlsx files are read as a stream of rows: the XML of the sheet is parsed event by event,
+ * and each row is built in a scratch workbook, handed to the caller, then dropped, so that the
+ * memory used does not depend on the size of the sheet. The legacy xls files, limited to 65536
+ * rows, are still loaded as a whole.
+ */
+public final class XlsSheetReader {
+
+  private XlsSheetReader() {}
+
+  /**
+   * List the names of the sheets of a file, without reading their content
+   *
+   * @param file the xls or xlsx file
+   * @return the names of the sheets, in the order of the workbook
+   */
+  public static List<String> getSheetNames(Path file) throws IOException {
+    if (!isOoxml(file)) {
+      try (Workbook workbook = WorkbookFactory.create(file.toFile(), null, true)) {
+        List<String> sheetNames = new ArrayList<>();
+        workbook.forEach(sheet -> sheetNames.add(sheet.getSheetName()));
+        return sheetNames;
+      }
+    }
+    try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+      return readWorkbook(new XSSFReader(pkg)).getSheets().getSheetList().stream()
+          .map(CTSheet::getName)
+          .toList();
+    } catch (OpenXML4JException | XmlException ex) {
+      throw new IOException("Invalid xlsx file", ex);
+    }
+  }
+
+  /**
+   * Read the rows of a sheet one after the other. A row is only valid during the call of the
+   * consumer, and the empty rows of the file are skipped.
+   *
+   * @param file the xls or xlsx file
+   * @param sheetName the name of the sheet to read
+   * @param rowConsumer the consumer of the rows
+   * @throws BadRequestException if the sheet does not exist
+   */
+  public static void readRows(Path file, String sheetName, Consumer<Row> rowConsumer)
+      throws IOException {
+    if (!isOoxml(file)) {
+      try (Workbook workbook = WorkbookFactory.create(file.toFile(), null, true)) {
+        Sheet sheet = workbook.getSheet(sheetName);
+        if (sheet == null) {
+          throw new BadRequestException("Sheet not found: " + sheetName);
+        }
+        sheet.rowIterator().forEachRemaining(rowConsumer);
+      }
+      return;
+    }
+    try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        XSSFWorkbook scratchWorkbook = new XSSFWorkbook()) {
+      XSSFReader reader = new XSSFReader(pkg);
+      CTWorkbook workbook = readWorkbook(reader);
+      if (workbook.isSetWorkbookPr() && workbook.getWorkbookPr().getDate1904()) {
+        // The dates are serial numbers, so they must be read against the same epoch
+        CTWorkbook scratch = scratchWorkbook.getCTWorkbook();
+        (scratch.isSetWorkbookPr() ? scratch.getWorkbookPr() : scratch.addNewWorkbookPr())
+            .setDate1904(true);
+      }
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+      while (sheets.hasNext()) {
+        try (InputStream sheetData = sheets.next()) {
+          if (sheets.getSheetName().equals(sheetName)) {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(
+                new SheetHandler(
+                    new ReadOnlySharedStringsTable(pkg),
+                    scratchWorkbook.createSheet(),
+                    rowConsumer));
+            xmlReader.parse(new InputSource(sheetData));
+            return;
+          }
+        }
+      }
+      throw new BadRequestException("Sheet not found: " + sheetName);
+    } catch (OpenXML4JException | XmlException | SAXException ex) {
+      throw new IOException("Invalid xlsx file", ex);
+    } catch (ParserConfigurationException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static boolean isOoxml(Path file) throws IOException {
+    return FileMagic.valueOf(file.toFile()) == FileMagic.OOXML;
+  }
+
+  private static CTWorkbook readWorkbook(XSSFReader reader)
+      throws IOException, OpenXML4JException, XmlException {
+    try (InputStream workbookData = reader.getWorkbookData()) {
+      return WorkbookDocument.Factory.parse(workbookData).getWorkbook();
+    }
+  }
+
+  /**
+   * Builds the rows of a sheet from its XML, keeping the cell types of the file: shared and inline
+   * strings, numbers (dates included), booleans and errors. The formulas are read through their
+   * last computed value.
+   */
+  private static final class SheetHandler extends DefaultHandler {
+
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final Sheet scratchSheet;
+    private final Consumer<Row> rowConsumer;
+
+    private final StringBuilder value = new StringBuilder();
+    private Row row;
+    private int nextRowNum;
+    private int nextColumnNum;
+    private String cellReference;
+    private String cellType;
+    private boolean inValue;
+    private boolean hasValue;
+
+    private SheetHandler(
+        ReadOnlySharedStringsTable sharedStrings, Sheet scratchSheet, Consumer<Row> rowConsumer) {
+      this.sharedStrings = sharedStrings;
+      this.scratchSheet = scratchSheet;
+      this.rowConsumer = rowConsumer;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+      switch (localName) {
+        case "row" -> {
+          String rowReference = attributes.getValue("r");
+          int rowNum = rowReference != null ? Integer.parseInt(rowReference) - 1 : nextRowNum;
+          row = scratchSheet.createRow(rowNum);
+          nextRowNum = rowNum + 1;
+          nextColumnNum = 0;
+        }
+        case "c" -> {
+          cellReference = attributes.getValue("r");
+          cellType = attributes.getValue("t");
+          hasValue = false;
+          value.setLength(0);
+        }
+        case "v", "t" -> {
+          inValue = true;
+          hasValue = true;
+        }
+        default -> {
+          // Nothing to read
+        }
+      }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+      if (inValue) {
+        value.append(ch, start, length);
+      }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+      switch (localName) {
+        case "v", "t" -> inValue = false;
+        case "c" -> addCell();
+        case "row" -> {
+          rowConsumer.accept(row);
+          scratchSheet.removeRow(row);
+          row = null;
+        }
+        default -> {
+          // Nothing to read
+        }
+      }
+    }
+
+    private void addCell() {
+      int columnNum =
+          cellReference != null ? new CellReference(cellReference).getCol() : nextColumnNum;
+      nextColumnNum = columnNum + 1;
+      Cell cell = row.createCell(columnNum);
+      if (!hasValue) {
+        return;
+      }
+      String text = value.toString();
+      switch (cellType == null ? "n" : cellType) {
+        case "s" -> cell.setCellValue(sharedStrings.getItemAt(Integer.parseInt(text)).getString());
+        case "inlineStr", "str" -> cell.setCellValue(text);
+        case "b" -> cell.setCellValue("1".equals(text));
+        case "e" -> cell.setCellErrorValue(FormulaError.forString(text).getCode());
+        default -> {
+          if (!text.isEmpty()) {
+            cell.setCellValue(Double.parseDouble(text));
+          }
+        }
+      }
+    }
+  }
+}
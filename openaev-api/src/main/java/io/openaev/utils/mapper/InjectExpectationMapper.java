@@ -185,7 +185,17 @@ public class InjectExpectationMapper {
       @NotNull Set<String> injectIds) {
 
     // Fetch all inject contents in order to extract expectations defined in every inject
-    List<String> rawContents = injectRepository.findContentsByInjectIds(injectIds);
+    return buildExpectationResultsFromContents(injectRepository.findContentsByInjectIds(injectIds));
+  }
+
+  /**
+   * Build InjectResults based on the raw contents of injects
+   *
+   * @param rawContents the JSON contents of the injects
+   * @return List of InjectResultsByType
+   */
+  public List<ExpectationResultsByType> buildExpectationResultsFromContents(
+      @NotNull List<String> rawContents) {
     Set<ExpectationType> foundTypes = new HashSet<>();
 
     for (String contentJson : rawContents) {
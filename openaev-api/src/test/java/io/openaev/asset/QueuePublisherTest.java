@@ -0,0 +1,86 @@
+package io.openaev.asset;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueuePublisherTest {
+
+  private static final byte[] BODY = "{}".getBytes();
+
+  @Mock private ConnectionFactory connectionFactory;
+  @Mock private Connection connection;
+  @Mock private Channel channel;
+
+  @Test
+  @DisplayName("Should reuse the same connection and channel across publishes")
+  void given_several_publishes_should_reuse_connection_and_channel() throws Exception {
+    // -- PREPARE --
+    when(connectionFactory.newConnection(anyString())).thenReturn(connection);
+    when(connection.createChannel()).thenReturn(channel);
+    when(channel.isOpen()).thenReturn(true);
+    QueuePublisher publisher = new QueuePublisher(connectionFactory, 2, 1000);
+
+    // -- EXECUTE --
+    publisher.publish("exchange", "key", BODY);
+    publisher.publish("exchange", "key", BODY);
+
+    // -- ASSERT --
+    verify(connectionFactory, times(1)).newConnection(anyString());
+    verify(connection, times(1)).createChannel();
+    verify(channel, times(1)).confirmSelect();
+    verify(channel, times(2)).basicPublish(eq("exchange"), eq("key"), isNull(), eq(BODY));
+    verify(channel, times(2)).waitForConfirmsOrDie(1000);
+  }
+
+  @Test
+  @DisplayName("Should retry once on a new connection when the connection was lost")
+  void given_lost_connection_should_reconnect_and_retry() throws Exception {
+    // -- PREPARE --
+    Connection newConnection = mock(Connection.class);
+    Channel newChannel = mock(Channel.class);
+    when(connectionFactory.newConnection(anyString())).thenReturn(connection, newConnection);
+    when(connection.isOpen()).thenReturn(false);
+    when(connection.createChannel()).thenReturn(channel);
+    doThrow(new IOException("connection reset"))
+        .when(channel)
+        .basicPublish(anyString(), anyString(), any(), any());
+    when(newConnection.createChannel()).thenReturn(newChannel);
+    when(newChannel.isOpen()).thenReturn(true);
+    QueuePublisher publisher = new QueuePublisher(connectionFactory, 1, 1000);
+
+    // -- EXECUTE --
+    publisher.publish("exchange", "key", BODY);
+
+    // -- ASSERT --
+    verify(connectionFactory, times(2)).newConnection(anyString());
+    verify(newChannel).basicPublish(eq("exchange"), eq("key"), isNull(), eq(BODY));
+    verify(newChannel).waitForConfirmsOrDie(1000);
+  }
+
+  @Test
+  @DisplayName("Should fail when the broker does not confirm the message")
+  void given_nack_should_throw_and_discard_channel() throws Exception {
+    // -- PREPARE --
+    when(connectionFactory.newConnection(anyString())).thenReturn(connection);
+    when(connection.isOpen()).thenReturn(true);
+    when(connection.createChannel()).thenReturn(channel);
+    doThrow(new IOException("nack")).when(channel).waitForConfirmsOrDie(anyLong());
+    QueuePublisher publisher = new QueuePublisher(connectionFactory, 1, 1000);
+
+    // -- EXECUTE & ASSERT --
+    assertThrows(IOException.class, () -> publisher.publish("exchange", "key", BODY));
+    verify(connectionFactory, times(1)).newConnection(anyString());
+  }
+}
@@ -0,0 +1,104 @@
+package io.openaev.collectors.expectations_expiration_manager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.openaev.collectors.expectations_expiration_manager.config.ExpectationsExpirationManagerConfig;
+import io.openaev.database.model.*;
+import io.openaev.rest.collector.service.CollectorService;
+import io.openaev.rest.inject.form.InjectExpectationUpdateInput;
+import io.openaev.service.InjectExpectationService;
+import io.openaev.utils.fixtures.AgentFixture;
+import io.openaev.utils.fixtures.CollectorFixture;
+import io.openaev.utils.fixtures.EndpointFixture;
+import io.openaev.utils.fixtures.InjectExpectationFixture;
+import io.openaev.utils.fixtures.InjectFixture;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExpectationsExpirationManagerServiceUnitTest {
+
+  @Mock private InjectExpectationService injectExpectationService;
+  @Mock private CollectorService collectorService;
+
+  private ExpectationsExpirationManagerService service() {
+    ExpectationsExpirationManagerConfig config = new ExpectationsExpirationManagerConfig();
+    when(collectorService.collector(config.getId()))
+        .thenReturn(CollectorFixture.createDefaultCollector(config.getId()));
+    return new ExpectationsExpirationManagerService(
+        injectExpectationService, config, collectorService);
+  }
+
+  @Test
+  @DisplayName("Should only load the expired expectations, by batches")
+  void given_expired_ids_should_load_them_by_batches() {
+    // -- PREPARE --
+    ExpectationsExpirationManagerService service = service();
+    int count = ExpectationsExpirationManagerService.BATCH_SIZE + 500;
+    List<String> ids = IntStream.range(0, count).mapToObj(String::valueOf).toList();
+    when(injectExpectationService.expiredExpectationIdsNotFilled(
+            ExpectationsExpirationManagerService.MAX_EXPECTATIONS_PER_RUN))
+        .thenReturn(ids);
+    when(injectExpectationService.findAllById(any())).thenReturn(List.of());
+
+    // -- EXECUTE --
+    service.computeExpectations();
+
+    // -- ASSERT --
+    ArgumentCaptor<List<String>> batches = ArgumentCaptor.forClass(List.class);
+    verify(injectExpectationService, times(2)).findAllById(batches.capture());
+    assertEquals(
+        ExpectationsExpirationManagerService.BATCH_SIZE, batches.getAllValues().get(0).size());
+    assertEquals(500, batches.getAllValues().get(1).size());
+  }
+
+  @Test
+  @DisplayName("Should expire the agent expectations of a batch together")
+  void given_expired_agent_expectations_should_compute_them_together() {
+    // -- PREPARE --
+    ExpectationsExpirationManagerService service = service();
+    Inject inject = InjectFixture.getDefaultInject();
+    Endpoint endpoint = EndpointFixture.createEndpoint();
+    InjectExpectation first = expiredAgentExpectation(inject, endpoint, "first");
+    InjectExpectation second = expiredAgentExpectation(inject, endpoint, "second");
+    when(injectExpectationService.expiredExpectationIdsNotFilled(anyInt()))
+        .thenReturn(List.of("first", "second"));
+    when(injectExpectationService.findAllById(any())).thenReturn(List.of(first, second));
+
+    // -- EXECUTE --
+    service.computeExpectations();
+
+    // -- ASSERT --
+    ArgumentCaptor<Map<InjectExpectation, InjectExpectationUpdateInput>> inputs =
+        ArgumentCaptor.forClass(Map.class);
+    verify(injectExpectationService, times(1))
+        .computeTechnicalExpectations(inputs.capture(), any(Collector.class), eq(true));
+    assertEquals(List.of(first, second), List.copyOf(inputs.getValue().keySet()));
+    assertTrue(
+        inputs.getValue().values().stream().noneMatch(InjectExpectationUpdateInput::getIsSuccess));
+  }
+
+  private static InjectExpectation expiredAgentExpectation(
+      Inject inject, Endpoint endpoint, String id) {
+    InjectExpectation expectation =
+        InjectExpectationFixture.createDetectionInjectExpectation(
+            inject, AgentFixture.createAgent(endpoint, id));
+    expectation.setId(id);
+    expectation.setAsset(endpoint);
+    expectation.setExpirationTime(60L);
+    expectation.setCreatedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+    return expectation;
+  }
+}
@@ -0,0 +1,32 @@
+package io.openaev.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkBatchesTest {
+
+  @Test
+  @DisplayName("Should cap batches by number of documents")
+  void given_documents_should_split_by_count() {
+    // -- EXECUTE --
+    List<List<String>> batches =
+        BulkBatches.split(List.of("a", "b", "c", "d", "e"), 2, Long.MAX_VALUE, doc -> 1);
+
+    // -- ASSERT --
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), batches);
+  }
+
+  @Test
+  @DisplayName("Should cap batches by size and send an oversized document alone")
+  void given_documents_should_split_by_bytes() {
+    // -- EXECUTE --
+    List<List<String>> batches =
+        BulkBatches.split(List.of("aa", "bbbbbb", "c", "dd"), 10, 4, String::length);
+
+    // -- ASSERT --
+    assertEquals(List.of(List.of("aa"), List.of("bbbbbb"), List.of("c", "dd")), batches);
+  }
+}
@@ -0,0 +1,60 @@
+package io.openaev.engine;
+
+import static io.openaev.database.audit.ModelBaseListener.DATA_DELETE;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import io.openaev.config.EngineConfig;
+import io.openaev.database.audit.IndexEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EngineListenerTest {
+
+  @Mock private EngineService engineService;
+
+  private EngineListener engineListener;
+
+  @BeforeEach
+  void setUp() {
+    EngineConfig engineConfig = new EngineConfig();
+    engineConfig.setBulkDeleteMaxIds(3);
+    engineListener = new EngineListener();
+    engineListener.setEsService(engineService);
+    engineListener.setEngineConfig(engineConfig);
+  }
+
+  @Test
+  @DisplayName("Should combine the deletions of a window into one bulk delete")
+  void given_deletions_should_send_one_bulk_delete_on_flush() {
+    // -- EXECUTE --
+    engineListener.listenIndexEvent(new IndexEvent(DATA_DELETE, "a"));
+    engineListener.listenIndexEvent(new IndexEvent(DATA_DELETE, "b"));
+    engineListener.listenIndexEvent(new IndexEvent(DATA_DELETE, "a"));
+
+    // -- ASSERT --
+    verify(engineService, never()).bulkDelete(anyList());
+    engineListener.flush();
+    verify(engineService, times(1)).bulkDelete(List.of("a", "b"));
+    engineListener.flush();
+    verifyNoMoreInteractions(engineService);
+  }
+
+  @Test
+  @DisplayName("Should flush as soon as the buffer is full")
+  void given_full_buffer_should_flush_immediately() {
+    // -- EXECUTE --
+    engineListener.listenIndexEvent(new IndexEvent(DATA_DELETE, "a"));
+    engineListener.listenIndexEvent(new IndexEvent(DATA_DELETE, "b"));
+    engineListener.listenIndexEvent(new IndexEvent(DATA_DELETE, "c"));
+
+    // -- ASSERT --
+    verify(engineService, times(1)).bulkDelete(List.of("a", "b", "c"));
+  }
+}
@@ -0,0 +1,98 @@
+package io.openaev.engine;
+
+import static io.openaev.utils.Constants.INDEXING_RECORD_SET_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.openaev.engine.model.tag.EsTag;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HandlerTest {
+
+  private static final Instant BULK_UPDATE = Instant.parse("2025-01-01T00:00:00Z");
+
+  /** Fetches in memory documents the way the findForIndexing queries do. */
+  private record InMemoryHandler(List<EsTag> rows) implements Handler<EsTag> {
+
+    private static final Comparator<EsTag> ORDER =
+        Comparator.comparing(EsTag::getBase_updated_at).thenComparing(EsTag::getBase_id);
+
+    @Override
+    public List<EsTag> fetch(Instant from, String fromId) {
+      EsTag cursor =
+          tag(fromId != null ? fromId : "", from != null ? from : Instant.ofEpochMilli(0));
+      return rows.stream()
+          .filter(row -> ORDER.compare(row, cursor) > 0)
+          .sorted(ORDER)
+          .limit(INDEXING_RECORD_SET_SIZE)
+          .toList();
+    }
+  }
+
+  @Test
+  @DisplayName("Should fetch all the documents updated at the same time, across pages")
+  void given_documents_with_same_updated_at_should_fetch_them_all() {
+    // -- PREPARE --
+    List<EsTag> rows = new ArrayList<>();
+    for (int i = 0; i < INDEXING_RECORD_SET_SIZE * 2 + 10; i++) {
+      rows.add(tag("tag" + String.format("%04d", i), BULK_UPDATE));
+    }
+    rows.add(tag("later", BULK_UPDATE.plusSeconds(1)));
+
+    // -- EXECUTE --
+    Set<String> fetched = new LinkedHashSet<>();
+    new InMemoryHandler(rows)
+        .fetchPages(new IndexingCursor(null, null))
+        .forEach(page -> page.forEach(tag -> fetched.add(tag.getBase_id())));
+
+    // -- ASSERT --
+    assertEquals(rows.size(), fetched.size());
+  }
+
+  @Test
+  @DisplayName("Should resume a full page before its last document, whose rows may continue")
+  void given_full_page_should_resume_before_last_document() {
+    // -- PREPARE --
+    List<EsTag> page = new ArrayList<>();
+    for (int i = 0; i < INDEXING_RECORD_SET_SIZE - 2; i++) {
+      page.add(tag("tag" + String.format("%04d", i), BULK_UPDATE));
+    }
+    page.add(tag("multi", BULK_UPDATE.plusSeconds(1)));
+    page.add(tag("multi", BULK_UPDATE.plusSeconds(1)));
+
+    // -- EXECUTE --
+    IndexingCursor cursor = IndexingCursor.after(page);
+
+    // -- ASSERT --
+    assertEquals(
+        new IndexingCursor(
+            BULK_UPDATE, "tag" + String.format("%04d", INDEXING_RECORD_SET_SIZE - 3)),
+        cursor);
+  }
+
+  @Test
+  @DisplayName("Should resume a partial page after its last document")
+  void given_partial_page_should_resume_after_last_document() {
+    // -- PREPARE --
+    List<EsTag> page = List.of(tag("first", BULK_UPDATE), tag("last", BULK_UPDATE));
+
+    // -- EXECUTE --
+    IndexingCursor cursor = IndexingCursor.after(page);
+
+    // -- ASSERT --
+    assertEquals(new IndexingCursor(BULK_UPDATE, "last"), cursor);
+  }
+
+  private static EsTag tag(String id, Instant updatedAt) {
+    EsTag tag = new EsTag();
+    tag.setBase_id(id);
+    tag.setBase_updated_at(updatedAt);
+    return tag;
+  }
+}
@@ -90,6 +90,34 @@ public class CrowdstrikeExecutorServiceTest {
     assertEquals(HOST_GROUP_CS, assetGroupCaptor.getValue().getExternalReference());
   }
 
+  @Test
+  void test_run_crowdstrike_without_asset_group_change() {
+    // Init datas
+    ResourcesGroups resourcesGroups = new ResourcesGroups();
+    CrowdStrikeHostGroup crowdstrikeHostGroup = new CrowdStrikeHostGroup();
+    crowdstrikeHostGroup.setId(HOST_GROUP_CS);
+    crowdstrikeHostGroup.setName("crowdstrike");
+    resourcesGroups.setResources(List.of(crowdstrikeHostGroup));
+    AssetGroup assetGroup = new AssetGroup();
+    assetGroup.setId("assetGroup");
+    assetGroup.setName("crowdstrike");
+    assetGroup.setExternalReference(HOST_GROUP_CS);
+    Endpoint endpoint = EndpointFixture.createEndpoint();
+    endpoint.setId("endpoint");
+    when(config.getHostGroup()).thenReturn(HOST_GROUP_CS);
+    when(client.hostGroup(HOST_GROUP_CS)).thenReturn(resourcesGroups);
+    when(client.devices(HOST_GROUP_CS)).thenReturn(List.of(crowdstrikeAgent));
+    when(assetGroupService.findByExternalReference(HOST_GROUP_CS))
+        .thenReturn(Optional.of(assetGroup));
+    when(endpointService.syncAgentsEndpoints(any(), any()))
+        .thenReturn(List.of(AgentFixture.createAgent(endpoint, "ref")));
+    when(assetGroupService.assetIdsFromAssetGroup("assetGroup")).thenReturn(Set.of("endpoint"));
+    // Run method to test
+    crowdStrikeExecutorService.run();
+    // Asserts
+    verify(assetGroupService, never()).createOrUpdateAssetGroupWithoutDynamicAssets(any());
+  }
+
   @Test
   void test_launchBatchExecutorSubprocess_crowdstrike()
       throws JsonProcessingException, InterruptedException {
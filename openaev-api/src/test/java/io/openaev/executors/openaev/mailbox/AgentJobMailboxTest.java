@@ -0,0 +1,60 @@
+package io.openaev.executors.openaev.mailbox;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AgentJobMailboxTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+  private static final AgentJobMailbox.Key KEY =
+      new AgentJobMailbox.Key("ref", "service", "admin", "root");
+
+  @Test
+  @DisplayName("Should trust an empty mailbox until a job is notified")
+  void given_empty_mailbox_should_skip_until_notified() {
+    // -- PREPARE --
+    AgentJobMailbox mailbox = new AgentJobMailbox(Duration.ofSeconds(30));
+    assertTrue(mailbox.mayHaveJobs(KEY, NOW));
+
+    // -- EXECUTE --
+    mailbox.markEmpty(KEY, mailbox.openPoll(), NOW);
+
+    // -- ASSERT --
+    assertFalse(mailbox.mayHaveJobs(KEY, NOW.plusSeconds(10)));
+    mailbox.notifyJob(KEY);
+    assertTrue(mailbox.mayHaveJobs(KEY, NOW.plusSeconds(10)));
+  }
+
+  @Test
+  @DisplayName("Should not mark a mailbox empty when a job was notified during the poll")
+  void given_job_notified_during_poll_should_keep_mailbox_open() {
+    // -- PREPARE --
+    AgentJobMailbox mailbox = new AgentJobMailbox(Duration.ofSeconds(30));
+    long ticket = mailbox.openPoll();
+
+    // -- EXECUTE --
+    mailbox.notifyJob(KEY);
+    mailbox.markEmpty(KEY, ticket, NOW);
+
+    // -- ASSERT --
+    assertTrue(mailbox.mayHaveJobs(KEY, NOW));
+  }
+
+  @Test
+  @DisplayName("Should read the database again once the empty mark is stale")
+  void given_stale_empty_mark_should_reopen_mailbox() {
+    // -- PREPARE --
+    AgentJobMailbox mailbox = new AgentJobMailbox(Duration.ofSeconds(30));
+
+    // -- EXECUTE --
+    mailbox.markEmpty(KEY, mailbox.openPoll(), NOW);
+
+    // -- ASSERT --
+    assertTrue(mailbox.mayHaveJobs(KEY, NOW.plusSeconds(31)));
+  }
+}
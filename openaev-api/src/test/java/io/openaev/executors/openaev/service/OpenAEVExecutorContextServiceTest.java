@@ -0,0 +1,81 @@
+package io.openaev.executors.openaev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import io.openaev.database.model.*;
+import io.openaev.database.repository.AssetAgentJobRepository;
+import io.openaev.executors.ExecutorService;
+import io.openaev.rest.domain.enums.PresetDomain;
+import io.openaev.utils.fixtures.*;
+import java.util.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OpenAEVExecutorContextServiceTest {
+
+  @Mock private AssetAgentJobRepository assetAgentJobRepository;
+  @Mock private ExecutorService executorService;
+
+  private Agent agent(String id, Endpoint endpoint) {
+    Agent agent = AgentFixture.createDefaultAgentSession();
+    agent.setId(id);
+    agent.setAsset(endpoint);
+    return agent;
+  }
+
+  @Test
+  @DisplayName("Should create all the jobs in one batch and trace the agents in error")
+  void given_agents_should_save_jobs_and_error_traces_in_batch() throws Exception {
+    // -- PREPARE --
+    Command payloadCommand =
+        PayloadFixture.createCommand(
+            "cmd", "whoami", List.of(), "whoami", new HashSet<>(Set.of(PresetDomain.TOCLASSIFY)));
+    Injector injector = InjectorFixture.createDefaultPayloadInjector();
+    injector.setExecutorCommands(
+        Map.of(
+            Endpoint.PLATFORM_TYPE.Windows.name() + "." + Endpoint.PLATFORM_ARCH.x86_64.name(),
+            "run #{inject} #{agent}"));
+    Endpoint windows =
+        EndpointFixture.createDefaultWindowsEndpointWithArch(Endpoint.PLATFORM_ARCH.x86_64);
+    Endpoint linux =
+        EndpointFixture.createDefaultLinuxEndpointWithArch(Endpoint.PLATFORM_ARCH.arm64);
+    Inject inject =
+        InjectFixture.createTechnicalInject(
+            InjectorContractFixture.createPayloadInjectorContract(injector, payloadCommand),
+            "Inject",
+            windows);
+    inject.setId("inject");
+    Agent first = agent("first", windows);
+    Agent second = agent("second", windows);
+    Agent unsupported = agent("unsupported", linux);
+    InjectStatus injectStatus = InjectStatusFixture.createPendingInjectStatus();
+    when(executorService.manageWithoutPlatformAgents(anyList(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    OpenAEVExecutorContextService service =
+        new OpenAEVExecutorContextService(assetAgentJobRepository, executorService);
+
+    // -- EXECUTE --
+    List<Agent> launched =
+        service.launchBatchExecutorSubprocess(
+            inject, new LinkedHashSet<>(List.of(first, second, unsupported)), injectStatus);
+
+    // -- ASSERT --
+    ArgumentCaptor<List<AssetAgentJob>> jobs = ArgumentCaptor.forClass(List.class);
+    verify(assetAgentJobRepository, times(1)).saveAll(jobs.capture());
+    assertEquals(
+        List.of("run inject first", "run inject second"),
+        jobs.getValue().stream().map(AssetAgentJob::getCommand).toList());
+    assertEquals(List.of(first, second), launched);
+    ArgumentCaptor<Map<Agent, String>> errors = ArgumentCaptor.forClass(Map.class);
+    verify(executorService).saveAgentsErrorTraces(errors.capture(), eq(injectStatus));
+    assertEquals(Set.of(unsupported), errors.getValue().keySet());
+  }
+}
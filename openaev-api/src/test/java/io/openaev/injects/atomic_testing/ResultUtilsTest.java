@@ -43,7 +43,8 @@ class ResultUtilsTest extends IntegrationTest {
   void before() {
     injectExpectationMapper =
         new InjectExpectationMapper(injectRepository, objectMapper, injectUtils);
-    resultUtils = new ResultUtils(injectExpectationRepository, injectExpectationMapper);
+    resultUtils =
+        new ResultUtils(injectExpectationRepository, injectExpectationMapper, injectRepository);
   }
 
   @Test
@@ -367,6 +367,37 @@ class DashboardApiTest extends IntegrationTest {
       assertThatJson(response).node("difference_count").isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("Count entities of a request without body.")
+    void countEntitiesWithoutBody() throws Exception {
+      endpointComposer.forEndpoint(EndpointFixture.createEndpoint()).persist();
+      Widget widget =
+          widgetComposer
+              .forWidget(WidgetFixture.createNumberWidgetWithEntity("endpoint"))
+              .withCustomDashboard(
+                  customDashboardComposer.forCustomDashboard(
+                      CustomDashboardFixture.createCustomDashboardWithDefaultParams()))
+              .persist()
+              .get();
+
+      // force persistence
+      entityManager.flush();
+      entityManager.clear();
+      engineService.bulkProcessing(engineContext.getModels().stream());
+      // elastic needs to process the data; it does so async, so the method above
+      // completes before the data is available in the system
+      Thread.sleep(1000);
+
+      String response =
+          mvc.perform(post(DASHBOARD_URI + "/count/" + widget.getId()))
+              .andExpect(status().isOk())
+              .andReturn()
+              .getResponse()
+              .getContentAsString();
+
+      assertThatJson(response).node("interval_count").isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Count all entities with specific filter.")
     void countAllEntitiesWithSpecificFilter() throws Exception {
@@ -0,0 +1,155 @@
+package io.openaev.rest.dashboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.database.model.CustomDashboard;
+import io.openaev.database.model.IndexingStatus;
+import io.openaev.database.model.Widget;
+import io.openaev.database.raw.RawUserAuth;
+import io.openaev.database.repository.CustomDashboardRepository;
+import io.openaev.database.repository.IndexingStatusRepository;
+import io.openaev.database.repository.UserRepository;
+import io.openaev.engine.EngineService;
+import io.openaev.engine.query.EsCountInterval;
+import io.openaev.rest.custom_dashboard.WidgetService;
+import io.openaev.service.EsAttackPathService;
+import io.openaev.service.EsSecurityDomainService;
+import io.openaev.utils.fixtures.CustomDashboardFixture;
+import io.openaev.utils.fixtures.WidgetFixture;
+import io.openaev.utils.mapper.RawUserAuthMapper;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+  private static final Instant INDEXING = Instant.parse("2025-01-01T00:00:00Z");
+
+  @Mock private EsAttackPathService esAttackPathService;
+  @Mock private EngineService engineService;
+  @Mock private UserRepository userRepository;
+  @Mock private WidgetService widgetService;
+  @Mock private EsSecurityDomainService esSecurityDomainService;
+  @Mock private RawUserAuthMapper rawUserAuthMapper;
+  @Mock private CustomDashboardRepository customDashboardRepository;
+  @Mock private IndexingStatusRepository indexingStatusRepository;
+  @Mock private RawUserAuth user;
+
+  private DashboardService dashboardService;
+  private Widget widget;
+
+  @BeforeEach
+  void setUp() {
+    dashboardService =
+        new DashboardService(
+            esAttackPathService,
+            engineService,
+            userRepository,
+            widgetService,
+            esSecurityDomainService,
+            rawUserAuthMapper,
+            customDashboardRepository,
+            indexingStatusRepository,
+            new ObjectMapper());
+    CustomDashboard dashboard = CustomDashboardFixture.createDefaultCustomDashboard();
+    dashboard.setId("dashboard");
+    widget = WidgetFixture.createNumberWidgetWithEntity("finding");
+    widget.setId("widget");
+    widget.setCustomDashboard(dashboard);
+    dashboard.setWidgets(List.of(widget));
+    when(rawUserAuthMapper.toRawUserAuth(any())).thenReturn(user);
+    when(user.getUser_admin()).thenReturn(true);
+    when(engineService.count(any(), any())).thenReturn(new EsCountInterval(1L, 0L, 1L));
+  }
+
+  private static IndexingStatus indexingStatus(String type, Instant lastIndexing) {
+    IndexingStatus status = new IndexingStatus();
+    status.setType(type);
+    status.setLastIndexing(lastIndexing);
+    return status;
+  }
+
+  @Test
+  @DisplayName("Should reuse the widget result while its model is not indexed again")
+  void given_same_widget_and_indexing_should_reuse_result() {
+    // -- PREPARE --
+    when(widgetService.widget("widget")).thenReturn(widget);
+    when(indexingStatusRepository.findAll())
+        .thenReturn(
+            List.of(indexingStatus("finding", INDEXING), indexingStatus("inject", INDEXING)),
+            List.of(
+                indexingStatus("finding", INDEXING),
+                indexingStatus("inject", INDEXING.plusSeconds(60))));
+
+    // -- EXECUTE --
+    dashboardService.count("widget", Map.of());
+    EsCountInterval count = dashboardService.count("widget", Map.of());
+
+    // -- ASSERT --
+    assertEquals(1L, count.getIntervalCount());
+    verify(engineService, times(1)).count(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should compute the widget result again once its model is indexed again")
+  void given_new_indexing_of_widget_model_should_compute_result_again() {
+    // -- PREPARE --
+    when(widgetService.widget("widget")).thenReturn(widget);
+    when(indexingStatusRepository.findAll())
+        .thenReturn(
+            List.of(indexingStatus("finding", INDEXING)),
+            List.of(indexingStatus("finding", INDEXING.plusSeconds(60))));
+
+    // -- EXECUTE --
+    dashboardService.count("widget", Map.of());
+    dashboardService.count("widget", Map.of());
+
+    // -- ASSERT --
+    verify(engineService, times(2)).count(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should render all the widgets of a dashboard in a single call")
+  void given_dashboard_should_render_its_widgets() throws Exception {
+    // -- PREPARE --
+    when(customDashboardRepository.findById("dashboard"))
+        .thenReturn(Optional.of(widget.getCustomDashboard()));
+    when(indexingStatusRepository.findAll()).thenReturn(List.of());
+
+    // -- EXECUTE --
+    Map<String, Object> results = dashboardService.render("dashboard", null);
+
+    // -- ASSERT --
+    assertEquals(List.of("widget"), List.copyOf(results.keySet()));
+    assertEquals(1L, ((EsCountInterval) results.get("widget")).getIntervalCount());
+    verify(widgetService, never()).widget(any());
+    verify(userRepository, times(1)).getUserWithAuth(any());
+  }
+
+  @Test
+  @DisplayName("Should cache the widget result of a request without parameters")
+  void given_no_parameters_should_cache_widget_result() {
+    // -- PREPARE --
+    when(widgetService.widget("widget")).thenReturn(widget);
+    when(indexingStatusRepository.findAll()).thenReturn(List.of());
+
+    // -- EXECUTE --
+    dashboardService.count("widget", null);
+    EsCountInterval count = dashboardService.count("widget", null);
+
+    // -- ASSERT --
+    assertEquals(1L, count.getIntervalCount());
+    verify(engineService, times(1)).count(any(), any());
+  }
+}
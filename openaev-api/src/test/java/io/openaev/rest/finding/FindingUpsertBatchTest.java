@@ -0,0 +1,113 @@
+package io.openaev.rest.finding;
+
+import static io.openaev.utils.fixtures.OutputParserFixture.getDefaultContractOutputElement;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.openaev.database.model.Asset;
+import io.openaev.database.model.ContractOutputElement;
+import io.openaev.database.repository.FindingRepository;
+import io.openaev.utils.fixtures.AssetFixture;
+import io.openaev.utils.fixtures.TagFixture;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FindingUpsertBatchTest {
+
+  private static final String INJECT_ID = "inject";
+
+  @Mock private FindingRepository findingRepository;
+
+  @Test
+  @DisplayName("Should save a finding found several times once, with all its assets and tags")
+  void given_duplicated_findings_should_merge_them() {
+    // -- PREPARE --
+    ContractOutputElement element = getDefaultContractOutputElement();
+    element.setTags(Set.of(TagFixture.getTag("tag")));
+    FindingUpsertBatch batch = new FindingUpsertBatch(INJECT_ID);
+    batch.add(element, "::1", asset("asset1"));
+    batch.add(element, "::2", asset("asset1"));
+    batch.add(element, "::1", asset("asset2"));
+    batch.add(element, "::1", null);
+
+    // -- EXECUTE --
+    batch.save(findingRepository);
+
+    // -- ASSERT --
+    ArgumentCaptor<String[]> values = ArgumentCaptor.forClass(String[].class);
+    ArgumentCaptor<String[]> assetFindingValues = ArgumentCaptor.forClass(String[].class);
+    ArgumentCaptor<String[]> assetIds = ArgumentCaptor.forClass(String[].class);
+    ArgumentCaptor<String[]> tagFindingValues = ArgumentCaptor.forClass(String[].class);
+    ArgumentCaptor<String[]> tagIds = ArgumentCaptor.forClass(String[].class);
+    verify(findingRepository, times(1))
+        .saveCompleteFindings(
+            eq(INJECT_ID),
+            any(),
+            any(),
+            values.capture(),
+            any(),
+            any(),
+            any(),
+            assetFindingValues.capture(),
+            assetIds.capture(),
+            any(),
+            any(),
+            tagFindingValues.capture(),
+            tagIds.capture());
+    assertArrayEquals(new String[] {"::1", "::2"}, values.getValue());
+    assertArrayEquals(new String[] {"::1", "::1", "::2"}, assetFindingValues.getValue());
+    assertArrayEquals(new String[] {"asset1", "asset2", "asset1"}, assetIds.getValue());
+    assertArrayEquals(new String[] {"::1", "::2"}, tagFindingValues.getValue());
+    assertArrayEquals(new String[] {"tag", "tag"}, tagIds.getValue());
+  }
+
+  @Test
+  @DisplayName("Should save the findings by chunks")
+  void given_many_findings_should_save_them_by_chunks() {
+    // -- PREPARE --
+    ContractOutputElement element = getDefaultContractOutputElement();
+    FindingUpsertBatch batch = new FindingUpsertBatch(INJECT_ID);
+    for (int i = 0; i < FindingUpsertBatch.CHUNK_SIZE + 10; i++) {
+      batch.add(element, "::" + i, asset("asset1"));
+    }
+
+    // -- EXECUTE --
+    batch.save(findingRepository);
+
+    // -- ASSERT --
+    ArgumentCaptor<String[]> values = ArgumentCaptor.forClass(String[].class);
+    verify(findingRepository, times(2))
+        .saveCompleteFindings(
+            eq(INJECT_ID),
+            any(),
+            any(),
+            values.capture(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any());
+    assertEquals(FindingUpsertBatch.CHUNK_SIZE, values.getAllValues().get(0).length);
+    assertEquals(10, values.getAllValues().get(1).length);
+  }
+
+  private static Asset asset(String id) {
+    Asset asset = AssetFixture.createDefaultAsset(id);
+    asset.setId(id);
+    return asset;
+  }
+}
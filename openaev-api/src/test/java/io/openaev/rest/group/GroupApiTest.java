@@ -3,27 +3,41 @@ package io.openaev.rest.group;
 import static io.openaev.utils.JsonTestUtils.asJsonString;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.jayway.jsonpath.JsonPath;
 import io.openaev.IntegrationTest;
+import io.openaev.database.model.Grant;
 import io.openaev.database.model.Group;
 import io.openaev.database.model.Role;
+import io.openaev.database.model.Scenario;
+import io.openaev.database.model.User;
 import io.openaev.database.repository.GroupRepository;
 import io.openaev.database.repository.RoleRepository;
 import io.openaev.rest.group.form.GroupCreateInput;
 import io.openaev.rest.group.form.GroupUpdateRolesInput;
+import io.openaev.rest.stream.StreamPermissionCache;
+import io.openaev.utils.fixtures.GrantFixture;
 import io.openaev.utils.fixtures.GroupFixture;
 import io.openaev.utils.fixtures.RoleFixture;
+import io.openaev.utils.fixtures.ScenarioFixture;
+import io.openaev.utils.fixtures.UserFixture;
+import io.openaev.utils.fixtures.composers.GrantComposer;
 import io.openaev.utils.fixtures.composers.GroupComposer;
+import io.openaev.utils.fixtures.composers.ScenarioComposer;
+import io.openaev.utils.fixtures.composers.UserComposer;
 import io.openaev.utils.mockUser.WithMockUser;
 import java.util.List;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,9 +56,20 @@ public class GroupApiTest extends IntegrationTest {
 
   @Autowired private GroupComposer groupComposer;
 
+  @Autowired private GrantComposer grantComposer;
+
+  @Autowired private UserComposer userComposer;
+
+  @Autowired private ScenarioComposer scenarioComposer;
+
+  @Autowired private StreamPermissionCache streamPermissionCache;
+
   @BeforeEach
   void setup() {
     groupComposer.reset();
+    grantComposer.reset();
+    userComposer.reset();
+    scenarioComposer.reset();
   }
 
   @Nested
@@ -176,4 +201,47 @@ public class GroupApiTest extends IntegrationTest {
           .andExpect(status().isNotFound());
     }
   }
+
+  @Nested
+  @DisplayName("Delete grant")
+  class DeleteGrant {
+    @Test
+    @DisplayName("Should revoke the stream access of the group members once the grant is deleted")
+    void given_deleted_grant_should_revoke_stream_access() throws Exception {
+      // -- PREPARE --
+      Scenario scenario =
+          scenarioComposer.forScenario(ScenarioFixture.getScenario()).persist().get();
+      GrantComposer.Composer grantWrapper =
+          grantComposer.forGrant(
+              GrantFixture.getGrantForScenario(scenario, Grant.GRANT_TYPE.OBSERVER));
+      GroupComposer.Composer groupWrapper =
+          groupComposer.forGroup(GroupFixture.createGroup()).withGrant(grantWrapper);
+      User user =
+          userComposer
+              .forUser(UserFixture.getUserWithDefaultEmail())
+              .withGroup(groupWrapper)
+              .persist()
+              .get();
+      // The cache is refreshed by after commit events
+      TestTransaction.flagForCommit();
+      TestTransaction.end();
+      TestTransaction.start();
+      assertTrue(streamPermissionCache.canRead(user.getId(), scenario));
+      TestTransaction.end();
+
+      // -- EXECUTE --
+      mvc.perform(
+              delete(
+                  GROUP_URI
+                      + "/"
+                      + groupWrapper.get().getId()
+                      + "/grants/"
+                      + grantWrapper.get().getId()))
+          .andExpect(status().is2xxSuccessful());
+
+      // -- ASSERT --
+      TestTransaction.start();
+      assertFalse(streamPermissionCache.canRead(user.getId(), scenario));
+    }
+  }
 }
@@ -0,0 +1,56 @@
+package io.openaev.rest.helper.queue;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChannelAcknowledgerTest {
+
+  @Mock private Channel channel;
+
+  @Test
+  @DisplayName("Should acknowledge a whole batch with a single multiple ack")
+  void given_processed_batch_should_ack_it_at_once() throws IOException {
+    // -- PREPARE --
+    ChannelAcknowledger acknowledger = new ChannelAcknowledger(channel);
+    List.of(1L, 2L, 3L).forEach(acknowledger::received);
+
+    // -- EXECUTE --
+    acknowledger.settle(List.of(1L, 2L, 3L), List.of());
+
+    // -- ASSERT --
+    verify(channel, times(1)).basicAck(3L, true);
+    verifyNoMoreInteractions(channel);
+  }
+
+  @Test
+  @DisplayName("Should not acknowledge past a delivery still being processed by another worker")
+  void given_older_pending_delivery_should_wait_before_ack() throws IOException {
+    // -- PREPARE --
+    ChannelAcknowledger acknowledger = new ChannelAcknowledger(channel);
+    List.of(1L, 2L, 3L, 4L).forEach(acknowledger::received);
+
+    // -- EXECUTE --
+    acknowledger.settle(List.of(3L, 4L), List.of());
+    acknowledger.settle(List.of(1L), List.of());
+    acknowledger.settle(List.of(), List.of(2L));
+
+    // -- ASSERT --
+    InOrder inOrder = inOrder(channel);
+    inOrder.verify(channel).basicAck(1L, true);
+    inOrder.verify(channel).basicReject(2L, false);
+    inOrder.verify(channel).basicAck(4L, true);
+    verify(channel, times(2)).basicAck(anyLong(), anyBoolean());
+  }
+}
@@ -0,0 +1,73 @@
+package io.openaev.rest.inject.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import io.openaev.database.model.Agent;
+import io.openaev.database.model.ExecutionTrace;
+import io.openaev.database.model.InjectStatus;
+import io.openaev.database.repository.AgentRepository;
+import io.openaev.database.repository.InjectStatusRepository;
+import io.openaev.rest.inject.form.InjectImplantStart;
+import io.openaev.service.InjectExpectationService;
+import io.openaev.utils.fixtures.AgentFixture;
+import io.openaev.utils.fixtures.InjectStatusFixture;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingInjectStatusServiceTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+  @Mock private AgentRepository agentRepository;
+  @Mock private InjectStatusRepository injectStatusRepository;
+  @Mock private InjectExpectationService injectExpectationService;
+  @InjectMocks private BatchingInjectStatusService batchingInjectStatusService;
+
+  private static Agent agent(String id) {
+    Agent agent = AgentFixture.createDefaultAgentService();
+    agent.setId(id);
+    return agent;
+  }
+
+  private static InjectImplantStart start(String injectId, String agentId) {
+    return InjectImplantStart.builder().injectId(injectId).agentId(agentId).startDate(NOW).build();
+  }
+
+  @Test
+  @DisplayName("Should write the implant starts of an inject with a single status update")
+  void given_starts_of_same_inject_should_update_status_once() {
+    // -- PREPARE --
+    InjectStatus injectStatus = InjectStatusFixture.createPendingInjectStatus();
+    when(agentRepository.findAllById(anyList()))
+        .thenReturn(List.of(agent("first"), agent("second")));
+    when(injectStatusRepository.findByInjectId("inject")).thenReturn(Optional.of(injectStatus));
+    List<InjectImplantStart> starts =
+        List.of(start("inject", "first"), start("inject", "second"), start("inject", "unknown"));
+
+    // -- EXECUTE --
+    List<InjectImplantStart> processed = batchingInjectStatusService.handleImplantStarts(starts);
+
+    // -- ASSERT --
+    assertEquals(starts, processed);
+    verify(injectStatusRepository, times(1)).findByInjectId("inject");
+    verify(injectStatusRepository, times(1)).save(injectStatus);
+    assertEquals(
+        List.of("first", "second"),
+        injectStatus.getTraces().stream().map(ExecutionTrace::getAgent).map(Agent::getId).toList());
+    verify(injectExpectationService)
+        .addStartDateSignatureToInjectExpectationsByAgent("inject", "first", NOW);
+    verify(injectExpectationService)
+        .addStartDateSignatureToInjectExpectationsByAgent("inject", "second", NOW);
+    verifyNoMoreInteractions(injectExpectationService);
+  }
+}
@@ -0,0 +1,75 @@
+package io.openaev.rest.inject.service;
+
+import static io.openaev.database.audit.ModelBaseListener.DATA_UPDATE;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.database.audit.BaseEvent;
+import io.openaev.database.model.Command;
+import io.openaev.database.model.Inject;
+import io.openaev.database.model.Payload;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExecutablePayloadCacheTest {
+
+  @Test
+  @DisplayName("Should render the payload of an inject once for all its implants")
+  void given_several_fetches_should_render_payload_once() throws Exception {
+    // -- PREPARE --
+    ExecutablePayloadCache cache = new ExecutablePayloadCache(300, 100);
+    AtomicInteger renders = new AtomicInteger();
+    Payload payload = new Command();
+
+    // -- EXECUTE --
+    Payload first = cache.get("inject", id -> renderCounting(renders, payload));
+    Payload second = cache.get("inject", id -> renderCounting(renders, payload));
+
+    // -- ASSERT --
+    assertSame(payload, first);
+    assertSame(payload, second);
+    assertSame(1, renders.get());
+  }
+
+  @Test
+  @DisplayName("Should render the payload again once its inject is updated")
+  void given_inject_updated_should_render_payload_again() throws Exception {
+    // -- PREPARE --
+    ExecutablePayloadCache cache = new ExecutablePayloadCache(300, 100);
+    AtomicInteger renders = new AtomicInteger();
+    Inject inject = new Inject();
+    inject.setId("inject");
+    cache.get("inject", id -> renderCounting(renders, new Command()));
+
+    // -- EXECUTE --
+    cache.listenDatabaseUpdate(new BaseEvent(DATA_UPDATE, inject, mock(ObjectMapper.class)));
+    cache.get("inject", id -> renderCounting(renders, new Command()));
+
+    // -- ASSERT --
+    assertSame(2, renders.get());
+  }
+
+  @Test
+  @DisplayName("Should rethrow the checked exception of the rendering")
+  void given_rendering_failure_should_rethrow_exception() {
+    // -- EXECUTE & ASSERT --
+    assertThrows(
+        JsonProcessingException.class,
+        () ->
+            new ExecutablePayloadCache(300, 100)
+                .get(
+                    "inject",
+                    id -> {
+                      throw new JsonProcessingException("invalid content") {};
+                    }));
+  }
+
+  private static Payload renderCounting(AtomicInteger renders, Payload payload) {
+    renders.incrementAndGet();
+    return payload;
+  }
+}
@@ -0,0 +1,96 @@
+package io.openaev.rest.inject.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.config.OpenAEVConfig;
+import io.openaev.config.RabbitmqConfig;
+import io.openaev.rest.helper.queue.BatchQueueService;
+import io.openaev.rest.inject.form.InjectImplantStart;
+import io.openaev.service.InjectExpectationService;
+import io.openaev.telemetry.metric_collectors.MetricRegistry;
+import java.io.IOException;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImplantStartWriterTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+  @Mock private InjectStatusService injectStatusService;
+  @Mock private InjectExpectationService injectExpectationService;
+  @Mock private BatchingInjectStatusService batchingInjectStatusService;
+  @Mock private BatchQueueService<InjectImplantStart> implantStartQueueService;
+  @Mock private MetricRegistry metricRegistry;
+
+  private ImplantStartWriter writer() {
+    return new ImplantStartWriter(
+        injectStatusService,
+        injectExpectationService,
+        batchingInjectStatusService,
+        new RabbitmqConfig(),
+        new OpenAEVConfig(),
+        new ObjectMapper(),
+        metricRegistry);
+  }
+
+  @Test
+  @DisplayName("Should queue the implant start keyed by its inject")
+  void given_queue_should_publish_implant_start() throws IOException {
+    // -- PREPARE --
+    ImplantStartWriter writer = writer();
+    writer.setImplantStartQueueService(implantStartQueueService);
+
+    // -- EXECUTE --
+    writer.write("inject", "agent", NOW);
+
+    // -- ASSERT --
+    ArgumentCaptor<InjectImplantStart> start = ArgumentCaptor.forClass(InjectImplantStart.class);
+    verify(implantStartQueueService).publish(start.capture());
+    assertEquals("inject", start.getValue().getUniqueElementKey());
+    assertEquals("agent", start.getValue().getAgentId());
+    assertEquals(NOW, start.getValue().getStartDate());
+    verifyNoInteractions(injectStatusService, injectExpectationService);
+  }
+
+  @Test
+  @DisplayName("Should write the implant start immediately when the queue is unreachable")
+  void given_queue_failure_should_write_immediately() throws IOException {
+    // -- PREPARE --
+    ImplantStartWriter writer = writer();
+    writer.setImplantStartQueueService(implantStartQueueService);
+    doThrow(new IOException("unreachable")).when(implantStartQueueService).publish(any());
+
+    // -- EXECUTE --
+    writer.write("inject", "agent", NOW);
+
+    // -- ASSERT --
+    verify(injectStatusService)
+        .addStartImplantExecutionTraceByInject(
+            "inject", "agent", InjectStatusService.IMPLANT_START_MESSAGE, NOW);
+    verify(injectExpectationService)
+        .addStartDateSignatureToInjectExpectationsByAgent("inject", "agent", NOW);
+  }
+
+  @Test
+  @DisplayName("Should write the implant start immediately without queue")
+  void given_no_queue_should_write_immediately() {
+    // -- EXECUTE --
+    writer().write("inject", "agent", NOW);
+
+    // -- ASSERT --
+    verify(injectStatusService)
+        .addStartImplantExecutionTraceByInject(
+            "inject", "agent", InjectStatusService.IMPLANT_START_MESSAGE, NOW);
+    verify(injectExpectationService)
+        .addStartDateSignatureToInjectExpectationsByAgent("inject", "agent", NOW);
+  }
+}
@@ -41,6 +41,8 @@ class ScenarioStatisticServiceTest extends IntegrationTest {
   @DisplayName("Should get scenario statistics")
   void getScenarioStatistics() {
     String scenarioId = "e6773fee-b901-47af-8050-033b4d387fb6";
+    String exerciseId1 = "3e95b1ea-8957-4452-b0f7-edf4003eaa98";
+    String exerciseId2 = "c740797e-e34c-4066-a16c-a8baad9058f9";
     String injectId1 = "103da74a-055b-40e2-a934-9605cd3e4191";
     String injectId2 = "1838c23d-3bbe-4d8e-ba40-aa8b5fd1614d";
     String injectId3 = "0f728b68-ec1f-4a5d-a2e5-53d897c7a7fd";
@@ -53,17 +55,21 @@ class ScenarioStatisticServiceTest extends IntegrationTest {
     Instant exercise2EndDate = Instant.parse("2023-12-10T11:15:30.00Z");
 
     RawFinishedExerciseWithInjects rawFinishedExerciseWithInjects1 =
-        createDefaultRawFinishedExerciseWithInjects(exercise1EndDate, exercise1InjectIds);
+        createDefaultRawFinishedExerciseWithInjects(
+            exerciseId1, exercise1EndDate, exercise1InjectIds);
     RawFinishedExerciseWithInjects rawFinishedExerciseWithInjects2 =
-        createDefaultRawFinishedExerciseWithInjects(exercise2EndDate, exercise2InjectIds);
+        createDefaultRawFinishedExerciseWithInjects(
+            exerciseId2, exercise2EndDate, exercise2InjectIds);
 
     when(exerciseRepository.rawLatestFinishedExercisesWithInjectsByScenarioId(scenarioId))
         .thenReturn(List.of(rawFinishedExerciseWithInjects1, rawFinishedExerciseWithInjects2));
 
-    when(resultUtils.computeGlobalExpectationResults(exercise1InjectIds))
-        .thenReturn(ExpectationResultsByTypeFixture.exercise1GlobalScores);
-    when(resultUtils.computeGlobalExpectationResults(exercise2InjectIds))
-        .thenReturn(ExpectationResultsByTypeFixture.exercise2GlobalScores);
+    when(resultUtils.computeGlobalExpectationResultsByExerciseIds(
+            List.of(exerciseId2, exerciseId1)))
+        .thenReturn(
+            Map.of(
+                exerciseId1, ExpectationResultsByTypeFixture.exercise1GlobalScores,
+                exerciseId2, ExpectationResultsByTypeFixture.exercise2GlobalScores));
 
     ScenarioStatistic result = scenarioStatisticService.getStatistics(scenarioId);
 
@@ -23,15 +23,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.http.codec.ServerSentEvent;
 import reactor.core.publisher.FluxSink;
-import reactor.util.function.Tuple2;
-import reactor.util.function.Tuples;
 
 @MockitoSettings(strictness = Strictness.LENIENT) // class-wide
 @ExtendWith(MockitoExtension.class)
@@ -51,10 +48,12 @@ public class StreamApiTest {
 
   @Mock private ObjectMapper mapper;
 
-  @InjectMocks private StreamApi streamApi;
+  private StreamApi streamApi;
 
   @BeforeEach
   public void setup() throws NoSuchFieldException, IllegalAccessException {
+    streamApi = new StreamApi(new StreamPermissionCache(permissionService, userService));
+
     // mock consumer
     OpenAEVPrincipal mockPrincipal = mock(OpenAEVPrincipal.class);
     when(mockPrincipal.getId()).thenReturn(USER_ID);
@@ -68,9 +67,9 @@ public class StreamApiTest {
     // inject into consumers using reflection
     Field consumersField = StreamApi.class.getDeclaredField("consumers");
     consumersField.setAccessible(true);
-    Map<String, Tuple2<OpenAEVPrincipal, FluxSink<Object>>> consumers =
-        (Map<String, Tuple2<OpenAEVPrincipal, FluxSink<Object>>>) consumersField.get(streamApi);
-    consumers.put(SESSION_ID, Tuples.of(mockPrincipal, mockSink));
+    Map<String, StreamApi.StreamConsumer> consumers =
+        (Map<String, StreamApi.StreamConsumer>) consumersField.get(streamApi);
+    consumers.put(SESSION_ID, new StreamApi.StreamConsumer(mockPrincipal, mockSink));
   }
 
   @Test
@@ -136,4 +135,23 @@ public class StreamApiTest {
 
     verify(mockSink, never()).next(any());
   }
+
+  @Test
+  public void test_listenDatabaseUpdate_WHEN_several_events_THEN_user_and_permission_are_cached() {
+    when(permissionService.hasPermission(
+            mockUser, Optional.empty(), RESOURCE_ID, ResourceType.SCENARIO, Action.READ))
+        .thenReturn(true);
+
+    Scenario scenario = ScenarioFixture.getScenario();
+    scenario.setId(RESOURCE_ID);
+
+    streamApi.listenDatabaseUpdate(new BaseEvent(DATA_UPDATE, scenario, mock(ObjectMapper.class)));
+    streamApi.listenDatabaseUpdate(new BaseEvent(DATA_UPDATE, scenario, mock(ObjectMapper.class)));
+
+    verify(userService, times(1)).user(USER_ID);
+    verify(permissionService, times(1))
+        .hasPermission(mockUser, Optional.empty(), RESOURCE_ID, ResourceType.SCENARIO, Action.READ);
+    verify(mapper, times(2)).valueToTree(scenario);
+    verify(mockSink, times(2)).next(any());
+  }
 }
@@ -0,0 +1,51 @@
+package io.openaev.rest.stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import io.openaev.database.model.*;
+import io.openaev.service.PermissionService;
+import io.openaev.service.UserService;
+import io.openaev.utils.fixtures.ScenarioFixture;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StreamPermissionCacheTest {
+
+  private static final String USER_ID = "userid";
+
+  @Mock private PermissionService permissionService;
+  @Mock private UserService userService;
+  @Mock private User user;
+
+  @Test
+  @DisplayName("Should compute the decision again once the members of a group changed")
+  void given_access_rights_change_should_invalidate_decisions() {
+    // -- PREPARE --
+    StreamPermissionCache cache = new StreamPermissionCache(permissionService, userService);
+    Scenario scenario = ScenarioFixture.getScenario();
+    scenario.setId("scenario");
+    when(userService.user(USER_ID)).thenReturn(user);
+    when(permissionService.hasPermission(
+            user, Optional.empty(), "scenario", ResourceType.SCENARIO, Action.READ))
+        .thenReturn(false, true);
+
+    // -- EXECUTE --
+    boolean before = cache.canRead(USER_ID, scenario);
+    boolean cached = cache.canRead(USER_ID, scenario);
+    cache.listenAccessRightsChange(new AccessRightsChangedEvent("group"));
+    boolean after = cache.canRead(USER_ID, scenario);
+
+    // -- ASSERT --
+    assertFalse(before);
+    assertFalse(cached);
+    assertTrue(after);
+    verify(userService, times(2)).user(USER_ID);
+  }
+}
@@ -0,0 +1,145 @@
+package io.openaev.rest.vulnerability.service;
+
+import static io.openaev.utils.fixtures.VulnerabilityInputFixture.CVE_CVSS_V31;
+import static io.openaev.utils.fixtures.VulnerabilityInputFixture.CVE_DESCRIPTION;
+import static io.openaev.utils.fixtures.VulnerabilityInputFixture.createDefaultVulnerabilityInput;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.config.cache.LicenseCacheManager;
+import io.openaev.database.model.Collector;
+import io.openaev.database.repository.CweRepository;
+import io.openaev.database.repository.VulnerabilityRepository;
+import io.openaev.ee.Ee;
+import io.openaev.rest.collector.service.CollectorService;
+import io.openaev.rest.vulnerability.form.CweInput;
+import io.openaev.rest.vulnerability.form.VulnerabilityBulkInsertInput;
+import io.openaev.rest.vulnerability.form.VulnerabilityCreateInput;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class VulnerabilityServiceTest {
+
+  private static final String COLLECTOR_ID = "collector";
+
+  @Mock private CollectorService collectorService;
+  @Mock private Ee eeService;
+  @Mock private VulnerabilityRepository vulnerabilityRepository;
+  @Mock private CweRepository cweRepository;
+  @Mock private LicenseCacheManager licenseCacheManager;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final Collector collector = new Collector();
+  private VulnerabilityService vulnerabilityService;
+
+  @BeforeEach
+  void setUp() {
+    vulnerabilityService =
+        new VulnerabilityService(
+            collectorService,
+            eeService,
+            vulnerabilityRepository,
+            cweRepository,
+            licenseCacheManager,
+            new TransactionTemplate(transactionManager));
+    vulnerabilityService.mapper = mapper;
+    when(collectorService.collector(COLLECTOR_ID)).thenReturn(collector);
+  }
+
+  @Test
+  @DisplayName("Should upsert a vulnerability sent several times once, with its last values")
+  void given_duplicated_vulnerabilities_should_upsert_the_last_one() throws Exception {
+    // -- PREPARE --
+    VulnerabilityCreateInput first = createDefaultVulnerabilityInput();
+    first.setDescription("first");
+    VulnerabilityCreateInput last = createDefaultVulnerabilityInput();
+    last.setPublished(Instant.parse("2025-06-01T10:00:00Z"));
+    last.setReferenceUrls(List.of("https://nvd.nist.gov"));
+    CweInput cwe = new CweInput();
+    cwe.setExternalId("CWE-79");
+    cwe.setSource("NIST");
+    last.setCwes(List.of(cwe));
+
+    // -- EXECUTE --
+    vulnerabilityService.bulkUpsertVulnerabilities(bulkInput(List.of(first, last)));
+
+    // -- ASSERT --
+    ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+    verify(vulnerabilityRepository, times(1)).bulkUpsert(json.capture());
+    JsonNode vulnerabilities = mapper.readTree(json.getValue());
+    assertEquals(1, vulnerabilities.size());
+    JsonNode vulnerability = vulnerabilities.get(0);
+    assertEquals(CVE_DESCRIPTION, vulnerability.get("vulnerability_description").asText());
+    assertEquals("2025-06-01T10:00:00Z", vulnerability.get("vulnerability_published").asText());
+    assertEquals(
+        "https://nvd.nist.gov", vulnerability.get("vulnerability_reference_urls").get(0).asText());
+    assertEquals(
+        "CWE-79", vulnerability.get("vulnerability_cwes").get(0).get("cwe_external_id").asText());
+    assertEquals(
+        CVE_CVSS_V31.toPlainString(), vulnerability.get("vulnerability_cvss_v31").asText());
+  }
+
+  @Test
+  @DisplayName("Should upsert the vulnerabilities by chunks before saving the collector state")
+  void given_many_vulnerabilities_should_upsert_them_by_chunks() throws Exception {
+    // -- PREPARE --
+    List<VulnerabilityCreateInput> inputs = new ArrayList<>();
+    for (int i = 0; i < VulnerabilityService.BULK_UPSERT_CHUNK_SIZE + 10; i++) {
+      VulnerabilityCreateInput input = createDefaultVulnerabilityInput();
+      input.setExternalId("CVE-2025-" + i);
+      inputs.add(input);
+    }
+
+    // -- EXECUTE --
+    vulnerabilityService.bulkUpsertVulnerabilities(bulkInput(inputs));
+
+    // -- ASSERT --
+    ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+    InOrder inOrder = inOrder(vulnerabilityRepository, transactionManager, collectorService);
+    for (int chunk = 0; chunk < 2; chunk++) {
+      inOrder.verify(transactionManager).getTransaction(any());
+      inOrder.verify(vulnerabilityRepository).bulkInsertMissingCwes(anyString());
+      inOrder.verify(vulnerabilityRepository).bulkUpsert(json.capture());
+      inOrder.verify(vulnerabilityRepository).bulkMergeReferenceUrls(anyString());
+      inOrder.verify(vulnerabilityRepository).bulkMergeCwes(anyString());
+      inOrder.verify(transactionManager).commit(any());
+    }
+    inOrder.verify(collectorService).updateCollectorState(eq(collector), any());
+    assertEquals(
+        VulnerabilityService.BULK_UPSERT_CHUNK_SIZE,
+        mapper.readTree(json.getAllValues().get(0)).size());
+    assertEquals(10, mapper.readTree(json.getAllValues().get(1)).size());
+  }
+
+  private static VulnerabilityBulkInsertInput bulkInput(
+      List<VulnerabilityCreateInput> vulnerabilities) {
+    VulnerabilityBulkInsertInput input = new VulnerabilityBulkInsertInput();
+    input.setSourceIdentifier(COLLECTOR_ID);
+    input.setVulnerabilities(vulnerabilities);
+    input.setLastModifiedDateFetched(Instant.parse("2025-06-02T00:00:00Z"));
+    input.setLastIndex(1010);
+    input.setInitialDatasetCompleted(false);
+    return input;
+  }
+}
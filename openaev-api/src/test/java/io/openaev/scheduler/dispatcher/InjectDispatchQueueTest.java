@@ -0,0 +1,76 @@
+package io.openaev.scheduler.dispatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InjectDispatchQueueTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+  @Test
+  @DisplayName("Should only return keys whose fire date is reached, ordered by date")
+  void given_scheduled_keys_should_poll_due_keys_in_order() {
+    // -- PREPARE --
+    InjectDispatchQueue queue = new InjectDispatchQueue();
+    queue.schedule("late", NOW.minusSeconds(1));
+    queue.schedule("future", NOW.plusSeconds(60));
+    queue.schedule("early", NOW.minusSeconds(30));
+
+    // -- EXECUTE --
+    List<String> due = queue.pollDue(NOW);
+
+    // -- ASSERT --
+    assertEquals(List.of("early", "late"), due);
+    assertEquals(1, queue.size());
+    assertEquals(NOW.plusSeconds(60), queue.nextFireDate().orElseThrow());
+  }
+
+  @Test
+  @DisplayName("Should only keep the latest fire date of a rescheduled key")
+  void given_rescheduled_key_should_fire_once_at_latest_date() {
+    // -- PREPARE --
+    InjectDispatchQueue queue = new InjectDispatchQueue();
+    queue.schedule("inject", NOW.minusSeconds(10));
+    queue.schedule("inject", NOW.plusSeconds(10));
+
+    // -- EXECUTE & ASSERT --
+    assertTrue(queue.pollDue(NOW).isEmpty());
+    assertEquals(NOW.plusSeconds(10), queue.nextFireDate().orElseThrow());
+    assertEquals(List.of("inject"), queue.pollDue(NOW.plusSeconds(10)));
+    assertTrue(queue.nextFireDate().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should never fire a cancelled key")
+  void given_cancelled_key_should_not_fire() {
+    // -- PREPARE --
+    InjectDispatchQueue queue = new InjectDispatchQueue();
+    queue.schedule("inject", NOW.minusSeconds(10));
+
+    // -- EXECUTE --
+    queue.cancel("inject");
+
+    // -- ASSERT --
+    assertTrue(queue.pollDue(NOW).isEmpty());
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  @DisplayName("Should replace the whole schedule on reset")
+  void given_reset_should_drop_previous_entries() {
+    // -- PREPARE --
+    InjectDispatchQueue queue = new InjectDispatchQueue();
+    queue.schedule("stale", NOW.minusSeconds(10));
+
+    // -- EXECUTE --
+    queue.reset(Map.of("fresh", NOW.minusSeconds(5)));
+
+    // -- ASSERT --
+    assertEquals(List.of("fresh"), queue.pollDue(NOW));
+  }
+}
@@ -0,0 +1,81 @@
+package io.openaev.scheduler.jobs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.openaev.database.model.InjectDependencyConditions;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.ExpressionException;
+
+class InjectDependencyConditionEvaluatorTest {
+
+  private static InjectDependencyConditions.InjectDependencyCondition condition(
+      InjectDependencyConditions.DependencyMode mode, Map<String, Boolean> values) {
+    InjectDependencyConditions.InjectDependencyCondition condition =
+        new InjectDependencyConditions.InjectDependencyCondition();
+    condition.setMode(mode);
+    condition.setConditions(
+        values.entrySet().stream()
+            .map(
+                entry -> {
+                  InjectDependencyConditions.Condition element =
+                      new InjectDependencyConditions.Condition();
+                  element.setKey(entry.getKey());
+                  element.setValue(entry.getValue());
+                  element.setOperator(InjectDependencyConditions.DependencyOperator.eq);
+                  return element;
+                })
+            .toList());
+    return condition;
+  }
+
+  @Test
+  @DisplayName("Should evaluate the condition against the state of the parents")
+  void given_condition_should_evaluate_it_against_parents_state() {
+    // -- PREPARE --
+    InjectDependencyConditionEvaluator evaluator = new InjectDependencyConditionEvaluator();
+    InjectDependencyConditions.InjectDependencyCondition condition =
+        condition(InjectDependencyConditions.DependencyMode.and, Map.of("Execution", true));
+
+    // -- EXECUTE & ASSERT --
+    assertTrue(evaluator.evaluate(condition, Map.of("Execution", true)));
+    assertFalse(evaluator.evaluate(condition, Map.of("Execution", false)));
+  }
+
+  @Test
+  @DisplayName("Should compile a condition once for all the conditions with the same content")
+  void given_same_condition_content_should_compile_once() {
+    // -- PREPARE --
+    InjectDependencyConditionEvaluator evaluator = new InjectDependencyConditionEvaluator();
+
+    // -- EXECUTE --
+    var first =
+        evaluator.compile(
+            condition(InjectDependencyConditions.DependencyMode.or, Map.of("Detection", false)));
+    var second =
+        evaluator.compile(
+            condition(InjectDependencyConditions.DependencyMode.or, Map.of("Detection", false)));
+    var other =
+        evaluator.compile(
+            condition(InjectDependencyConditions.DependencyMode.or, Map.of("Detection", true)));
+
+    // -- ASSERT --
+    assertSame(first, second);
+    assertNotSame(first, other);
+  }
+
+  @Test
+  @DisplayName("Should not evaluate the code of a malicious condition key")
+  void given_malicious_key_should_fail_evaluation() {
+    // -- PREPARE --
+    InjectDependencyConditionEvaluator evaluator = new InjectDependencyConditionEvaluator();
+    InjectDependencyConditions.InjectDependencyCondition condition =
+        condition(
+            InjectDependencyConditions.DependencyMode.and,
+            Map.of("T(java.lang.Runtime).getRuntime().exec('gedit');", true));
+
+    // -- EXECUTE & ASSERT --
+    assertThrows(ExpressionException.class, () -> evaluator.evaluate(condition, Map.of()));
+  }
+}
@@ -0,0 +1,152 @@
+package io.openaev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import io.openaev.database.model.Asset;
+import io.openaev.database.model.AssetGroup;
+import io.openaev.database.model.Endpoint;
+import io.openaev.database.model.Filters;
+import io.openaev.database.repository.AssetGroupRepository;
+import io.openaev.utils.fixtures.EndpointFixture;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AssetGroupServiceDynamicAssetsTest {
+
+  @Mock private AssetGroupRepository assetGroupRepository;
+  @Mock private AssetService assetService;
+
+  @InjectMocks private AssetGroupService assetGroupService;
+
+  private Endpoint windows;
+  private Endpoint linux;
+
+  @BeforeEach
+  void setUp() {
+    windows = EndpointFixture.createEndpointWithPlatform("Windows", Endpoint.PLATFORM_TYPE.Windows);
+    windows.setId("windows");
+    linux = EndpointFixture.createEndpointWithPlatform("Linux", Endpoint.PLATFORM_TYPE.Linux);
+    linux.setId("linux");
+  }
+
+  private static AssetGroup dynamicAssetGroup(String id, String platform) {
+    AssetGroup assetGroup = new AssetGroup();
+    assetGroup.setId(id);
+    assetGroup.setDynamicFilter(
+        Filters.FilterGroup.filterGroupWithFilters(
+            List.of(
+                Filters.Filter.getNewDefaultEqualFilter("endpoint_platform", List.of(platform)))));
+    return assetGroup;
+  }
+
+  @Test
+  @DisplayName("Should evaluate the dynamic filters once against the endpoints")
+  void given_dynamic_asset_groups_should_evaluate_them_against_endpoints() {
+    // -- PREPARE --
+    AssetGroup windowsGroup = dynamicAssetGroup("windowsGroup", "Windows");
+    AssetGroup linuxGroup = dynamicAssetGroup("linuxGroup", "Linux");
+    when(assetGroupRepository.findAll()).thenReturn(List.of(windowsGroup, linuxGroup));
+    when(assetService.assetsVersion()).thenReturn("2-1");
+    when(assetService.assetsByTypes(List.of("Endpoint"))).thenReturn(List.of(windows, linux));
+
+    // -- EXECUTE --
+    assetGroupService.assetGroups();
+
+    // -- ASSERT --
+    assertEquals(List.<Asset>of(windows), windowsGroup.getDynamicAssets());
+    assertEquals(List.<Asset>of(linux), linuxGroup.getDynamicAssets());
+    verify(assetService, times(1)).assetsByTypes(any());
+  }
+
+  @Test
+  @DisplayName("Should only load the memoised endpoints while the assets are unchanged")
+  void given_unchanged_assets_should_reuse_memoised_dynamic_assets() {
+    // -- PREPARE --
+    when(assetService.assetsVersion()).thenReturn("2-1");
+    when(assetService.assetsByTypes(List.of("Endpoint"))).thenReturn(List.of(windows, linux));
+    when(assetService.assets(List.of("windows"))).thenReturn(List.of(windows));
+    when(assetGroupRepository.findAll())
+        .thenReturn(List.of(dynamicAssetGroup("windowsGroup", "Windows")));
+    assetGroupService.assetGroups();
+    AssetGroup windowsGroup = dynamicAssetGroup("windowsGroup", "Windows");
+    when(assetGroupRepository.findAll()).thenReturn(List.of(windowsGroup));
+
+    // -- EXECUTE --
+    assetGroupService.assetGroups();
+
+    // -- ASSERT --
+    assertEquals(List.<Asset>of(windows), windowsGroup.getDynamicAssets());
+    verify(assetService, times(1)).assetsByTypes(any());
+    verify(assetService, times(1)).assets(List.of("windows"));
+  }
+
+  @Test
+  @DisplayName("Should evaluate the dynamic filters again once the assets changed")
+  void given_changed_assets_should_evaluate_dynamic_filters_again() {
+    // -- PREPARE --
+    when(assetService.assetsVersion()).thenReturn("2-1", "3-2");
+    when(assetService.assetsByTypes(List.of("Endpoint")))
+        .thenReturn(List.of(linux), List.of(windows, linux));
+    AssetGroup windowsGroup = dynamicAssetGroup("windowsGroup", "Windows");
+    when(assetGroupRepository.findAll()).thenReturn(List.of(windowsGroup));
+    assetGroupService.assetGroups();
+
+    // -- EXECUTE --
+    assetGroupService.assetGroups();
+
+    // -- ASSERT --
+    assertEquals(List.<Asset>of(windows), windowsGroup.getDynamicAssets());
+    verify(assetService, times(2)).assetsByTypes(any());
+  }
+
+  @Test
+  @DisplayName("Should load the memoised endpoints by chunks")
+  void given_many_memoised_endpoints_should_load_them_by_chunks() {
+    // -- PREPARE --
+    List<Asset> endpoints =
+        IntStream.range(0, AssetGroupService.ASSETS_CHUNK_SIZE + 500)
+            .mapToObj(
+                i -> {
+                  Endpoint endpoint =
+                      EndpointFixture.createEndpointWithPlatform(
+                          "Windows " + i, Endpoint.PLATFORM_TYPE.Windows);
+                  endpoint.setId("windows" + i);
+                  return (Asset) endpoint;
+                })
+            .toList();
+    Map<String, Asset> endpointsById =
+        endpoints.stream().collect(Collectors.toMap(Asset::getId, Function.identity()));
+    when(assetService.assetsVersion()).thenReturn("2-1");
+    when(assetService.assetsByTypes(List.of("Endpoint"))).thenReturn(endpoints);
+    when(assetService.assets(anyList()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(endpointsById::get).toList());
+    when(assetGroupRepository.findAll())
+        .thenReturn(List.of(dynamicAssetGroup("windowsGroup", "Windows")));
+    assetGroupService.assetGroups();
+    AssetGroup windowsGroup = dynamicAssetGroup("windowsGroup", "Windows");
+    when(assetGroupRepository.findAll()).thenReturn(List.of(windowsGroup));
+
+    // -- EXECUTE --
+    assetGroupService.assetGroups();
+
+    // -- ASSERT --
+    assertEquals(endpoints, windowsGroup.getDynamicAssets());
+    verify(assetService, times(2)).assets(anyList());
+  }
+}
@@ -0,0 +1,156 @@
+package io.openaev.service;
+
+import static io.openaev.integration.impl.executors.sentinelone.SentinelOneExecutorIntegration.SENTINELONE_EXECUTOR_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.openaev.database.model.Agent;
+import io.openaev.database.model.Asset;
+import io.openaev.database.model.Endpoint;
+import io.openaev.database.model.Executor;
+import io.openaev.database.repository.EndpointRepository;
+import io.openaev.executors.model.AgentRegisterInput;
+import io.openaev.utils.fixtures.AgentFixture;
+import io.openaev.utils.fixtures.EndpointFixture;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EndpointServiceSyncTest {
+
+  private static final Instant LAST_SEEN = Instant.parse("2025-01-01T00:00:00Z");
+  private static final String MAC_ADDRESS = "001b44113ab7";
+
+  @Mock private EndpointRepository endpointRepository;
+  @Mock private AssetService assetService;
+  @Mock private AgentService agentService;
+
+  @InjectMocks private EndpointService endpointService;
+
+  private Executor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = new Executor();
+    executor.setType(SENTINELONE_EXECUTOR_TYPE);
+  }
+
+  @Test
+  @DisplayName("Should not save the agents and endpoints unchanged since the last sync")
+  void given_unchanged_agent_should_not_save_it() {
+    // -- PREPARE --
+    Endpoint endpoint = syncedEndpoint();
+    Agent agent = AgentFixture.createAgent(endpoint, "ref");
+    agent.setLastSeen(LAST_SEEN);
+
+    // -- EXECUTE --
+    List<Agent> agents =
+        endpointService.syncAgentsEndpoints(
+            new ArrayList<>(List.of(input("ref", LAST_SEEN))), List.of(agent));
+
+    // -- ASSERT --
+    assertEquals(List.of(agent), agents);
+    verify(assetService, never()).saveAllAssets(any());
+    verify(agentService, never()).saveAllAgents(any());
+    verify(endpointRepository, never()).findByAtleastOneMacAddress(any());
+  }
+
+  @Test
+  @DisplayName("Should only save the agent when the endpoint is unchanged")
+  void given_newly_seen_agent_should_only_save_the_agent() {
+    // -- PREPARE --
+    Endpoint endpoint = syncedEndpoint();
+    Agent agent = AgentFixture.createAgent(endpoint, "ref");
+    agent.setLastSeen(LAST_SEEN);
+    Instant lastSeen = LAST_SEEN.plusSeconds(60);
+    when(agentService.saveAllAgents(List.of(agent))).thenReturn(List.of(agent));
+
+    // -- EXECUTE --
+    endpointService.syncAgentsEndpoints(
+        new ArrayList<>(List.of(input("ref", lastSeen))), List.of(agent));
+
+    // -- ASSERT --
+    assertEquals(lastSeen, agent.getLastSeen());
+    verify(assetService, never()).saveAllAssets(any());
+    verify(agentService).saveAllAgents(List.of(agent));
+  }
+
+  @Test
+  @DisplayName("Should attach a new agent to the endpoint having the same MAC address")
+  void given_known_mac_address_should_create_agent_on_existing_endpoint() {
+    // -- PREPARE --
+    Endpoint endpoint = syncedEndpoint();
+    endpoint.setId("endpoint");
+    when(endpointRepository.findByAtleastOneMacAddress(new String[] {MAC_ADDRESS}))
+        .thenReturn(List.of(endpoint));
+    when(agentService.saveAllAgents(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // -- EXECUTE --
+    List<Agent> agents =
+        endpointService.syncAgentsEndpoints(
+            new ArrayList<>(List.of(input("ref", LAST_SEEN))), List.of());
+
+    // -- ASSERT --
+    assertEquals(1, agents.size());
+    assertSame(endpoint, agents.getFirst().getAsset());
+    assertEquals("ref", agents.getFirst().getId());
+    ArgumentCaptor<List<Asset>> endpoints = ArgumentCaptor.forClass(List.class);
+    verify(assetService).saveAllAssets(endpoints.capture());
+    assertEquals(List.of(endpoint), endpoints.getValue());
+  }
+
+  @Test
+  @DisplayName("Should create the endpoint and agent of an unknown device")
+  void given_unknown_device_should_create_endpoint_and_agent() {
+    // -- PREPARE --
+    when(endpointRepository.findByAtleastOneMacAddress(any())).thenReturn(List.of());
+    when(agentService.saveAllAgents(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // -- EXECUTE --
+    List<Agent> agents =
+        endpointService.syncAgentsEndpoints(
+            new ArrayList<>(List.of(input("ref", LAST_SEEN))), List.of());
+
+    // -- ASSERT --
+    assertEquals(1, agents.size());
+    Endpoint endpoint = (Endpoint) agents.getFirst().getAsset();
+    assertEquals("hostname", endpoint.getHostname());
+    ArgumentCaptor<List<Asset>> endpoints = ArgumentCaptor.forClass(List.class);
+    verify(assetService).saveAllAssets(endpoints.capture());
+    assertEquals(List.of(endpoint), endpoints.getValue());
+  }
+
+  private static Endpoint syncedEndpoint() {
+    Endpoint endpoint = EndpointFixture.createEndpoint();
+    endpoint.setHostname("hostname");
+    endpoint.setSeenIp(EndpointFixture.SEEN_IP);
+    endpoint.setMacAddresses(new String[] {MAC_ADDRESS});
+    return endpoint;
+  }
+
+  private AgentRegisterInput input(String externalReference, Instant lastSeen) {
+    AgentRegisterInput input = new AgentRegisterInput();
+    input.setExecutor(executor);
+    input.setExternalReference(externalReference);
+    input.setName("hostname");
+    input.setHostname("hostname");
+    input.setArch(Endpoint.PLATFORM_ARCH.x86_64);
+    input.setPlatform(Endpoint.PLATFORM_TYPE.Windows);
+    input.setIps(EndpointFixture.IPS);
+    input.setSeenIp(EndpointFixture.SEEN_IP);
+    input.setMacAddresses(new String[] {MAC_ADDRESS});
+    input.setLastSeen(lastSeen);
+    return input;
+  }
+}
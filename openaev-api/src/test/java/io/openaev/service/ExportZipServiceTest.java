@@ -0,0 +1,112 @@
+package io.openaev.service;
+
+import static io.openaev.service.ImportService.EXPORT_ENTRY_EXERCISE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.database.model.Document;
+import io.openaev.database.repository.DocumentRepository;
+import io.openaev.rest.exception.ElementNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportZipServiceTest {
+
+  @Mock private DocumentRepository documentRepository;
+  @Mock private FileService fileService;
+
+  @InjectMocks private ExportZipService exportZipService;
+
+  @Test
+  @DisplayName("Should write the export then the files of its documents, loaded at once")
+  void given_documents_should_write_them_after_export() throws IOException {
+    // -- PREPARE --
+    Document first = document("first");
+    Document second = document("second");
+    when(documentRepository.findAllById(List.of("first", "second")))
+        .thenReturn(List.of(second, first));
+    when(fileService.getFile(first))
+        .thenReturn(Optional.of(new ByteArrayInputStream("first file".getBytes(UTF_8))));
+    when(fileService.getFile(second)).thenReturn(Optional.empty());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // -- EXECUTE --
+    exportZipService.writeZip(
+        outputStream,
+        "exercise.json",
+        EXPORT_ENTRY_EXERCISE,
+        new ObjectMapper().writer(),
+        Map.of("name", "exercise"),
+        List.of("first", "second", "first"));
+
+    // -- ASSERT --
+    Map<String, String> entries = entries(outputStream.toByteArray());
+    assertEquals(List.of("exercise.json", "first.txt"), List.copyOf(entries.keySet()));
+    assertEquals("{\"name\":\"exercise\"}", entries.get("exercise.json"));
+    assertEquals("first file", entries.get("first.txt"));
+    verify(documentRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  @DisplayName("Should fail before writing anything when a document does not exist")
+  void given_unknown_document_should_fail_before_writing() {
+    // -- PREPARE --
+    when(documentRepository.findAllById(List.of("unknown"))).thenReturn(List.of());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // -- EXECUTE --
+    assertThrows(
+        ElementNotFoundException.class,
+        () ->
+            exportZipService.writeZip(
+                outputStream,
+                "exercise.json",
+                EXPORT_ENTRY_EXERCISE,
+                new ObjectMapper().writer(),
+                Map.of(),
+                List.of("unknown")));
+
+    // -- ASSERT --
+    assertEquals(0, outputStream.size());
+    verify(fileService, never()).getFile(any());
+  }
+
+  private static Document document(String id) {
+    Document document = new Document();
+    document.setId(id);
+    document.setTarget(id + ".txt");
+    return document;
+  }
+
+  private static Map<String, String> entries(byte[] zip) throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+      ZipEntry entry;
+      while ((entry = zipInputStream.getNextEntry()) != null) {
+        entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), UTF_8));
+      }
+    }
+    return entries;
+  }
+}
@@ -0,0 +1,144 @@
+package io.openaev.service;
+
+import static io.openaev.rest.payload.service.PayloadExportService.ZIP_PASSWORD;
+import static io.openaev.service.ImportService.EXPORT_ENTRY_ATTACHMENT;
+import static io.openaev.service.ImportService.EXPORT_ENTRY_ENCRYPTED_ATTACHMENT;
+import static io.openaev.service.ImportService.EXPORT_ENTRY_EXERCISE;
+import static io.openaev.service.ImportService.EXPORT_ENTRY_PAYLOAD;
+import static io.openaev.service.ImportService.EXPORT_ENTRY_PAYLOAD_ARCHIVE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.importer.V1_DataImporter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import net.lingala.zip4j.model.ZipParameters;
+import net.lingala.zip4j.model.enums.EncryptionMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+  @Mock private V1_DataImporter v1DataImporter;
+
+  private ImportService importService;
+  private final List<String> importedNames = new ArrayList<>();
+  private final Map<String, String> importedDocuments = new HashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    importService = new ImportService();
+    importService.mapper = new ObjectMapper();
+    importService.setV1_dataImporter(v1DataImporter);
+    // Entries are only readable during the import
+    doAnswer(
+            invocation -> {
+              JsonNode importNode = invocation.getArgument(0);
+              importedNames.add(importNode.get("name").asText());
+              Map<String, ImportEntry> docReferences = invocation.getArgument(1);
+              for (Map.Entry<String, ImportEntry> document : docReferences.entrySet()) {
+                try (InputStream data = document.getValue().getData()) {
+                  String content = new String(data.readAllBytes(), UTF_8);
+                  assertEquals(content.length(), document.getValue().getContentLength());
+                  importedDocuments.put(document.getKey(), content);
+                }
+              }
+              return null;
+            })
+        .when(v1DataImporter)
+        .importData(any(), anyMap(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should import the exercise with its attachments read from the archive")
+  void given_exercise_archive_should_import_it_with_attachments() throws Exception {
+    // -- PREPARE --
+    ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+      putEntry(zip, "exercise.json", EXPORT_ENTRY_EXERCISE, json("exercise"));
+      putEntry(zip, "document.txt", EXPORT_ENTRY_ATTACHMENT, "document".getBytes(UTF_8));
+    }
+
+    // -- EXECUTE --
+    importService.handleInputStreamFileImport(
+        new ByteArrayInputStream(archive.toByteArray()), null, null, null, null, "");
+
+    // -- ASSERT --
+    assertEquals(List.of("exercise"), importedNames);
+    assertEquals(Map.of("document.txt", "document"), importedDocuments);
+  }
+
+  @Test
+  @DisplayName("Should import the payload archives with their encrypted attachments")
+  void given_payload_archive_should_import_it_with_encrypted_attachments() throws Exception {
+    // -- PREPARE --
+    ByteArrayOutputStream payloadArchive = new ByteArrayOutputStream();
+    try (ZipOutputStream payloadZip = new ZipOutputStream(payloadArchive)) {
+      putEntry(payloadZip, "payload.json", EXPORT_ENTRY_PAYLOAD, json("payload"));
+      putEntry(
+          payloadZip,
+          "attachments.zip",
+          EXPORT_ENTRY_ENCRYPTED_ATTACHMENT,
+          encryptedZip("attachment.sh", "echo attachment"));
+    }
+    ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+      putEntry(zip, "payload.zip", EXPORT_ENTRY_PAYLOAD_ARCHIVE, payloadArchive.toByteArray());
+    }
+
+    // -- EXECUTE --
+    importService.handleInputStreamFileImport(
+        new ByteArrayInputStream(archive.toByteArray()), null, null, null, null, "");
+
+    // -- ASSERT --
+    assertEquals(List.of("payload"), importedNames);
+    assertEquals(Map.of("attachment.sh", "echo attachment"), importedDocuments);
+  }
+
+  private static byte[] json(String name) {
+    return ("{\"export_version\":1,\"name\":\"" + name + "\"}").getBytes(UTF_8);
+  }
+
+  private static void putEntry(ZipOutputStream zip, String name, String comment, byte[] data)
+      throws IOException {
+    ZipEntry entry = new ZipEntry(name);
+    entry.setComment(comment);
+    zip.putNextEntry(entry);
+    zip.write(data);
+    zip.closeEntry();
+  }
+
+  private static byte[] encryptedZip(String name, String content) throws IOException {
+    ByteArrayOutputStream encryptedZipStream = new ByteArrayOutputStream();
+    try (net.lingala.zip4j.io.outputstream.ZipOutputStream encryptedZip =
+        new net.lingala.zip4j.io.outputstream.ZipOutputStream(
+            encryptedZipStream, ZIP_PASSWORD.toCharArray())) {
+      ZipParameters params = new ZipParameters();
+      params.setEncryptFiles(true);
+      params.setEncryptionMethod(EncryptionMethod.ZIP_STANDARD);
+      params.setFileNameInZip(name);
+      encryptedZip.putNextEntry(params);
+      encryptedZip.write(content.getBytes(UTF_8));
+      encryptedZip.closeEntry();
+    }
+    return encryptedZipStream.toByteArray();
+  }
+}
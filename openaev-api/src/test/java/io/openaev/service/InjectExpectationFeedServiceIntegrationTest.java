@@ -0,0 +1,185 @@
+package io.openaev.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.openaev.IntegrationTest;
+import io.openaev.database.model.InjectExpectation;
+import io.openaev.database.model.InjectExpectationResult;
+import io.openaev.database.raw.RawInjectExpectation;
+import io.openaev.database.repository.InjectExpectationRepository;
+import io.openaev.utils.fixtures.AgentFixture;
+import io.openaev.utils.fixtures.EndpointFixture;
+import io.openaev.utils.fixtures.ExecutorFixture;
+import io.openaev.utils.fixtures.InjectExpectationFixture;
+import io.openaev.utils.fixtures.InjectFixture;
+import io.openaev.utils.fixtures.composers.*;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class InjectExpectationFeedServiceIntegrationTest extends IntegrationTest {
+
+  private static final List<String> TYPES = List.of("DETECTION");
+  // After the expectations of the other tests, updated now
+  private static final Instant T1 =
+      Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+  private static final Instant T2 = T1.plus(1, ChronoUnit.MINUTES);
+
+  @Autowired private InjectComposer injectComposer;
+  @Autowired private InjectExpectationComposer injectExpectationComposer;
+  @Autowired private EndpointComposer endpointComposer;
+  @Autowired private AgentComposer agentComposer;
+  @Autowired private ExecutorComposer executorComposer;
+  @Autowired private ExecutorFixture executorFixture;
+  @Autowired private InjectExpectationRepository injectExpectationRepository;
+
+  /** Agent expectations of a same inject, sorted by id. */
+  private List<InjectExpectation> persistAgentExpectations(int count) {
+    AgentComposer.Composer agent =
+        agentComposer
+            .forAgent(AgentFixture.createDefaultAgentService())
+            .withExecutor(executorComposer.forExecutor(executorFixture.getDefaultExecutor()));
+    InjectComposer.Composer inject =
+        injectComposer
+            .forInject(InjectFixture.getInjectWithoutContract())
+            .withEndpoint(
+                endpointComposer.forEndpoint(EndpointFixture.createEndpoint()).withAgent(agent));
+    List<InjectExpectation> expectations = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      InjectExpectationComposer.Composer expectation =
+          injectExpectationComposer
+              .forExpectation(
+                  InjectExpectationFixture.createExpectationWithTypeAndStatus(
+                      InjectExpectation.EXPECTATION_TYPE.DETECTION,
+                      InjectExpectation.EXPECTATION_STATUS.PENDING))
+              .withAgent(agent);
+      inject.withExpectation(expectation);
+      expectations.add(expectation.get());
+    }
+    inject.persist();
+    entityManager.flush();
+    return expectations.stream().sorted(Comparator.comparing(InjectExpectation::getId)).toList();
+  }
+
+  /** Bypass the automatic update date to control the keyset position. */
+  private void setUpdatedAt(InjectExpectation expectation, Instant updatedAt) {
+    entityManager
+        .createNativeQuery(
+            "UPDATE injects_expectations SET inject_expectation_updated_at = :updatedAt WHERE inject_expectation_id = :id")
+        .setParameter("updatedAt", updatedAt)
+        .setParameter("id", expectation.getId())
+        .executeUpdate();
+  }
+
+  private static List<String> ids(List<RawInjectExpectation> raws) {
+    return raws.stream().map(RawInjectExpectation::getInject_expectation_id).toList();
+  }
+
+  @Test
+  @DisplayName("Should read the expectations after the cursor, ordered by date then id")
+  void given_expectations_with_same_date_should_compare_date_and_id() {
+    // -- PREPARE --
+    List<InjectExpectation> expectations = persistAgentExpectations(3);
+    setUpdatedAt(expectations.get(0), T2);
+    setUpdatedAt(expectations.get(1), T2);
+    setUpdatedAt(expectations.get(2), T1);
+
+    // -- EXECUTE --
+    List<RawInjectExpectation> fromStart =
+        injectExpectationRepository.rawNotFilledAfter(TYPES, null, T1.minusMillis(1), "", 10);
+    List<RawInjectExpectation> afterFirstOfDate =
+        injectExpectationRepository.rawNotFilledAfter(
+            TYPES, null, T2, expectations.get(0).getId(), 10);
+
+    // -- ASSERT --
+    assertEquals(
+        List.of(
+            expectations.get(2).getId(), expectations.get(0).getId(), expectations.get(1).getId()),
+        ids(fromStart));
+    assertEquals(List.of(expectations.get(1).getId()), ids(afterFirstOfDate));
+  }
+
+  @Test
+  @DisplayName("Should skip the expectations filled by the source, or by any source without one")
+  void given_filled_expectation_should_filter_by_source() {
+    // -- PREPARE --
+    List<InjectExpectation> expectations = persistAgentExpectations(2);
+    InjectExpectation filled = expectations.get(0);
+    filled.setResults(
+        new ArrayList<>(
+            List.of(
+                InjectExpectationResult.builder()
+                    .sourceId("source-a")
+                    .result("Detected")
+                    .build())));
+    injectExpectationRepository.save(filled);
+    entityManager.flush();
+    setUpdatedAt(expectations.get(0), T1);
+    setUpdatedAt(expectations.get(1), T1);
+
+    // -- EXECUTE --
+    List<RawInjectExpectation> anySource =
+        injectExpectationRepository.rawNotFilledAfter(TYPES, null, T1.minusMillis(1), "", 10);
+    List<RawInjectExpectation> sameSource =
+        injectExpectationRepository.rawNotFilledAfter(TYPES, "source-a", T1.minusMillis(1), "", 10);
+    List<RawInjectExpectation> otherSource =
+        injectExpectationRepository.rawNotFilledAfter(TYPES, "source-b", T1.minusMillis(1), "", 10);
+
+    // -- ASSERT --
+    assertEquals(List.of(expectations.get(1).getId()), ids(anySource));
+    assertEquals(List.of(expectations.get(1).getId()), ids(sameSource));
+    assertEquals(
+        List.of(expectations.get(0).getId(), expectations.get(1).getId()), ids(otherSource));
+  }
+
+  @Test
+  @DisplayName("Should read the expectations behind the cursor within the window, closest first")
+  void given_cursor_should_read_back_within_window() {
+    // -- PREPARE --
+    List<InjectExpectation> expectations = persistAgentExpectations(3);
+    setUpdatedAt(expectations.get(0), T1);
+    setUpdatedAt(expectations.get(1), T2);
+    setUpdatedAt(expectations.get(2), T2);
+
+    // -- EXECUTE --
+    List<RawInjectExpectation> window =
+        injectExpectationRepository.rawNotFilledBefore(
+            TYPES, null, T1, T2, expectations.get(1).getId(), 10);
+    List<RawInjectExpectation> shortWindow =
+        injectExpectationRepository.rawNotFilledBefore(
+            TYPES, null, T1.plusMillis(1), T2, expectations.get(2).getId(), 10);
+
+    // -- ASSERT --
+    assertEquals(List.of(expectations.get(1).getId(), expectations.get(0).getId()), ids(window));
+    assertEquals(
+        List.of(expectations.get(2).getId(), expectations.get(1).getId()), ids(shortWindow));
+  }
+
+  @Test
+  @DisplayName("Should change the feed version when an expectation after the cursor changes")
+  void given_updated_expectation_should_change_feed_version() {
+    // -- PREPARE --
+    List<InjectExpectation> expectations = persistAgentExpectations(2);
+    setUpdatedAt(expectations.get(0), T1);
+    setUpdatedAt(expectations.get(1), T1);
+    String before = injectExpectationRepository.feedVersionAfter(TYPES, T1.minusMillis(1), "");
+
+    // -- EXECUTE --
+    setUpdatedAt(expectations.get(1), T2);
+    String after = injectExpectationRepository.feedVersionAfter(TYPES, T1.minusMillis(1), "");
+    String afterCursor =
+        injectExpectationRepository.feedVersionAfter(TYPES, T1, expectations.get(0).getId());
+
+    // -- ASSERT --
+    assertTrue(before.startsWith("2-"));
+    assertNotEquals(before, after);
+    assertTrue(afterCursor.startsWith("1-"));
+  }
+}
@@ -0,0 +1,146 @@
+package io.openaev.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.openaev.database.model.InjectExpectation;
+import io.openaev.database.raw.RawInjectExpectation;
+import io.openaev.database.raw.impl.SimpleRawInjectExpectation;
+import io.openaev.database.repository.InjectExpectationRepository;
+import io.openaev.rest.exception.BadRequestException;
+import io.openaev.rest.inject.output.InjectExpectationFeedItem;
+import io.openaev.rest.inject.output.InjectExpectationFeedOutput;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InjectExpectationFeedServiceTest {
+
+  private static final Instant UPDATED_AT = Instant.parse("2025-01-01T10:00:00.123456Z");
+
+  @Mock private InjectExpectationRepository injectExpectationRepository;
+  @InjectMocks private InjectExpectationFeedService injectExpectationFeedService;
+
+  private static RawInjectExpectation raw(String id) {
+    SimpleRawInjectExpectation raw = new SimpleRawInjectExpectation();
+    raw.setInject_expectation_id(id);
+    raw.setInject_expectation_type("DETECTION");
+    raw.setInject_expectation_updated_at(UPDATED_AT);
+    return raw;
+  }
+
+  @Test
+  @DisplayName("Should return a page and the cursor of its last expectation")
+  void given_more_expectations_than_size_should_return_page_and_cursor() {
+    // -- PREPARE --
+    when(injectExpectationRepository.rawNotFilledAfter(
+            eq(List.of("DETECTION", "MANUAL", "PREVENTION")),
+            eq("source"),
+            eq(Instant.EPOCH),
+            eq(""),
+            eq(3)))
+        .thenReturn(List.of(raw("first"), raw("second"), raw("third")));
+
+    // -- EXECUTE --
+    InjectExpectationFeedOutput page = injectExpectationFeedService.feed(null, "source", null, 2);
+
+    // -- ASSERT --
+    assertTrue(page.isHasMore());
+    assertEquals(2, page.getData().size());
+    assertEquals(InjectExpectation.EXPECTATION_TYPE.DETECTION, page.getData().get(0).getType());
+    InjectExpectationFeedService.Cursor next =
+        InjectExpectationFeedService.decodeCursor(page.getNextCursor());
+    assertEquals(UPDATED_AT, next.updatedAt());
+    assertEquals("second", next.id());
+  }
+
+  @Test
+  @DisplayName("Should keep the cursor when there is nothing new")
+  void given_no_expectation_should_keep_cursor() {
+    // -- PREPARE --
+    String cursor =
+        InjectExpectationFeedService.encodeCursor(
+            new InjectExpectationFeedService.Cursor(UPDATED_AT, "last"));
+    when(injectExpectationRepository.rawNotFilledAfter(
+            eq(List.of("PREVENTION")), isNull(), eq(UPDATED_AT), eq("last"), anyInt()))
+        .thenReturn(List.of());
+
+    // -- EXECUTE --
+    InjectExpectationFeedOutput page =
+        injectExpectationFeedService.feed(
+            List.of(InjectExpectation.EXPECTATION_TYPE.PREVENTION), null, cursor, 100);
+
+    // -- ASSERT --
+    assertFalse(page.isHasMore());
+    assertTrue(page.getData().isEmpty());
+    assertEquals(cursor, page.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("Should return again the expectations committed behind the cursor")
+  void given_late_expectation_behind_cursor_should_return_it_again() {
+    // -- PREPARE --
+    String cursor =
+        InjectExpectationFeedService.encodeCursor(
+            new InjectExpectationFeedService.Cursor(UPDATED_AT, "last"));
+    when(injectExpectationRepository.rawNotFilledAfter(
+            eq(List.of("PREVENTION")), isNull(), eq(UPDATED_AT), eq("last"), eq(101)))
+        .thenReturn(List.of(raw("next")));
+    when(injectExpectationRepository.rawNotFilledBefore(
+            eq(List.of("PREVENTION")),
+            isNull(),
+            eq(UPDATED_AT.minus(InjectExpectationFeedService.COMMIT_OVERLAP)),
+            eq(UPDATED_AT),
+            eq("last"),
+            eq(100)))
+        .thenReturn(List.of(raw("last"), raw("late")));
+
+    // -- EXECUTE --
+    InjectExpectationFeedOutput page =
+        injectExpectationFeedService.feed(
+            List.of(InjectExpectation.EXPECTATION_TYPE.PREVENTION), null, cursor, 100);
+
+    // -- ASSERT --
+    assertFalse(page.isHasMore());
+    assertEquals(
+        List.of("late", "last", "next"),
+        page.getData().stream().map(InjectExpectationFeedItem::getId).toList());
+    InjectExpectationFeedService.Cursor next =
+        InjectExpectationFeedService.decodeCursor(page.getNextCursor());
+    assertEquals("next", next.id());
+  }
+
+  @Test
+  @DisplayName("Should change the ETag only when the expectations after the cursor change")
+  void given_feed_version_should_derive_etag() {
+    // -- PREPARE --
+    when(injectExpectationRepository.feedVersionAfter(any(), any(), any()))
+        .thenReturn("10-1735725600", "10-1735725600", "11-1735725601");
+
+    // -- EXECUTE --
+    String first = injectExpectationFeedService.etag(null, "source", null, 500);
+    String same = injectExpectationFeedService.etag(null, "source", null, 500);
+    String changed = injectExpectationFeedService.etag(null, "source", null, 500);
+
+    // -- ASSERT --
+    assertEquals(first, same);
+    assertNotEquals(first, changed);
+    verify(injectExpectationRepository, never())
+        .rawNotFilledAfter(any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should reject an invalid cursor")
+  void given_invalid_cursor_should_throw_bad_request() {
+    assertThrows(
+        BadRequestException.class,
+        () -> injectExpectationFeedService.feed(null, null, "not a cursor", 10));
+  }
+}
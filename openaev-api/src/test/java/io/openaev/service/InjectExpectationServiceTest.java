@@ -3,11 +3,16 @@ package io.openaev.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.openaev.database.model.*;
 import io.openaev.database.repository.*;
+import io.openaev.rest.collector.service.CollectorService;
+import io.openaev.rest.inject.form.InjectExpectationCollectorUpdate;
 import io.openaev.utils.fixtures.*;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +26,8 @@ class InjectExpectationServiceTest {
   static Long EXPIRATION_TIME_SIX_HOURS = 21600L;
 
   @Mock private InjectExpectationRepository mockedInjectExpectationRepository;
+  @Mock private CollectorService collectorService;
+  @Mock private SecurityCoverageSendJobService securityCoverageSendJobService;
   @InjectMocks private InjectExpectationService testInjectExpectationService;
 
   @Test
@@ -91,4 +98,61 @@ class InjectExpectationServiceTest {
     assertEquals(2, result.size());
     assertEquals(manualExpectation.getId(), result.get(0).getId());
   }
+
+  @Test
+  @DisplayName("Should apply collector updates and propagate them once per asset")
+  void given_collector_updates_should_propagate_once_per_asset() {
+    // -- PREPARE --
+    Inject inject = InjectFixture.getDefaultInject();
+    inject.setId("inject");
+    Endpoint endpoint = EndpointFixture.createEndpoint();
+    endpoint.setId("endpoint");
+    InjectExpectation first = agentExpectation(inject, endpoint, "first");
+    InjectExpectation second = agentExpectation(inject, endpoint, "second");
+    InjectExpectation assetExpectation =
+        InjectExpectationFixture.createDetectionInjectExpectation(inject, null);
+    assetExpectation.setId("asset");
+    assetExpectation.setAsset(endpoint);
+    inject.setExpectations(new ArrayList<>(List.of(first, second, assetExpectation)));
+    Collector collector = CollectorFixture.createDefaultCollector("collector");
+
+    when(mockedInjectExpectationRepository.findAllById(any())).thenReturn(List.of(first, second));
+    when(collectorService.collector("collector")).thenReturn(collector);
+
+    List<InjectExpectationCollectorUpdate> updates =
+        List.of(collectorUpdate("first"), collectorUpdate("second"), collectorUpdate("unknown"));
+
+    // -- EXECUTE --
+    List<InjectExpectationCollectorUpdate> processed =
+        testInjectExpectationService.handleCollectorUpdates(updates);
+
+    // -- ASSERT --
+    assertEquals(updates, processed);
+    assertEquals(100.0, first.getScore());
+    assertEquals(100.0, second.getScore());
+    assertEquals(100.0, assetExpectation.getScore());
+    verify(collectorService, times(1)).collector("collector");
+    verify(mockedInjectExpectationRepository, times(2)).saveAll(any());
+    verify(securityCoverageSendJobService, times(1))
+        .createOrUpdateCoverageSendJobForSimulationsIfReady(any());
+  }
+
+  private static InjectExpectation agentExpectation(
+      Inject inject, Endpoint endpoint, String expectationId) {
+    InjectExpectation expectation =
+        InjectExpectationFixture.createDetectionInjectExpectation(
+            inject, AgentFixture.createAgent(endpoint, expectationId));
+    expectation.setId(expectationId);
+    expectation.setAsset(endpoint);
+    return expectation;
+  }
+
+  private static InjectExpectationCollectorUpdate collectorUpdate(String expectationId) {
+    return InjectExpectationCollectorUpdate.builder()
+        .expectationId(expectationId)
+        .injectId("inject")
+        .input(
+            InjectExpectationFixture.getInjectExpectationUpdateInput("collector", "Detected", true))
+        .build();
+  }
 }
@@ -0,0 +1,132 @@
+package io.openaev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openaev.config.OpenAEVConfig;
+import io.openaev.config.RabbitmqConfig;
+import io.openaev.database.model.InjectExpectation;
+import io.openaev.rest.collector.service.CollectorService;
+import io.openaev.rest.exception.ElementNotFoundException;
+import io.openaev.rest.helper.queue.BatchQueueService;
+import io.openaev.rest.inject.form.InjectExpectationCollectorUpdate;
+import io.openaev.rest.inject.form.InjectExpectationUpdateInput;
+import io.openaev.telemetry.metric_collectors.MetricRegistry;
+import io.openaev.utils.fixtures.InjectExpectationFixture;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InjectExpectationUpdateWriterTest {
+
+  private static final InjectExpectationUpdateInput INPUT =
+      InjectExpectationFixture.getInjectExpectationUpdateInput("collector", "Detected", true);
+
+  @Mock private InjectExpectationService injectExpectationService;
+  @Mock private CollectorService collectorService;
+  @Mock private BatchQueueService<InjectExpectationCollectorUpdate> expectationUpdateQueueService;
+  @Mock private MetricRegistry metricRegistry;
+
+  private InjectExpectationUpdateWriter writer() {
+    return new InjectExpectationUpdateWriter(
+        injectExpectationService,
+        collectorService,
+        new RabbitmqConfig(),
+        new OpenAEVConfig(),
+        new ObjectMapper(),
+        metricRegistry);
+  }
+
+  @Test
+  @DisplayName("Should apply a single update immediately, even with a queue")
+  void given_queue_should_apply_single_update_immediately() throws IOException {
+    // -- PREPARE --
+    InjectExpectationUpdateWriter writer = writer();
+    writer.setExpectationUpdateQueueService(expectationUpdateQueueService);
+    InjectExpectation expectation = new InjectExpectation();
+    when(injectExpectationService.updateInjectExpectation("expectation", INPUT))
+        .thenReturn(expectation);
+
+    // -- EXECUTE --
+    InjectExpectation result = writer.write("expectation", INPUT);
+
+    // -- ASSERT --
+    assertEquals(expectation, result);
+    verify(expectationUpdateQueueService, never()).publish(any());
+  }
+
+  @Test
+  @DisplayName("Should queue the known expectations of a bulk update")
+  void given_queue_should_publish_bulk_updates_of_known_expectations() throws IOException {
+    // -- PREPARE --
+    InjectExpectationUpdateWriter writer = writer();
+    writer.setExpectationUpdateQueueService(expectationUpdateQueueService);
+    when(injectExpectationService.findInjectIdsByExpectationIds(any()))
+        .thenReturn(Map.of("first", "inject"));
+
+    // -- EXECUTE --
+    writer.writeAll(Map.of("first", INPUT, "unknown", INPUT));
+
+    // -- ASSERT --
+    ArgumentCaptor<InjectExpectationCollectorUpdate> update =
+        ArgumentCaptor.forClass(InjectExpectationCollectorUpdate.class);
+    verify(expectationUpdateQueueService, times(1)).publish(update.capture());
+    assertEquals("inject", update.getValue().getUniqueElementKey());
+    assertEquals("first", update.getValue().getExpectationId());
+    assertEquals(INPUT, update.getValue().getInput());
+    verify(collectorService, times(1)).collector("collector");
+    verify(injectExpectationService, never()).bulkUpdateInjectExpectation(any());
+  }
+
+  @Test
+  @DisplayName("Should reject a bulk update of an unknown collector before queuing it")
+  void given_unknown_collector_should_reject_bulk_update() throws IOException {
+    // -- PREPARE --
+    InjectExpectationUpdateWriter writer = writer();
+    writer.setExpectationUpdateQueueService(expectationUpdateQueueService);
+    when(collectorService.collector("collector")).thenThrow(new ElementNotFoundException());
+
+    // -- EXECUTE --
+    assertThrows(ElementNotFoundException.class, () -> writer.writeAll(Map.of("first", INPUT)));
+
+    // -- ASSERT --
+    verify(expectationUpdateQueueService, never()).publish(any());
+    verify(injectExpectationService, never()).bulkUpdateInjectExpectation(any());
+  }
+
+  @Test
+  @DisplayName("Should apply the bulk update immediately when the queue is unreachable")
+  void given_queue_failure_should_update_immediately() throws IOException {
+    // -- PREPARE --
+    InjectExpectationUpdateWriter writer = writer();
+    writer.setExpectationUpdateQueueService(expectationUpdateQueueService);
+    when(injectExpectationService.findInjectIdsByExpectationIds(any()))
+        .thenReturn(Map.of("first", "inject"));
+    doThrow(new IOException("unreachable")).when(expectationUpdateQueueService).publish(any());
+
+    // -- EXECUTE --
+    writer.writeAll(Map.of("first", INPUT));
+
+    // -- ASSERT --
+    verify(injectExpectationService).bulkUpdateInjectExpectation(Map.of("first", INPUT));
+  }
+
+  @Test
+  @DisplayName("Should apply the update immediately without queue")
+  void given_no_queue_should_update_immediately() {
+    // -- EXECUTE --
+    writer().write("expectation", INPUT);
+
+    // -- ASSERT --
+    verify(injectExpectationService).updateInjectExpectation("expectation", INPUT);
+  }
+}
@@ -45,7 +45,6 @@ class ScenarioServiceTest extends IntegrationTest {
   @Autowired ScenarioRepository scenarioRepository;
   @Autowired private TeamRepository teamRepository;
   @Autowired private UserRepository userRepository;
-  @Autowired private DocumentRepository documentRepository;
   @Autowired private ScenarioTeamUserRepository scenarioTeamUserRepository;
   @Autowired private ArticleRepository articleRepository;
   @Mock ScenarioRepository mockScenarioRepository;
@@ -57,7 +56,7 @@ class ScenarioServiceTest extends IntegrationTest {
   @Mock VariableService variableService;
   @Mock ChallengeService challengeService;
   @Autowired private TeamService teamService;
-  @Mock FileService fileService;
+  @Mock ExportZipService exportZipService;
   @Autowired private InjectDuplicateService injectDuplicateService;
   @Mock private InjectService injectService;
   @Mock private TagRuleService tagRuleService;
@@ -81,7 +80,6 @@ class ScenarioServiceTest extends IntegrationTest {
             scenarioRepository,
             teamRepository,
             userRepository,
-            documentRepository,
             scenarioTeamUserRepository,
             articleRepository,
             exerciseMapper,
@@ -91,7 +89,7 @@ class ScenarioServiceTest extends IntegrationTest {
             variableService,
             challengeService,
             teamService,
-            fileService,
+            exportZipService,
             injectDuplicateService,
             tagRuleService,
             injectService,
@@ -108,7 +106,6 @@ class ScenarioServiceTest extends IntegrationTest {
             mockScenarioRepository,
             teamRepository,
             userRepository,
-            documentRepository,
             scenarioTeamUserRepository,
             articleRepository,
             exerciseMapper,
@@ -118,7 +115,7 @@ class ScenarioServiceTest extends IntegrationTest {
             variableService,
             challengeService,
             teamService,
-            fileService,
+            exportZipService,
             injectDuplicateService,
             tagRuleService,
             injectService,
@@ -0,0 +1,94 @@
+package io.openaev.utils;
+
+import static io.openaev.utils.FilterUtilsRuntime.compileFilterGroupRuntime;
+import static io.openaev.utils.FilterUtilsRuntime.computeFilterGroupRuntime;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.openaev.database.model.Endpoint;
+import io.openaev.database.model.Filters;
+import io.openaev.utils.fixtures.EndpointFixture;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FilterUtilsRuntimeTest {
+
+  private static Endpoint endpoint(String name, String hostname, Endpoint.PLATFORM_TYPE platform) {
+    Endpoint endpoint = EndpointFixture.createEndpointWithPlatform(name, platform);
+    endpoint.setHostname(hostname);
+    return endpoint;
+  }
+
+  private static Filters.Filter filter(
+      String key, Filters.FilterOperator operator, List<String> values) {
+    Filters.Filter filter = new Filters.Filter();
+    filter.setKey(key);
+    filter.setMode(Filters.FilterMode.or);
+    filter.setOperator(operator);
+    filter.setValues(values);
+    return filter;
+  }
+
+  @Test
+  @DisplayName("Should match the endpoints of a compiled filter group")
+  void given_compiled_filter_group_should_match_endpoints() {
+    // -- PREPARE --
+    Endpoint windows = endpoint("Windows", "win-01", Endpoint.PLATFORM_TYPE.Windows);
+    Endpoint linux = endpoint("Linux", "lin-01", Endpoint.PLATFORM_TYPE.Linux);
+    Endpoint otherWindows = endpoint("Other", "desktop", Endpoint.PLATFORM_TYPE.Windows);
+    Filters.FilterGroup filterGroup =
+        Filters.FilterGroup.filterGroupWithFilters(
+            List.of(
+                filter("endpoint_platform", Filters.FilterOperator.eq, List.of("windows")),
+                filter("endpoint_hostname", Filters.FilterOperator.starts_with, List.of("WIN"))));
+
+    // -- EXECUTE --
+    Predicate<Endpoint> predicate = compileFilterGroupRuntime(filterGroup, Endpoint.class);
+
+    // -- ASSERT --
+    assertEquals(
+        List.of(windows),
+        List.of(windows, linux, otherWindows).stream().filter(predicate).toList());
+  }
+
+  @Test
+  @DisplayName("Should match inherited and array properties, in or mode")
+  void given_or_filter_group_on_inherited_and_array_properties_should_match_endpoints() {
+    // -- PREPARE --
+    Endpoint named = endpoint("Domain controller", "dc", Endpoint.PLATFORM_TYPE.Windows);
+    Endpoint addressed = endpoint("Server", "srv", Endpoint.PLATFORM_TYPE.Linux);
+    addressed.setIps(new String[] {"10.0.0.12"});
+    Endpoint other = endpoint("Laptop", "laptop", Endpoint.PLATFORM_TYPE.MacOS);
+    Filters.FilterGroup filterGroup =
+        Filters.FilterGroup.filterGroupWithFilters(
+            List.of(
+                filter("asset_name", Filters.FilterOperator.contains, List.of("controller")),
+                filter("endpoint_ips", Filters.FilterOperator.starts_with, List.of("10.0."))));
+    filterGroup.setMode(Filters.FilterMode.or);
+
+    // -- EXECUTE --
+    Predicate<Endpoint> compiled = compileFilterGroupRuntime(filterGroup, Endpoint.class);
+    Predicate<Object> dynamic = computeFilterGroupRuntime(filterGroup);
+
+    // -- ASSERT --
+    List<Endpoint> endpoints = List.of(named, addressed, other);
+    assertEquals(List.of(named, addressed), endpoints.stream().filter(compiled).toList());
+    assertEquals(List.of(named, addressed), endpoints.stream().filter(dynamic).toList());
+  }
+
+  @Test
+  @DisplayName("Should reject a filter on a property that is not filterable")
+  void given_unknown_filter_key_should_throw_on_compilation() {
+    // -- PREPARE --
+    Filters.FilterGroup filterGroup =
+        Filters.FilterGroup.filterGroupWithFilters(
+            List.of(filter("unknown", Filters.FilterOperator.eq, List.of("value"))));
+
+    // -- EXECUTE & ASSERT --
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> compileFilterGroupRuntime(filterGroup, Endpoint.class));
+  }
+}
@@ -0,0 +1,144 @@
+package io.openaev.utils;
+
+import static io.openaev.expectation.ExpectationType.DETECTION;
+import static io.openaev.expectation.ExpectationType.HUMAN_RESPONSE;
+import static io.openaev.expectation.ExpectationType.PREVENTION;
+import static io.openaev.utils.fixtures.ExpectationResultByTypeFixture.createDefaultExpectationResultsByType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.openaev.database.model.InjectExpectation.EXPECTATION_STATUS;
+import io.openaev.database.raw.RawExpectationResultCount;
+import io.openaev.database.repository.InjectExpectationRepository;
+import io.openaev.database.repository.InjectRepository;
+import io.openaev.utils.mapper.InjectExpectationMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResultUtilsGlobalCountsTest {
+
+  @Mock private InjectExpectationRepository injectExpectationRepository;
+  @Mock private InjectExpectationMapper injectExpectationMapper;
+  @Mock private InjectRepository injectRepository;
+
+  @InjectMocks private ResultUtils resultUtils;
+
+  private record Count(
+      String exerciseId, String type, long success, long partial, long failed, long pending)
+      implements RawExpectationResultCount {
+
+    @Override
+    public String getExercise_id() {
+      return exerciseId;
+    }
+
+    @Override
+    public String getInject_expectation_type() {
+      return type;
+    }
+
+    @Override
+    public Long getSuccess_count() {
+      return success;
+    }
+
+    @Override
+    public Long getPartial_count() {
+      return partial;
+    }
+
+    @Override
+    public Long getFailed_count() {
+      return failed;
+    }
+
+    @Override
+    public Long getPending_count() {
+      return pending;
+    }
+  }
+
+  @Test
+  @DisplayName("Should compute the global scores of several exercises with one query")
+  void given_exercises_should_compute_global_scores_from_counts() {
+    // -- PREPARE --
+    when(injectExpectationRepository.rawGlobalResultCountsByExerciseIds(
+            Set.of("first", "second", "empty")))
+        .thenReturn(
+            List.of(
+                new Count("first", "PREVENTION", 1, 1, 1, 0),
+                new Count("first", "DETECTION", 3, 0, 0, 0),
+                new Count("first", "MANUAL", 0, 0, 1, 0),
+                new Count("first", "ARTICLE", 0, 0, 1, 0),
+                new Count("second", "DETECTION", 0, 0, 0, 2)));
+
+    // -- EXECUTE --
+    Map<String, List<InjectExpectationResultUtils.ExpectationResultsByType>> results =
+        resultUtils.computeGlobalExpectationResultsByExerciseIds(
+            List.of("first", "second", "empty"));
+
+    // -- ASSERT --
+    assertEquals(
+        List.of(
+            createDefaultExpectationResultsByType(
+                PREVENTION, EXPECTATION_STATUS.PARTIAL, 1, 0, 1, 1),
+            createDefaultExpectationResultsByType(
+                DETECTION, EXPECTATION_STATUS.SUCCESS, 3, 0, 0, 0),
+            createDefaultExpectationResultsByType(
+                HUMAN_RESPONSE, EXPECTATION_STATUS.FAILED, 0, 0, 0, 2)),
+        results.get("first"));
+    assertEquals(
+        List.of(
+            createDefaultExpectationResultsByType(
+                DETECTION, EXPECTATION_STATUS.PENDING, 0, 2, 0, 0)),
+        results.get("second"));
+    assertEquals(List.of(), results.get("empty"));
+    verify(injectExpectationRepository, times(1))
+        .rawGlobalResultCountsByExerciseIds(Set.of("first", "second", "empty"));
+    verify(injectRepository, times(1)).findContentsByExerciseIds(Set.of("empty"));
+  }
+
+  @Test
+  @DisplayName(
+      "Should compute the global scores of a simulation without expectations from its injects")
+  void given_simulation_without_expectations_should_compute_global_scores_from_injects() {
+    // -- PREPARE --
+    String content = "{\"expectations\":[{\"expectation_type\":\"PREVENTION\"}]}";
+    List<InjectExpectationResultUtils.ExpectationResultsByType> expected =
+        List.of(
+            new InjectExpectationResultUtils.ExpectationResultsByType(
+                PREVENTION, EXPECTATION_STATUS.UNKNOWN, List.of()));
+    when(injectExpectationRepository.rawGlobalResultCountsByExerciseIds(
+            Set.of("scheduled", "started")))
+        .thenReturn(
+            List.<RawExpectationResultCount>of(new Count("started", "DETECTION", 1, 0, 0, 0)));
+    when(injectRepository.findContentsByExerciseIds(Set.of("scheduled")))
+        .thenReturn(List.<Object[]>of(new Object[] {"scheduled", content}));
+    when(injectExpectationMapper.buildExpectationResultsFromContents(List.of(content)))
+        .thenReturn(expected);
+
+    // -- EXECUTE --
+    Map<String, List<InjectExpectationResultUtils.ExpectationResultsByType>> results =
+        resultUtils.computeGlobalExpectationResultsByExerciseIds(List.of("scheduled", "started"));
+
+    // -- ASSERT --
+    assertEquals(expected, results.get("scheduled"));
+    assertEquals(
+        List.of(
+            createDefaultExpectationResultsByType(
+                DETECTION, EXPECTATION_STATUS.SUCCESS, 1, 0, 0, 0)),
+        results.get("started"));
+    verify(injectExpectationMapper, never()).buildExpectationResultsFromContents(List.of());
+  }
+}
@@ -0,0 +1,64 @@
+package io.openaev.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeBoundedCharSequenceTest {
+
+  @Test
+  @DisplayName("Should find the matches and groups of a regular regex")
+  void given_regular_regex_should_find_the_matches() {
+    // -- PREPARE --
+    TimeBoundedCharSequence text =
+        new TimeBoundedCharSequence("TCP 10.0.0.1:135\nTCP 10.0.0.2:445", Duration.ofSeconds(1));
+    Matcher matcher =
+        PatternCache.compile("^TCP\\s+(\\S+):(\\d+)$", Pattern.MULTILINE)
+            .orElseThrow()
+            .matcher(text);
+
+    // -- EXECUTE --
+    List<String> matches = new ArrayList<>();
+    while (matcher.find()) {
+      matches.add(matcher.group(1) + "/" + matcher.group(2));
+    }
+
+    // -- ASSERT --
+    assertEquals(List.of("10.0.0.1/135", "10.0.0.2/445"), matches);
+  }
+
+  @Test
+  @DisplayName("Should stop a catastrophically backtracking regex once its budget is spent")
+  void given_pathological_regex_should_stop_it() {
+    // -- PREPARE --
+    TimeBoundedCharSequence text =
+        new TimeBoundedCharSequence("a".repeat(40) + "!", Duration.ofMillis(50));
+    Matcher matcher = Pattern.compile("(.*a){20}!b").matcher(text);
+    long start = System.nanoTime();
+
+    // -- EXECUTE --
+    assertThrows(TimeBoundedCharSequence.RegexTimeoutException.class, matcher::find);
+
+    // -- ASSERT --
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 5);
+  }
+
+  @Test
+  @DisplayName("Should compile a regex once and remember an invalid one")
+  void given_regex_should_compile_it_once() {
+    // -- EXECUTE & ASSERT --
+    assertSame(
+        PatternCache.compile("^(\\S+)$", Pattern.MULTILINE).orElseThrow(),
+        PatternCache.compile("^(\\S+)$", Pattern.MULTILINE).orElseThrow());
+    assertTrue(PatternCache.compile("(unclosed", 0).isEmpty());
+  }
+}
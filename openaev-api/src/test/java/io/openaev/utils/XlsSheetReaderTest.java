@@ -0,0 +1,143 @@
+package io.openaev.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.openaev.rest.exception.BadRequestException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class XlsSheetReaderTest {
+
+  private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 14, 9, 30);
+
+  @TempDir private Path tempDir;
+
+  private record ReadRow(int rowNum, String type, Double time, LocalDateTime date, boolean flag) {}
+
+  @Test
+  @DisplayName("Should list the sheets of a xlsx file")
+  void given_xlsx_file_should_list_its_sheets() throws IOException {
+    // -- PREPARE --
+    Path file = write(new XSSFWorkbook(), "import.xlsx", false);
+
+    // -- EXECUTE --
+    List<String> sheetNames = XlsSheetReader.getSheetNames(file);
+
+    // -- ASSERT --
+    assertEquals(List.of("first", "injects"), sheetNames);
+  }
+
+  @Test
+  @DisplayName("Should stream the rows of a xlsx sheet with their cell types")
+  void given_xlsx_file_should_stream_the_rows() throws IOException {
+    // -- PREPARE --
+    Path file = write(new XSSFWorkbook(), "import.xlsx", false);
+
+    // -- EXECUTE --
+    List<ReadRow> rows = readRows(file);
+
+    // -- ASSERT --
+    assertEquals(expectedRows(), rows);
+  }
+
+  @Test
+  @DisplayName("Should read the dates of a xlsx file using the 1904 date system")
+  void given_xlsx_file_with_1904_dates_should_read_the_dates() throws IOException {
+    // -- PREPARE --
+    Path file = write(new XSSFWorkbook(), "import.xlsx", true);
+
+    // -- EXECUTE --
+    List<ReadRow> rows = readRows(file);
+
+    // -- ASSERT --
+    assertEquals(expectedRows(), rows);
+  }
+
+  @Test
+  @DisplayName("Should read the sheets and rows of a legacy xls file")
+  void given_xls_file_should_read_the_rows() throws IOException {
+    // -- PREPARE --
+    Path file = write(new HSSFWorkbook(), "import.xls", false);
+
+    // -- EXECUTE --
+    List<String> sheetNames = XlsSheetReader.getSheetNames(file);
+    List<ReadRow> rows = readRows(file);
+
+    // -- ASSERT --
+    assertEquals(List.of("first", "injects"), sheetNames);
+    assertEquals(expectedRows(), rows);
+  }
+
+  @Test
+  @DisplayName("Should fail when the sheet does not exist")
+  void given_unknown_sheet_should_fail() throws IOException {
+    // -- PREPARE --
+    Path file = write(new XSSFWorkbook(), "import.xlsx", false);
+
+    // -- EXECUTE & ASSERT --
+    assertThrows(
+        BadRequestException.class, () -> XlsSheetReader.readRows(file, "unknown", row -> {}));
+  }
+
+  private static List<ReadRow> expectedRows() {
+    return List.of(
+        new ReadRow(0, "SMS", 2.5, null, true), new ReadRow(3, "Mail", null, DATE, false));
+  }
+
+  private static List<ReadRow> readRows(Path file) throws IOException {
+    List<ReadRow> rows = new ArrayList<>();
+    XlsSheetReader.readRows(
+        file,
+        "injects",
+        row ->
+            rows.add(
+                new ReadRow(
+                    row.getRowNum(),
+                    row.getCell(0).getStringCellValue(),
+                    row.getCell(1).getCellType() == CellType.NUMERIC
+                        ? row.getCell(1).getNumericCellValue()
+                        : null,
+                    row.getCell(2) != null ? row.getCell(2).getLocalDateTimeCellValue() : null,
+                    row.getCell(3).getBooleanCellValue())));
+    return rows;
+  }
+
+  private Path write(Workbook workbook, String fileName, boolean date1904) throws IOException {
+    try (workbook) {
+      if (date1904) {
+        ((XSSFWorkbook) workbook).getCTWorkbook().getWorkbookPr().setDate1904(true);
+      }
+      workbook.createSheet("first").createRow(0).createCell(0).setCellValue("ignored");
+      Sheet sheet = workbook.createSheet("injects");
+      Row first = sheet.createRow(0);
+      first.createCell(0).setCellValue("SMS");
+      first.createCell(1).setCellValue(2.5);
+      first.createCell(3).setCellValue(true);
+      Row second = sheet.createRow(3);
+      second.createCell(0).setCellValue("Mail");
+      second.createCell(1);
+      second.createCell(2).setCellValue(DATE);
+      second.createCell(3).setCellValue(false);
+      Path file = tempDir.resolve(fileName);
+      try (OutputStream outputStream = Files.newOutputStream(file)) {
+        workbook.write(outputStream);
+      }
+      return file;
+    }
+  }
+}
@@ -6,8 +6,13 @@ import java.util.Set;
 
 public class RawFinishedExerciseWithInjectsFixture {
 
-  private record TestableRawFinishedExerciseWithInjects(Instant endDate, Set<String> injectIds)
-      implements RawFinishedExerciseWithInjects {
+  private record TestableRawFinishedExerciseWithInjects(
+      String id, Instant endDate, Set<String> injectIds) implements RawFinishedExerciseWithInjects {
+
+    @Override
+    public String getExercise_id() {
+      return id;
+    }
 
     @Override
     public Instant getExercise_end_date() {
@@ -21,7 +26,7 @@ public class RawFinishedExerciseWithInjectsFixture {
   }
 
   public static RawFinishedExerciseWithInjects createDefaultRawFinishedExerciseWithInjects(
-      Instant endDate, Set<String> injectIds) {
-    return new TestableRawFinishedExerciseWithInjects(endDate, injectIds);
+      String exerciseId, Instant endDate, Set<String> injectIds) {
+    return new TestableRawFinishedExerciseWithInjects(exerciseId, endDate, injectIds);
   }
 }
@@ -68,6 +68,11 @@ public class RawInjectExpectationFixture {
       return expectationScore;
     }
 
+    @Override
+    public String getInject_expectation_signatures() {
+      return null;
+    }
+
     @Override
     public Double getInject_expectation_expected_score() {
       return expectationExpectedScore;
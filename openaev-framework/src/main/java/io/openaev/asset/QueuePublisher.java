@@ -0,0 +1,167 @@
+package io.openaev.asset;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Long-lived RabbitMQ publisher sharing a single connection between a bounded pool of channels.
+ *
+ * <p>Channels are put in confirm mode, so {@link #publish} only returns once the broker has taken
+ * responsibility for the message. A channel that failed is discarded, and a closed connection is
+ * transparently reopened on the next publish: a message that failed because of a broken connection
+ * is retried once on a fresh one.
+ *
+ * <p><b>Thread Safety:</b> This class is safe for concurrent use, at most {@code poolSize} messages
+ * are published concurrently.
+ */
+@Slf4j
+public class QueuePublisher implements AutoCloseable {
+
+  private static final String CONNECTION_NAME = "openaev-publisher";
+
+  private final ConnectionFactory connectionFactory;
+  private final long confirmTimeout;
+  private final Semaphore permits;
+  private final BlockingQueue<Channel> idleChannels = new LinkedBlockingQueue<>();
+
+  private Connection connection;
+  private boolean closed = false;
+
+  /**
+   * @param connectionFactory the factory used to open the shared connection
+   * @param poolSize the maximum number of channels used concurrently
+   * @param confirmTimeout the maximum time in milliseconds to wait for a publish confirmation
+   */
+  public QueuePublisher(ConnectionFactory connectionFactory, int poolSize, long confirmTimeout) {
+    if (poolSize <= 0) {
+      throw new IllegalArgumentException("poolSize must be greater than 0");
+    }
+    this.connectionFactory = connectionFactory;
+    this.confirmTimeout = confirmTimeout;
+    this.permits = new Semaphore(poolSize, true);
+  }
+
+  /**
+   * Publishes a message and waits for the broker confirmation.
+   *
+   * @param exchange the exchange to publish to
+   * @param routingKey the routing key of the message
+   * @param body the message body
+   * @throws IOException if the message could not be published or was rejected by the broker
+   * @throws TimeoutException if no channel or no confirmation was available in time
+   */
+  public void publish(String exchange, String routingKey, byte[] body)
+      throws IOException, TimeoutException {
+    acquirePermit();
+    try {
+      try {
+        publishOnPooledChannel(exchange, routingKey, body);
+      } catch (IOException ex) {
+        if (isConnectionOpen()) {
+          throw ex;
+        }
+        log.warn("RabbitMQ publisher connection lost, retrying on a new connection", ex);
+        publishOnPooledChannel(exchange, routingKey, body);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void acquirePermit() throws TimeoutException {
+    try {
+      if (!permits.tryAcquire(confirmTimeout, TimeUnit.MILLISECONDS)) {
+        throw new TimeoutException("No RabbitMQ publisher channel available");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TimeoutException("Interrupted while waiting for a RabbitMQ publisher channel");
+    }
+  }
+
+  private void publishOnPooledChannel(String exchange, String routingKey, byte[] body)
+      throws IOException, TimeoutException {
+    Channel channel = borrowChannel();
+    boolean healthy = false;
+    try {
+      channel.basicPublish(exchange, routingKey, null, body);
+      channel.waitForConfirmsOrDie(confirmTimeout);
+      healthy = true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for RabbitMQ publish confirmation", e);
+    } finally {
+      if (healthy && channel.isOpen()) {
+        idleChannels.offer(channel);
+      } else {
+        discard(channel);
+      }
+    }
+  }
+
+  private Channel borrowChannel() throws IOException, TimeoutException {
+    Channel channel;
+    while ((channel = idleChannels.poll()) != null) {
+      if (channel.isOpen()) {
+        return channel;
+      }
+    }
+    channel = openConnection().createChannel();
+    if (channel == null) {
+      throw new IOException("No RabbitMQ channel available on the publisher connection");
+    }
+    channel.confirmSelect();
+    return channel;
+  }
+
+  private synchronized Connection openConnection() throws IOException, TimeoutException {
+    if (closed) {
+      throw new IOException("RabbitMQ publisher is closed");
+    }
+    if (connection == null || !connection.isOpen()) {
+      idleChannels.clear();
+      if (connection != null) {
+        connection.abort();
+      }
+      connection = connectionFactory.newConnection(CONNECTION_NAME);
+      log.debug("RabbitMQ publisher connection opened");
+    }
+    return connection;
+  }
+
+  private synchronized boolean isConnectionOpen() {
+    return connection != null && connection.isOpen();
+  }
+
+  private void discard(Channel channel) {
+    try {
+      if (channel.isOpen()) {
+        channel.close();
+      }
+    } catch (Exception e) {
+      log.debug("Failed to close RabbitMQ publisher channel", e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    idleChannels.clear();
+    if (connection != null && connection.isOpen()) {
+      try {
+        connection.close();
+      } catch (IOException e) {
+        log.warn("Failed to close RabbitMQ publisher connection", e);
+      }
+    }
+    connection = null;
+  }
+}
@@ -4,6 +4,7 @@ import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
 import io.openaev.config.RabbitmqConfig;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -26,11 +27,12 @@ import org.springframework.stereotype.Service;
  * <p>Messages are published to a topic exchange with routing keys based on the inject type,
  * allowing subscribers to selectively consume messages for specific injection types.
  *
- * <p><b>Thread Safety:</b> This service creates new connections for each publish operation, making
- * it safe for concurrent use. For high-throughput scenarios, consider implementing connection
- * pooling.
+ * <p><b>Thread Safety:</b> Messages are published through a shared {@link QueuePublisher}, which
+ * reuses a single connection and a bounded pool of confirmed channels, making this service safe for
+ * concurrent use.
  *
  * @see RabbitmqConfig for connection configuration
+ * @see QueuePublisher
  */
 @Slf4j
 @Service
@@ -45,6 +47,8 @@ public class QueueService {
 
   private final RabbitmqConfig rabbitmqConfig;
 
+  private QueuePublisher publisher;
+
   /**
    * Publishes a JSON message to RabbitMQ for a specific inject type.
    *
@@ -63,14 +67,11 @@ public class QueueService {
       throw new IllegalArgumentException("publishedJson cannot be null or empty");
     }
 
-    ConnectionFactory factory = createConnectionFactory();
-
-    try (Connection connection = factory.newConnection();
-        Channel channel = connection.createChannel()) {
-      String routingKey = rabbitmqConfig.getPrefix() + ROUTING_KEY + injectType;
-      String exchangeKey = rabbitmqConfig.getPrefix() + EXCHANGE_KEY;
-      channel.basicPublish(
-          exchangeKey, routingKey, null, publishedJson.getBytes(StandardCharsets.UTF_8));
+    String routingKey = rabbitmqConfig.getPrefix() + ROUTING_KEY + injectType;
+    String exchangeKey = rabbitmqConfig.getPrefix() + EXCHANGE_KEY;
+    try {
+      getPublisher()
+          .publish(exchangeKey, routingKey, publishedJson.getBytes(StandardCharsets.UTF_8));
       log.debug(
           "Successfully published message to exchange '{}' with routing key '{}'",
           exchangeKey,
@@ -78,8 +79,8 @@ public class QueueService {
     } catch (IOException ex) {
       log.error(
           "I/O error publishing to RabbitMQ exchange '{}' with routing key '{}'",
-          rabbitmqConfig.getPrefix() + EXCHANGE_KEY,
-          rabbitmqConfig.getPrefix() + ROUTING_KEY + injectType,
+          exchangeKey,
+          routingKey,
           ex);
       throw ex;
     } catch (TimeoutException ex) {
@@ -88,6 +89,29 @@ public class QueueService {
     }
   }
 
+  private synchronized QueuePublisher getPublisher() {
+    if (publisher == null) {
+      ConnectionFactory factory = createConnectionFactory();
+      // Reconnection is handled by the publisher itself
+      factory.setAutomaticRecoveryEnabled(false);
+      publisher =
+          new QueuePublisher(
+              factory,
+              rabbitmqConfig.getPublisherPoolSize(),
+              rabbitmqConfig.getPublisherConfirmTimeout());
+    }
+    return publisher;
+  }
+
+  /** Closes the shared publisher connection. */
+  @PreDestroy
+  public synchronized void closePublisher() {
+    if (publisher != null) {
+      publisher.close();
+      publisher = null;
+    }
+  }
+
   /**
    * Creates and configures a RabbitMQ ConnectionFactory based on the current configuration.
    *
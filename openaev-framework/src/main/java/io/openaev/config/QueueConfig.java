@@ -38,11 +38,11 @@ public class QueueConfig {
   @JsonProperty("queue-name")
   private String queueName = "openaev-queue";
 
-  /** Maximum number of messages in the queue (default: 100). */
+  /** Maximum number of messages processed in a batch (default: 100). */
   @JsonProperty("max-size")
   private int maxSize = 100;
 
-  /** Consumer prefetch count for flow control (default: 30). */
+  /** Consumer prefetch count for flow control, also bounding the worker buffers (default: 30). */
   @JsonProperty("consumer-qos")
   private int consumerQos = 30;
 
@@ -86,4 +86,15 @@ public class RabbitmqConfig {
   @JsonIgnore
   @Value("${openbas.rabbitmq.trust-store:${openaev.rabbitmq.trust-store:#{null}}}")
   private Resource trustStore;
+
+  /** The maximum number of channels used concurrently to publish messages. */
+  @JsonIgnore
+  @Value("${openbas.rabbitmq.publisher-pool-size:${openaev.rabbitmq.publisher-pool-size:16}}")
+  private int publisherPoolSize;
+
+  /** The maximum time in milliseconds to wait for the broker to confirm a published message. */
+  @JsonIgnore
+  @Value(
+      "${openbas.rabbitmq.publisher-confirm-timeout:${openaev.rabbitmq.publisher-confirm-timeout:5000}}")
+  private long publisherConfirmTimeout;
 }
@@ -12,9 +12,15 @@ import io.openaev.database.model.Filters.FilterOperator;
 import io.openaev.schema.PropertySchema;
 import io.openaev.schema.SchemaUtils;
 import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -24,6 +30,9 @@ import java.util.function.Predicate;
  * used for in-memory filtering of collections. This is useful when filtering needs to happen
  * outside of the database layer.
  *
+ * <p>The getters of the filtered properties are resolved once per class and cached, so evaluating a
+ * predicate does not go through reflection.
+ *
  * <p>Supported filter operators:
  *
  * <ul>
@@ -48,8 +57,40 @@ public final class FilterUtilsRuntime {
   /** Predicate that always returns true (matches all values). */
   private static final Predicate<Object> EMPTY_PREDICATE = value -> true;
 
+  /** Getters of the filterable properties, resolved once per class and filter key. */
+  private static final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, MethodHandle>>
+      ACCESSORS = new ConcurrentHashMap<>();
+
+  /**
+   * Builds a predicate from a filter group, resolving the filtered properties on the class of each
+   * evaluated value.
+   *
+   * @param filterGroup the filter group
+   * @return the predicate matching the values of the filter group
+   */
   public static Predicate<Object> computeFilterGroupRuntime(
       @Nullable final FilterGroup filterGroup) {
+    return compileFilterGroup(filterGroup, FilterUtilsRuntime::computeFilter);
+  }
+
+  /**
+   * Builds a predicate from a filter group, resolving the filtered properties on the given class
+   * once. Use it to evaluate the same filter group against many values of the same class.
+   *
+   * @param filterGroup the filter group
+   * @param clazz the class of the evaluated values
+   * @return the predicate matching the values of the filter group
+   * @throws IllegalArgumentException if a filter key is not a filterable property of the class
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Predicate<T> compileFilterGroupRuntime(
+      @Nullable final FilterGroup filterGroup, @NotNull final Class<T> clazz) {
+    return (Predicate<T>) compileFilterGroup(filterGroup, filter -> compileFilter(filter, clazz));
+  }
+
+  private static Predicate<Object> compileFilterGroup(
+      @Nullable final FilterGroup filterGroup,
+      @NotNull final Function<Filter, Predicate<Object>> filterCompiler) {
     if (filterGroup == null) {
       return EMPTY_PREDICATE;
     }
@@ -57,8 +98,7 @@ public final class FilterUtilsRuntime {
     FilterMode mode = Optional.ofNullable(filterGroup.getMode()).orElse(and);
 
     if (!filters.isEmpty()) {
-      List<Predicate<Object>> list =
-          filters.stream().map(FilterUtilsRuntime::computeFilter).toList();
+      List<Predicate<Object>> list = filters.stream().map(filterCompiler).toList();
       Predicate<Object> result = null;
       for (Predicate<Object> el : list) {
         if (result == null) {
@@ -88,58 +128,93 @@ public final class FilterUtilsRuntime {
       return EMPTY_PREDICATE;
     }
 
-    return (value) -> {
-      List<PropertySchema> propertySchemas = SchemaUtils.schema(value.getClass());
-      List<PropertySchema> filterableProperties = getFilterableProperties(propertySchemas);
-      PropertySchema filterableProperty = retrieveProperty(filterableProperties, filterKey);
-      Map.Entry<Class<Object>, Object> entry = getPropertyInfo(value, filterableProperty);
-      return getPropertyValue(entry, filter);
-    };
+    BiFunction<Object, List<String>, Boolean> operation = computeOperation(filter.getOperator());
+    return (value) ->
+        getPropertyValue(
+            getPropertyInfo(value, accessor(value.getClass(), filterKey)), operation, filterValues);
   }
 
-  @SuppressWarnings("unchecked")
-  private static boolean getPropertyValue(Map.Entry<Class<Object>, Object> entry, Filter filter) {
-    if (entry == null || entry.getValue() == null) {
-      return false;
+  private static Predicate<Object> compileFilter(
+      @Nullable final Filter filter, @NotNull final Class<?> clazz) {
+    if (filter == null) {
+      return EMPTY_PREDICATE;
     }
+    List<String> filterValues = filter.getValues();
 
+    if (filterValues == null || filterValues.isEmpty()) {
+      return EMPTY_PREDICATE;
+    }
+
+    MethodHandle getter = accessor(clazz, filter.getKey());
     BiFunction<Object, List<String>, Boolean> operation = computeOperation(filter.getOperator());
+    return (value) -> getPropertyValue(getPropertyInfo(value, getter), operation, filterValues);
+  }
 
-    if (entry.getKey().isAssignableFrom(Map.class)
-        || entry.getKey().getName().contains("ImmutableCollections")) {
-      return ((Map) entry.getValue())
-          .values().stream().anyMatch(v -> operation.apply(v, filter.getValues()));
-    } else if (entry.getKey().isArray()) {
-      return Arrays.stream(((Object[]) entry.getValue()))
-          .anyMatch(v -> operation.apply(v, filter.getValues()));
+  @SuppressWarnings("unchecked")
+  private static boolean getPropertyValue(
+      Object currentObject,
+      BiFunction<Object, List<String>, Boolean> operation,
+      List<String> filterValues) {
+    if (currentObject == null) {
+      return false;
+    }
+
+    Class<?> type = currentObject.getClass();
+    if (type.isAssignableFrom(Map.class) || type.getName().contains("ImmutableCollections")) {
+      return ((Map) currentObject)
+          .values().stream().anyMatch(v -> operation.apply(v, filterValues));
+    } else if (type.isArray()) {
+      return Arrays.stream(((Object[]) currentObject))
+          .anyMatch(v -> operation.apply(v, filterValues));
     } else {
-      return operation.apply(entry.getValue(), filter.getValues());
+      return operation.apply(currentObject, filterValues);
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private static Map.Entry<Class<Object>, Object> getPropertyInfo(
-      Object obj, PropertySchema propertySchema) {
+  private static Object getPropertyInfo(Object obj, MethodHandle getter) {
     if (obj == null) {
       return null;
     }
+    try {
+      return getter.invokeExact(obj);
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
 
-    Field field;
-    Object currentObject;
+  // -- ACCESSOR --
+
+  private static MethodHandle accessor(@NotNull final Class<?> clazz, final String filterKey) {
+    return ACCESSORS
+        .computeIfAbsent(clazz, c -> new ConcurrentHashMap<>())
+        .computeIfAbsent(filterKey, key -> resolveAccessor(clazz, key));
+  }
+
+  private static MethodHandle resolveAccessor(
+      @NotNull final Class<?> clazz, final String filterKey) {
+    List<PropertySchema> filterableProperties = getFilterableProperties(SchemaUtils.schema(clazz));
+    PropertySchema filterableProperty = retrieveProperty(filterableProperties, filterKey);
     try {
-      field = obj.getClass().getDeclaredField(propertySchema.getName());
+      Field field = findField(clazz, filterableProperty.getName());
       field.setAccessible(true);
-
-      currentObject = field.get(obj);
+      return MethodHandles.lookup()
+          .unreflectGetter(field)
+          .asType(MethodType.methodType(Object.class, Object.class));
     } catch (NoSuchFieldException | IllegalAccessException e) {
       throw new RuntimeException(e);
     }
+  }
 
-    if (currentObject == null) {
-      return null;
+  private static Field findField(@NotNull final Class<?> clazz, final String name)
+      throws NoSuchFieldException {
+    for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+      try {
+        return current.getDeclaredField(name);
+      } catch (NoSuchFieldException e) {
+        // Inherited property, look into the superclass
+      }
     }
-
-    return Map.entry((Class<Object>) currentObject.getClass(), currentObject);
+    throw new NoSuchFieldException(name);
   }
 
   // -- OPERATOR --
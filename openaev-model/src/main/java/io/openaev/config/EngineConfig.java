@@ -81,6 +81,21 @@ public class EngineConfig {
 
     /** Default SSL certificate verification setting. */
     public static final boolean REJECT_UNAUTHORIZED = true;
+
+    /** Default maximum number of documents sent in a single bulk request. */
+    public static final int BULK_MAX_DOCUMENTS = 500;
+
+    /** Default maximum estimated size in bytes of a single bulk request. */
+    public static final long BULK_MAX_BYTES = 10L * 1024 * 1024;
+
+    /** Default maximum number of pages indexed per model and per synchronization run. */
+    public static final int BULK_MAX_PAGES_PER_RUN = 20;
+
+    /** Default maximum number of ids deleted in a single bulk delete. */
+    public static final int BULK_DELETE_MAX_IDS = 1000;
+
+    /** Default time window in milliseconds during which deletions are combined. */
+    public static final long BULK_DELETE_WINDOW_MS = 1000;
   }
 
   private String engineSelector = Defaults.ENGINE_SELECTOR;
@@ -109,6 +124,16 @@ public class EngineConfig {
 
   private String maxFieldsSize = Defaults.MAX_FIELD_SIZE;
 
+  private int bulkMaxDocuments = Defaults.BULK_MAX_DOCUMENTS;
+
+  private long bulkMaxBytes = Defaults.BULK_MAX_BYTES;
+
+  private int bulkMaxPagesPerRun = Defaults.BULK_MAX_PAGES_PER_RUN;
+
+  private int bulkDeleteMaxIds = Defaults.BULK_DELETE_MAX_IDS;
+
+  private long bulkDeleteWindowMs = Defaults.BULK_DELETE_WINDOW_MS;
+
   @NotNull private String url;
 
   private String username;
@@ -45,7 +45,8 @@ public class InjectExpectationRepositoryHelper {
                 UPDATE injects_expectations
                 SET inject_expectation_signatures =
                     COALESCE(inject_expectation_signatures, '[]'::jsonb) ||
-                    jsonb_build_array(jsonb_build_object('type', ?, 'value', ?))
+                    jsonb_build_array(jsonb_build_object('type', ?, 'value', ?)),
+                    inject_expectation_updated_at = now()
                 WHERE inject_id = ? AND agent_id = ?
                 """)) {
 
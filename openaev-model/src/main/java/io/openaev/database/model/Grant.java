@@ -2,6 +2,7 @@ package io.openaev.database.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.openaev.database.audit.ModelBaseListener;
 import io.openaev.helper.MonoIdSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -19,6 +20,7 @@ import org.hibernate.annotations.UuidGenerator;
 @Getter
 @Entity
 @Table(name = "grants")
+@EntityListeners(ModelBaseListener.class)
 public class Grant implements Base {
 
   public enum GRANT_RESOURCE_TYPE {
@@ -117,6 +119,12 @@ public class Grant implements Base {
     return user.isAdmin();
   }
 
+  // Grant events are only consumed to refresh the access rights, they are not streamed
+  @Override
+  public boolean isListened() {
+    return false;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
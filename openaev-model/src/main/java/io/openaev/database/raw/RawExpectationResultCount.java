@@ -0,0 +1,53 @@
+package io.openaev.database.raw;
+
+/**
+ * Spring Data projection interface for the expectation results of an exercise, counted by
+ * expectation type and normalized outcome.
+ *
+ * @see io.openaev.database.model.InjectExpectation
+ */
+public interface RawExpectationResultCount {
+
+  /**
+   * Returns the ID of the exercise the expectations belong to.
+   *
+   * @return the exercise ID
+   */
+  String getExercise_id();
+
+  /**
+   * Returns the type of the counted expectations.
+   *
+   * @return the expectation type (e.g., "PREVENTION", "DETECTION")
+   */
+  String getInject_expectation_type();
+
+  /**
+   * Returns the number of expectations whose score meets the expected score.
+   *
+   * @return the success count
+   */
+  Long getSuccess_count();
+
+  /**
+   * Returns the number of non-team expectations with a non-zero score below the expected score.
+   *
+   * @return the partial count
+   */
+  Long getPartial_count();
+
+  /**
+   * Returns the number of expectations failed, with a zero score or below the expected score for
+   * teams.
+   *
+   * @return the failed count
+   */
+  Long getFailed_count();
+
+  /**
+   * Returns the number of expectations without score yet.
+   *
+   * @return the pending count
+   */
+  Long getPending_count();
+}
@@ -63,6 +63,13 @@ public interface RawInjectExpectation {
    */
   Double getInject_expectation_score();
 
+  /**
+   * Returns the JSON-serialized signatures used by the collectors to match the expectation.
+   *
+   * @return the signatures as a JSON array string
+   */
+  String getInject_expectation_signatures();
+
   /**
    * Returns the expected/target score for this expectation.
    *
@@ -17,6 +17,9 @@ public interface RawInjectIndexing {
 
   Instant getInjector_contract_updated_at();
 
+  // Latest update of the inject, its contract, its dependencies and the contracts of its children
+  Instant getInject_indexing_updated_at();
+
   Instant getTracking_sent_date();
 
   Set<String> getInject_platforms();
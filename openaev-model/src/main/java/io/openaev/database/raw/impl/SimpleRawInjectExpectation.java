@@ -49,6 +49,7 @@ public class SimpleRawInjectExpectation implements RawInjectExpectation {
   private String inject_expectation_name;
   public String inject_expectation_description;
   public String inject_expectation_results;
+  public String inject_expectation_signatures;
   public Long inject_expiration_time;
   public Instant inject_expectation_updated_at;
   public Set<String> attack_pattern_ids;
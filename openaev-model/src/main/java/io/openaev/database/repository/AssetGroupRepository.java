@@ -42,6 +42,12 @@ public interface AssetGroupRepository
 
   Optional<AssetGroup> findByExternalReference(String externalReference);
 
+  @Query(
+      value =
+          "SELECT aga.asset_id FROM asset_groups_assets aga WHERE aga.asset_group_id = :assetGroupId",
+      nativeQuery = true)
+  Set<String> findAssetIdsByAssetGroupId(@Param("assetGroupId") String assetGroupId);
+
   @Query(
       "SELECT ag FROM AssetGroup ag "
           + "WHERE ag.id IN (SELECT DISTINCT ag2.id FROM AssetGroup ag2 "
@@ -228,9 +234,10 @@ public interface AssetGroupRepository
       value =
           "SELECT ag.asset_group_id, ag.asset_group_name, ag.asset_group_updated_at, ag.asset_group_created_at "
               + "FROM asset_groups ag "
-              + "WHERE ag.asset_group_updated_at > :from ORDER BY ag.asset_group_updated_at LIMIT "
+              + "WHERE (ag.asset_group_updated_at, ag.asset_group_id) > (:from, :fromId) ORDER BY ag.asset_group_updated_at, ag.asset_group_id LIMIT "
               + Constants.INDEXING_RECORD_SET_SIZE
               + ";",
       nativeQuery = true)
-  List<RawAssetGroupIndexing> findForIndexing(@Param("from") Instant from);
+  List<RawAssetGroupIndexing> findForIndexing(
+      @Param("from") Instant from, @Param("fromId") String fromId);
 }
@@ -17,6 +17,19 @@ public interface AssetRepository
   @Query("select a from Asset a where a.type IN :types")
   List<Asset> findByType(@Param("types") final List<String> types);
 
+  @Query(
+      value =
+          """
+                SELECT count(*) || '-' || COALESCE(extract(epoch FROM max(a.asset_updated_at))::text, '0')
+                || '-' || (SELECT COALESCE(extract(epoch FROM max(ag.asset_group_updated_at))::text, '0') FROM asset_groups ag)
+                || '-' || (SELECT count(*) || '-' || COALESCE(sum(hashtext(ast.asset_id || ast.tag_id)), 0) FROM assets_tags ast)
+                FROM assets a
+                """,
+      nativeQuery = true)
+  // Changes whenever an asset is added, updated or removed, its tags change, or an asset group is
+  // updated
+  String assetsVersion();
+
   /**
    * Returns the raw assets having the ids passed in parameter
    *
@@ -29,6 +29,9 @@ public interface ExerciseRepository
   @Query(value = "select e from Exercise e where e.status = 'SCHEDULED' and e.start <= :start")
   List<Exercise> findAllShouldBeInRunningState(@Param("start") Instant start);
 
+  @Query(value = "select e from Exercise e where e.status = 'SCHEDULED' and e.start is not null")
+  List<Exercise> findAllScheduled();
+
   @Override
   @Query(
       "select count(distinct e) from Exercise e "
@@ -321,10 +324,10 @@ public interface ExerciseRepository
               + "GROUP BY ex.exercise_id, ex.exercise_name, ex.exercise_created_at, ex.exercise_updated_at"
               + ") "
               + "SELECT * FROM exercise_data ed "
-              + "WHERE ed.exercise_injects_updated_at > :from "
-              + "ORDER BY ed.exercise_injects_updated_at ASC LIMIT "
+              + "WHERE (ed.exercise_injects_updated_at, ed.exercise_id) > (:from, :fromId) "
+              + "ORDER BY ed.exercise_injects_updated_at ASC, ed.exercise_id ASC LIMIT "
               + Constants.INDEXING_RECORD_SET_SIZE
               + ";",
       nativeQuery = true)
-  List<RawSimulation> findForIndexing(@Param("from") Instant from);
+  List<RawSimulation> findForIndexing(@Param("from") Instant from, @Param("fromId") String fromId);
 }
@@ -42,50 +42,79 @@ public interface FindingRepository
               + "LEFT JOIN injects i ON i.inject_id = f.finding_inject_id "
               + "LEFT JOIN scenarios_exercises se ON i.inject_exercise = se.exercise_id "
               + "LEFT JOIN findings_assets fa ON f.finding_id = fa.finding_id "
-              + "WHERE f.finding_updated_at > :from ORDER BY f.finding_updated_at LIMIT "
+              + "WHERE (f.finding_updated_at, f.finding_id) > (:from, :fromId) ORDER BY f.finding_updated_at, f.finding_id LIMIT "
               + Constants.INDEXING_RECORD_SET_SIZE
               + ";",
       nativeQuery = true)
-  List<RawFinding> findForIndexing(@Param("from") Instant from);
+  List<RawFinding> findForIndexing(@Param("from") Instant from, @Param("fromId") String fromId);
 
+  /**
+   * Save or update several findings of an inject in one statement, adding their assets and tags.
+   * The findings are given as parallel arrays and must be distinct; the assets and tags are linked
+   * to them by their field, type and value.
+   *
+   * @return the ids of the saved findings
+   */
   @Query(
       value =
           """
-        WITH inserted_finding AS (
+        WITH input_findings AS (
+          SELECT *
+          FROM unnest(CAST(:findingFields AS text[]), CAST(:findingTypes AS text[]),
+                      CAST(:findingValues AS text[]), CAST(:findingNames AS text[]))
+            AS input(finding_field, finding_type, finding_value, finding_name)
+        ),
+        inserted_findings AS (
           INSERT INTO findings
             (finding_id, finding_field, finding_type, finding_value,
              finding_labels, finding_inject_id, finding_name)
-          VALUES
-            (gen_random_uuid(), :findingField, :findingType, :findingValue,
-             :findingLabels, :findingInjectId, :findingName)
+          SELECT gen_random_uuid(), finding_field, finding_type, finding_value,
+                 CAST('{}' AS text[]), :findingInjectId, finding_name
+          FROM input_findings
           ON CONFLICT (finding_inject_id, finding_field, finding_type, finding_value)
           DO UPDATE SET finding_name = EXCLUDED.finding_name
-          RETURNING finding_id
+          RETURNING finding_id, finding_field, finding_type, finding_value
         ),
-        inserted_asset AS (
+        inserted_assets AS (
           INSERT INTO findings_assets (finding_id, asset_id)
-          SELECT finding_id, :assetId
-          FROM inserted_finding
+          SELECT f.finding_id, a.asset_id
+          FROM inserted_findings f
+          JOIN unnest(CAST(:assetFindingFields AS text[]), CAST(:assetFindingTypes AS text[]),
+                      CAST(:assetFindingValues AS text[]), CAST(:assetIds AS varchar[]))
+            AS a(finding_field, finding_type, finding_value, asset_id)
+            ON a.finding_field = f.finding_field
+           AND a.finding_type = f.finding_type
+           AND a.finding_value = f.finding_value
           ON CONFLICT DO NOTHING
         ),
         inserted_tags AS (
           INSERT INTO findings_tags (finding_id, tag_id)
-          SELECT finding_id, tag_id
-          FROM inserted_finding
-          CROSS JOIN unnest(CAST(:tagIds AS varchar[])) AS tag_id
+          SELECT f.finding_id, t.tag_id
+          FROM inserted_findings f
+          JOIN unnest(CAST(:tagFindingFields AS text[]), CAST(:tagFindingTypes AS text[]),
+                      CAST(:tagFindingValues AS text[]), CAST(:tagIds AS varchar[]))
+            AS t(finding_field, finding_type, finding_value, tag_id)
+            ON t.finding_field = f.finding_field
+           AND t.finding_type = f.finding_type
+           AND t.finding_value = f.finding_value
           ON CONFLICT DO NOTHING
         )
-        SELECT finding_id FROM inserted_finding
+        SELECT finding_id FROM inserted_findings
         """,
       nativeQuery = true)
   @Transactional(propagation = Propagation.REQUIRES_NEW)
-  String saveCompleteFinding(
-      @Param("findingField") String findingField,
-      @Param("findingType") String findingType,
-      @Param("findingValue") String findingValue,
-      @Param("findingLabels") String[] findingLabels,
+  List<String> saveCompleteFindings(
       @Param("findingInjectId") String injectId,
-      @Param("findingName") String name,
-      @Param("assetId") String assetId,
+      @Param("findingFields") String[] findingFields,
+      @Param("findingTypes") String[] findingTypes,
+      @Param("findingValues") String[] findingValues,
+      @Param("findingNames") String[] findingNames,
+      @Param("assetFindingFields") String[] assetFindingFields,
+      @Param("assetFindingTypes") String[] assetFindingTypes,
+      @Param("assetFindingValues") String[] assetFindingValues,
+      @Param("assetIds") String[] assetIds,
+      @Param("tagFindingFields") String[] tagFindingFields,
+      @Param("tagFindingTypes") String[] tagFindingTypes,
+      @Param("tagFindingValues") String[] tagFindingValues,
       @Param("tagIds") String[] tagIds);
 }
@@ -1,6 +1,7 @@
 package io.openaev.database.repository;
 
 import io.openaev.database.model.InjectExpectation;
+import io.openaev.database.raw.RawExpectationResultCount;
 import io.openaev.database.raw.RawInjectExpectation;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -32,6 +33,12 @@ public interface InjectExpectationRepository
       @Param("exerciseId") @NotBlank final String exerciseId,
       @Param("injectId") @NotBlank final String injectId);
 
+  @Query(
+      value =
+          "select i from InjectExpectation i where i.exercise.id in :exerciseIds and i.inject.id in :injectIds")
+  List<InjectExpectation> findAllForExercisesAndInjects(
+      @Param("exerciseIds") Set<String> exerciseIds, @Param("injectIds") Set<String> injectIds);
+
   @Query(
       value =
           "select i from InjectExpectation i where i.exercise.id = :exerciseId "
@@ -201,6 +208,44 @@ public interface InjectExpectationRepository
   List<RawInjectExpectation> rawForComputeGlobalByExerciseIds(
       @Param("exerciseIds") Set<String> exerciseIds);
 
+  @Query(
+      value =
+          """
+          SELECT i.exercise_id AS exercise_id,
+                 i.inject_expectation_type AS inject_expectation_type,
+                 count(*) FILTER (
+                   WHERE i.inject_expectation_score >= i.inject_expectation_expected_score
+                 ) AS success_count,
+                 count(*) FILTER (
+                   WHERE i.inject_expectation_score < i.inject_expectation_expected_score
+                   AND i.team_id IS NULL AND i.inject_expectation_score <> 0
+                 ) AS partial_count,
+                 count(*) FILTER (
+                   WHERE i.inject_expectation_score < i.inject_expectation_expected_score
+                   AND (i.team_id IS NOT NULL OR i.inject_expectation_score = 0)
+                 ) AS failed_count,
+                 count(*) FILTER (WHERE i.inject_expectation_score IS NULL) AS pending_count
+          FROM injects_expectations i
+          WHERE i.exercise_id IN (:exerciseIds)
+          AND i.user_id IS NULL
+          AND i.agent_id IS NULL
+          GROUP BY i.exercise_id, i.inject_expectation_type;
+          """,
+      nativeQuery = true)
+  // Same expectations as rawForComputeGlobalByExerciseIds, counted by normalized score
+  List<RawExpectationResultCount> rawGlobalResultCountsByExerciseIds(
+      @Param("exerciseIds") Set<String> exerciseIds);
+
+  @Query(
+      value =
+          "SELECT i.inject_expectation_id AS inject_expectation_id, i.inject_id AS inject_id "
+              + "FROM injects_expectations i "
+              + "WHERE i.inject_expectation_id IN (:expectationIds) ;",
+      nativeQuery = true)
+  // Only the inject of each expectation is projected
+  List<RawInjectExpectation> rawInjectByExpectationIds(
+      @Param("expectationIds") Set<String> expectationIds);
+
   @Query(
       value =
           "select i from InjectExpectation i where i.inject.id in :injectIds and i.agent is null and i.user is null")
@@ -213,7 +258,8 @@ public interface InjectExpectationRepository
                 UPDATE injects_expectations
                 SET inject_expectation_signatures =
                     COALESCE(inject_expectation_signatures, '[]'::jsonb) ||
-                    jsonb_build_array(jsonb_build_object('type', :sigType, 'value', :sigValue))
+                    jsonb_build_array(jsonb_build_object('type', :sigType, 'value', :sigValue)),
+                    inject_expectation_updated_at = now()
                 WHERE inject_id = :injectId AND agent_id = :agentId
                 """,
       nativeQuery = true)
@@ -223,6 +269,103 @@ public interface InjectExpectationRepository
       @Param("injectId") String injectId,
       @Param("agentId") String agentId);
 
+  // -- EXPIRATION --
+
+  @Query(
+      value =
+          """
+                SELECT ie.inject_expectation_id
+                FROM injects_expectations ie
+                WHERE ie.inject_expectation_score IS NULL
+                AND ((ie.inject_expectation_created_at AT TIME ZONE 'UTC') + (ie.inject_expiration_time / 60) * INTERVAL '1 minute')
+                  < (now() AT TIME ZONE 'UTC')
+                AND (ie.agent_id IS NOT NULL OR json_array_length(ie.inject_expectation_results::json) = 0)
+                ORDER BY ie.inject_id, ie.agent_id IS NULL
+                LIMIT :limit
+                """,
+      nativeQuery = true)
+  // The deadline expression must stay identical to the one of idx_inject_expectation_expiration
+  List<String> findExpiredNotFilledIds(@Param("limit") int limit);
+
+  // -- COLLECTOR FEED --
+
+  @Query(
+      value =
+          """
+                SELECT ie.inject_expectation_id, ie.inject_expectation_type, ie.inject_id,
+                  ie.exercise_id, ie.agent_id, ie.asset_id, ie.asset_group_id,
+                  ie.inject_expectation_signatures, ie.inject_expiration_time,
+                  ie.inject_expectation_created_at, ie.inject_expectation_updated_at
+                FROM injects_expectations ie
+                WHERE ie.agent_id IS NOT NULL
+                AND ie.inject_expectation_type IN (:types)
+                AND (ie.inject_expectation_updated_at, ie.inject_expectation_id) > (:afterDate, :afterId)
+                AND NOT EXISTS (
+                  SELECT 1
+                  FROM jsonb_array_elements(COALESCE(ie.inject_expectation_results::jsonb, '[]'::jsonb)) AS r(elem)
+                  WHERE btrim(COALESCE(r.elem->>'result', '')) <> ''
+                  AND (:sourceId IS NULL OR r.elem->>'sourceId' = :sourceId)
+                )
+                ORDER BY ie.inject_expectation_updated_at, ie.inject_expectation_id
+                LIMIT :limit
+                """,
+      nativeQuery = true)
+  // Agent expectations without result (from the source, if any), after the keyset position
+  List<RawInjectExpectation> rawNotFilledAfter(
+      @Param("types") List<String> types,
+      @Param("sourceId") String sourceId,
+      @Param("afterDate") Instant afterDate,
+      @Param("afterId") String afterId,
+      @Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+                SELECT ie.inject_expectation_id, ie.inject_expectation_type, ie.inject_id,
+                  ie.exercise_id, ie.agent_id, ie.asset_id, ie.asset_group_id,
+                  ie.inject_expectation_signatures, ie.inject_expiration_time,
+                  ie.inject_expectation_created_at, ie.inject_expectation_updated_at
+                FROM injects_expectations ie
+                WHERE ie.agent_id IS NOT NULL
+                AND ie.inject_expectation_type IN (:types)
+                AND ie.inject_expectation_updated_at >= :fromDate
+                AND (ie.inject_expectation_updated_at, ie.inject_expectation_id) <= (:toDate, :toId)
+                AND NOT EXISTS (
+                  SELECT 1
+                  FROM jsonb_array_elements(COALESCE(ie.inject_expectation_results::jsonb, '[]'::jsonb)) AS r(elem)
+                  WHERE btrim(COALESCE(r.elem->>'result', '')) <> ''
+                  AND (:sourceId IS NULL OR r.elem->>'sourceId' = :sourceId)
+                )
+                ORDER BY ie.inject_expectation_updated_at DESC, ie.inject_expectation_id DESC
+                LIMIT :limit
+                """,
+      nativeQuery = true)
+  // Agent expectations without result (from the source, if any), up to the keyset position, the
+  // closest first
+  List<RawInjectExpectation> rawNotFilledBefore(
+      @Param("types") List<String> types,
+      @Param("sourceId") String sourceId,
+      @Param("fromDate") Instant fromDate,
+      @Param("toDate") Instant toDate,
+      @Param("toId") String toId,
+      @Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+                SELECT count(*) || '-' || COALESCE(extract(epoch FROM max(ie.inject_expectation_updated_at))::text, '0')
+                FROM injects_expectations ie
+                WHERE ie.agent_id IS NOT NULL
+                AND ie.inject_expectation_type IN (:types)
+                AND (ie.inject_expectation_updated_at, ie.inject_expectation_id) > (:afterDate, :afterId)
+                """,
+      nativeQuery = true)
+  // Changes whenever an agent expectation after the keyset position is added, updated or removed
+  String feedVersionAfter(
+      @Param("types") List<String> types,
+      @Param("afterDate") Instant afterDate,
+      @Param("afterId") String afterId);
+
   // -- INDEXING --
 
   @Query(
@@ -278,10 +421,12 @@ public interface InjectExpectationRepository
       i.inject_title
     )
     SELECT * FROM inject_expectation_data ied
-    WHERE ied.inject_expectation_updated_at > :from AND ied.agent_id IS NULL
-    ORDER BY ied.inject_expectation_updated_at ASC
+    WHERE (ied.inject_expectation_updated_at, ied.inject_expectation_id) > (:from, :fromId)
+      AND ied.agent_id IS NULL
+    ORDER BY ied.inject_expectation_updated_at ASC, ied.inject_expectation_id ASC
     LIMIT 500
     """,
       nativeQuery = true)
-  List<RawInjectExpectation> findForIndexing(@Param("from") Instant from);
+  List<RawInjectExpectation> findForIndexing(
+      @Param("from") Instant from, @Param("fromId") String fromId);
 }
@@ -55,7 +55,9 @@ public interface InjectRepository
 
   @Query(
       value =
-          "SELECT f.inject_id, f.inject_title, f.inject_scenario, f.inject_exercise, f.inject_created_at, f.inject_updated_at, f.inject_injector_contract, ic.injector_contract_updated_at, ins.tracking_sent_date, "
+          "WITH inject_data AS ("
+              + "SELECT f.inject_id, f.inject_title, f.inject_scenario, f.inject_exercise, f.inject_created_at, f.inject_updated_at, f.inject_injector_contract, ic.injector_contract_updated_at, ins.tracking_sent_date, "
+              + "GREATEST(f.inject_updated_at, ic.injector_contract_updated_at, max(idp.dependency_updated_at), max(ic_children.injector_contract_updated_at)) as inject_indexing_updated_at, "
               + "array_union_agg(ic.injector_contract_platforms) FILTER ( WHERE ic.injector_contract_platforms IS NOT NULL ) as inject_platforms, "
               + "array_agg(icap.attack_pattern_id) FILTER ( WHERE icap.attack_pattern_id IS NOT NULL ) as inject_attack_patterns, "
               + "array_agg(ap.phase_id) FILTER ( WHERE ap.phase_id IS NOT NULL ) as inject_kill_chain_phases, "
@@ -84,25 +86,33 @@ public interface InjectRepository
               + "LEFT JOIN injects_teams ite ON ite.inject_id = f.inject_id "
               + "LEFT JOIN exercises_teams et ON et.exercise_id = f.inject_exercise AND f.inject_all_teams "
               + "LEFT JOIN scenarios_teams st ON st.scenario_id = f.inject_scenario AND f.inject_all_teams "
-              + "WHERE f.inject_updated_at > :from "
-              + "OR ic.injector_contract_updated_at > :from  "
+              // Only the injects with a part updated since the cursor date, as a whole to aggregate
+              // all their rows
+              + "WHERE GREATEST(f.inject_updated_at, ic.injector_contract_updated_at) >= :from "
               + "OR EXISTS ("
               + "    SELECT 1 "
               + "    FROM injects_dependencies sub_idp "
               + "    WHERE sub_idp.inject_parent_id = f.inject_id "
-              + "      AND sub_idp.dependency_updated_at > :from"
-              + ")"
+              + "      AND sub_idp.dependency_updated_at >= :from "
+              + ") "
               + "OR EXISTS ("
               + "    SELECT 1 "
-              + "    FROM injectors_contracts sub_ic "
-              + "    WHERE sub_ic.injector_contract_id = inject_children.inject_injector_contract "
-              + "      AND sub_ic.injector_contract_updated_at > :from "
-              + ")"
-              + "GROUP BY f.inject_id, f.inject_updated_at, ic.injector_contract_updated_at, ins.tracking_sent_date ORDER BY GREATEST(f.inject_updated_at, ic.injector_contract_updated_at) ASC LIMIT "
+              + "    FROM injects_dependencies sub_idp "
+              + "    JOIN injects sub_children ON sub_children.inject_id = sub_idp.inject_children_id "
+              + "    JOIN injectors_contracts sub_ic ON sub_ic.injector_contract_id = sub_children.inject_injector_contract "
+              + "    WHERE sub_idp.inject_parent_id = f.inject_id "
+              + "      AND sub_ic.injector_contract_updated_at >= :from "
+              + ") "
+              + "GROUP BY f.inject_id, f.inject_updated_at, ic.injector_contract_updated_at, ins.tracking_sent_date"
+              + ") "
+              + "SELECT * FROM inject_data ind "
+              + "WHERE (ind.inject_indexing_updated_at, ind.inject_id) > (:from, :fromId) "
+              + "ORDER BY ind.inject_indexing_updated_at ASC, ind.inject_id ASC LIMIT "
               + Constants.INDEXING_RECORD_SET_SIZE
               + ";",
       nativeQuery = true)
-  List<RawInjectIndexing> findForIndexing(@Param("from") Instant from);
+  List<RawInjectIndexing> findForIndexing(
+      @Param("from") Instant from, @Param("fromId") String fromId);
 
   @Query(
       value =
@@ -409,6 +419,13 @@ public interface InjectRepository
       nativeQuery = true)
   List<String> findContentsByInjectIds(@NotBlank Set<String> injectIds);
 
+  @Query(
+      value =
+          "SELECT i.inject_exercise, CAST(i.inject_content AS text) FROM injects i "
+              + "WHERE i.inject_exercise IN :exerciseIds",
+      nativeQuery = true)
+  List<Object[]> findContentsByExerciseIds(@NotBlank Set<String> exerciseIds);
+
   /**
    * Check if an Inject exists by its ID without loading the entity. This is useful for because of
    * the cascade configuration
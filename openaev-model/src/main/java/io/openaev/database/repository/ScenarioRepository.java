@@ -64,12 +64,13 @@ public interface ScenarioRepository
               + "GROUP BY s.scenario_id, s.scenario_name, s.scenario_created_at, s.scenario_updated_at"
               + ") "
               + "SELECT * FROM scenario_data sd "
-              + "WHERE sd.scenario_injects_updated_at > :from "
-              + "ORDER BY sd.scenario_injects_updated_at ASC LIMIT "
+              + "WHERE (sd.scenario_injects_updated_at, sd.scenario_id) > (:from, :fromId) "
+              + "ORDER BY sd.scenario_injects_updated_at ASC, sd.scenario_id ASC LIMIT "
               + Constants.INDEXING_RECORD_SET_SIZE
               + ";",
       nativeQuery = true)
-  List<RawScenarioSimple> findForIndexing(@Param("from") Instant from);
+  List<RawScenarioSimple> findForIndexing(
+      @Param("from") Instant from, @Param("fromId") String fromId);
 
   @Query(
       value =
@@ -156,9 +156,9 @@ public interface TeamRepository
       value =
           "SELECT t.team_id, t.team_name, t.team_updated_at, t.team_created_at "
               + "FROM teams t "
-              + "WHERE t.team_updated_at > :from ORDER BY t.team_updated_at LIMIT "
+              + "WHERE (t.team_updated_at, t.team_id) > (:from, :fromId) ORDER BY t.team_updated_at, t.team_id LIMIT "
               + Constants.INDEXING_RECORD_SET_SIZE
               + ";",
       nativeQuery = true)
-  List<RawTeam> findForIndexing(@Param("from") Instant from);
+  List<RawTeam> findForIndexing(@Param("from") Instant from, @Param("fromId") String fromId);
 }
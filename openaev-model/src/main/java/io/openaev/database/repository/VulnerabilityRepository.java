@@ -4,7 +4,10 @@ import io.openaev.database.model.Vulnerability;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +19,115 @@ public interface VulnerabilityRepository
   Set<Vulnerability> getAllByIdInIgnoreCase(Set<String> ids);
 
   Set<Vulnerability> getAllByExternalIdInIgnoreCase(Set<String> externalIds);
+
+  // -- BULK UPSERT --
+  // The vulnerabilities are given as a json array of VulnerabilityCreateInput, with unique
+  // external ids. The queries are meant to be run in this order, in the same transaction.
+
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO cwes (cwe_id, cwe_external_id, cwe_source)
+          SELECT DISTINCT ON (cwe ->> 'cwe_external_id')
+                 gen_random_uuid(), cwe ->> 'cwe_external_id', cwe ->> 'cwe_source'
+          FROM jsonb_array_elements(CAST(:vulnerabilities AS jsonb)) AS i(item)
+          CROSS JOIN LATERAL jsonb_array_elements(i.item -> 'vulnerability_cwes') AS c(cwe)
+          ORDER BY cwe ->> 'cwe_external_id'
+          ON CONFLICT (cwe_external_id) DO NOTHING
+          """,
+      nativeQuery = true)
+  void bulkInsertMissingCwes(@Param("vulnerabilities") String vulnerabilities);
+
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO vulnerabilities
+            (vulnerability_id, vulnerability_external_id, vulnerability_source_identifier,
+             vulnerability_published, vulnerability_description, vulnerability_vuln_status,
+             vulnerability_cvss_v31, vulnerability_cisa_exploit_add,
+             vulnerability_cisa_action_due, vulnerability_cisa_required_action,
+             vulnerability_cisa_vulnerability_name, vulnerability_remediation)
+          SELECT gen_random_uuid(), vulnerability_external_id, vulnerability_source_identifier,
+                 vulnerability_published, vulnerability_description, vulnerability_vuln_status,
+                 vulnerability_cvss_v31, vulnerability_cisa_exploit_add,
+                 vulnerability_cisa_action_due, vulnerability_cisa_required_action,
+                 vulnerability_cisa_vulnerability_name, vulnerability_remediation
+          FROM jsonb_to_recordset(CAST(:vulnerabilities AS jsonb)) AS v(
+            vulnerability_external_id varchar, vulnerability_source_identifier varchar,
+            vulnerability_published timestamptz, vulnerability_description text,
+            vulnerability_vuln_status varchar, vulnerability_cvss_v31 numeric,
+            vulnerability_cisa_exploit_add timestamptz, vulnerability_cisa_action_due timestamptz,
+            vulnerability_cisa_required_action text, vulnerability_cisa_vulnerability_name text,
+            vulnerability_remediation text)
+          ON CONFLICT (vulnerability_external_id) DO UPDATE SET
+            vulnerability_source_identifier = EXCLUDED.vulnerability_source_identifier,
+            vulnerability_published = EXCLUDED.vulnerability_published,
+            vulnerability_description = EXCLUDED.vulnerability_description,
+            vulnerability_vuln_status = EXCLUDED.vulnerability_vuln_status,
+            vulnerability_cvss_v31 = EXCLUDED.vulnerability_cvss_v31,
+            vulnerability_cisa_exploit_add = EXCLUDED.vulnerability_cisa_exploit_add,
+            vulnerability_cisa_action_due = EXCLUDED.vulnerability_cisa_action_due,
+            vulnerability_cisa_required_action = EXCLUDED.vulnerability_cisa_required_action,
+            vulnerability_cisa_vulnerability_name = EXCLUDED.vulnerability_cisa_vulnerability_name,
+            vulnerability_remediation = EXCLUDED.vulnerability_remediation,
+            vulnerability_updated_at = now()
+          """,
+      nativeQuery = true)
+  int bulkUpsert(@Param("vulnerabilities") String vulnerabilities);
+
+  @Modifying
+  @Query(
+      value =
+          """
+          WITH wanted AS (
+            SELECT v.vulnerability_id, u.url
+            FROM jsonb_array_elements(CAST(:vulnerabilities AS jsonb)) AS i(item)
+            JOIN vulnerabilities v
+              ON v.vulnerability_external_id = i.item ->> 'vulnerability_external_id'
+            LEFT JOIN LATERAL jsonb_array_elements_text(i.item -> 'vulnerability_reference_urls')
+              AS u(url) ON true
+          ),
+          deleted AS (
+            DELETE FROM vulnerability_reference_urls r
+            WHERE r.vulnerability_id IN (SELECT vulnerability_id FROM wanted)
+              AND NOT EXISTS (
+                SELECT 1 FROM wanted w
+                WHERE w.vulnerability_id = r.vulnerability_id
+                  AND w.url = r.vulnerability_reference_url)
+          )
+          INSERT INTO vulnerability_reference_urls (vulnerability_id, vulnerability_reference_url)
+          SELECT DISTINCT vulnerability_id, url FROM wanted WHERE url IS NOT NULL
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  void bulkMergeReferenceUrls(@Param("vulnerabilities") String vulnerabilities);
+
+  @Modifying
+  @Query(
+      value =
+          """
+          WITH wanted AS (
+            SELECT v.vulnerability_id, cw.cwe_id
+            FROM jsonb_array_elements(CAST(:vulnerabilities AS jsonb)) AS i(item)
+            JOIN vulnerabilities v
+              ON v.vulnerability_external_id = i.item ->> 'vulnerability_external_id'
+            LEFT JOIN LATERAL jsonb_array_elements(i.item -> 'vulnerability_cwes') AS c(cwe)
+              ON true
+            LEFT JOIN cwes cw ON cw.cwe_external_id = c.cwe ->> 'cwe_external_id'
+          ),
+          deleted AS (
+            DELETE FROM vulnerabilities_cwes vc
+            WHERE vc.vulnerability_id IN (SELECT vulnerability_id FROM wanted)
+              AND NOT EXISTS (
+                SELECT 1 FROM wanted w
+                WHERE w.vulnerability_id = vc.vulnerability_id AND w.cwe_id = vc.cwe_id)
+          )
+          INSERT INTO vulnerabilities_cwes (vulnerability_id, cwe_id)
+          SELECT DISTINCT vulnerability_id, cwe_id FROM wanted WHERE cwe_id IS NOT NULL
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  void bulkMergeCwes(@Param("vulnerabilities") String vulnerabilities);
 }
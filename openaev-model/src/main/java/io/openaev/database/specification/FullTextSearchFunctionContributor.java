@@ -0,0 +1,43 @@
+package io.openaev.database.specification;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full text search functions used by {@link
+ * SpecificationUtils#fullTextSearch}.
+ *
+ * <p>The match is rendered with the {@code @@} operator and the {@code simple} configuration
+ * written in the SQL, so that PostgreSQL can use the GIN indexes built on {@code
+ * to_tsvector('simple', column)}. Loaded by Hibernate through {@code
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+  public static final String FTS_MATCH = "fts_match";
+  public static final String FTS_RANK = "fts_rank";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    BasicType<Boolean> booleanType =
+        functionContributions
+            .getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.BOOLEAN);
+    BasicType<Double> doubleType =
+        functionContributions
+            .getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+    functionContributions
+        .getFunctionRegistry()
+        .registerPattern(
+            FTS_MATCH, "(to_tsvector('simple', ?1) @@ to_tsquery('simple', ?2))", booleanType);
+    functionContributions
+        .getFunctionRegistry()
+        .registerPattern(
+            FTS_RANK, "ts_rank(to_tsvector('simple', ?1), to_tsquery('simple', ?2))", doubleType);
+  }
+}
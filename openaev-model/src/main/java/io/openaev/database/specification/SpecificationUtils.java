@@ -1,5 +1,8 @@
 package io.openaev.database.specification;
 
+import static io.openaev.database.specification.FullTextSearchFunctionContributor.FTS_MATCH;
+import static io.openaev.database.specification.FullTextSearchFunctionContributor.FTS_RANK;
+
 import io.openaev.database.model.*;
 import jakarta.persistence.criteria.*;
 import jakarta.validation.constraints.NotBlank;
@@ -46,15 +49,20 @@ public class SpecificationUtils {
       @NotBlank final String searchTerm, @NotBlank final List<String> properties) {
     return (root, query, cb) -> {
       List<Predicate> listOfPredicates = new ArrayList<>();
+      List<Expression<Double>> ranks = new ArrayList<>();
       for (String property : properties) {
-        Expression<Double> tsVector =
-            cb.function("to_tsvector", Double.class, cb.literal("simple"), root.get(property));
-        Expression<Double> tsQuery =
-            cb.function("to_tsquery", Double.class, cb.literal("simple"), cb.literal(searchTerm));
-        Expression<Double> rank = cb.function("ts_rank", Double.class, tsVector, tsQuery);
-        query.orderBy(cb.desc(rank));
-        listOfPredicates.add(cb.greaterThan(rank, 0.01));
+        // Matched with @@ so that the GIN index of the property is used
+        listOfPredicates.add(
+            cb.isTrue(
+                cb.function(FTS_MATCH, Boolean.class, root.get(property), cb.literal(searchTerm))));
+        ranks.add(cb.function(FTS_RANK, Double.class, root.get(property), cb.literal(searchTerm)));
       }
+      // Ordered by the best rank over the properties
+      query.orderBy(
+          cb.desc(
+              ranks.stream()
+                  .reduce((first, second) -> cb.function("greatest", Double.class, first, second))
+                  .orElseThrow()));
 
       return cb.or(listOfPredicates.toArray(new Predicate[0]));
     };
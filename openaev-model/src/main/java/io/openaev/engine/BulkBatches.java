@@ -0,0 +1,43 @@
+package io.openaev.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/** Splits documents to index into bulk requests bounded in number of documents and in bytes. */
+public final class BulkBatches {
+
+  private BulkBatches() {}
+
+  /**
+   * Splits the given documents into consecutive batches, keeping their order. A batch is closed as
+   * soon as adding the next document would exceed one of the limits, a single document bigger than
+   * {@code maxBytes} is sent alone.
+   *
+   * @param documents the documents to split
+   * @param maxDocuments the maximum number of documents of a batch
+   * @param maxBytes the maximum estimated size in bytes of a batch
+   * @param sizer the function estimating the size in bytes of a document
+   * @return the batches, in order
+   */
+  public static <T> List<List<T>> split(
+      List<T> documents, int maxDocuments, long maxBytes, ToLongFunction<T> sizer) {
+    List<List<T>> batches = new ArrayList<>();
+    List<T> batch = new ArrayList<>();
+    long batchBytes = 0;
+    for (T document : documents) {
+      long size = sizer.applyAsLong(document);
+      if (!batch.isEmpty() && (batch.size() >= maxDocuments || batchBytes + size > maxBytes)) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+        batchBytes = 0;
+      }
+      batch.add(document);
+      batchBytes += size;
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+}
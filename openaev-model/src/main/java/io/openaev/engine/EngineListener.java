@@ -2,28 +2,83 @@ package io.openaev.engine;
 
 import static io.openaev.database.audit.ModelBaseListener.DATA_DELETE;
 
+import io.openaev.config.EngineConfig;
 import io.openaev.database.audit.IndexEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Removes deleted entities from the analytics engine.
+ *
+ * <p>Deletions are buffered and sent as a single bulk delete per window: the buffer is flushed
+ * every {@code engine.bulk-delete-window-ms} milliseconds, or as soon as it holds {@code
+ * engine.bulk-delete-max-ids} ids.
+ */
+@Slf4j
 @Component
 public class EngineListener {
 
   private EngineService esService;
+  private EngineConfig engineConfig;
+
+  private final Object flushLock = new Object();
+  private Set<String> pendingIds = new LinkedHashSet<>();
 
   @Autowired
   public void setEsService(EngineService esService) {
     this.esService = esService;
   }
 
+  @Autowired
+  public void setEngineConfig(EngineConfig engineConfig) {
+    this.engineConfig = engineConfig;
+  }
+
   @EventListener
   public void listenIndexEvent(IndexEvent event) {
     if (Objects.equals(event.getType(), DATA_DELETE)) {
-      // TODO Combine through time to generate a real bulk delete
-      this.esService.bulkDelete(List.of(event.getId()));
+      boolean full;
+      synchronized (this) {
+        pendingIds.add(event.getId());
+        full = pendingIds.size() >= engineConfig.getBulkDeleteMaxIds();
+      }
+      if (full) {
+        flush();
+      }
     }
   }
+
+  /** Sends the buffered deletions to the analytics engine. */
+  @Scheduled(
+      fixedDelayString = "${engine.bulk-delete-window-ms:1000}",
+      initialDelayString = "${engine.bulk-delete-window-ms:1000}")
+  public void flush() {
+    // Windows are sent one after the other to keep the deletions ordered
+    synchronized (flushLock) {
+      List<String> ids;
+      synchronized (this) {
+        if (pendingIds.isEmpty()) {
+          return;
+        }
+        ids = new ArrayList<>(pendingIds);
+        pendingIds = new LinkedHashSet<>();
+      }
+      log.debug("Deleting {} documents from the analytics engine", ids.size());
+      esService.bulkDelete(ids);
+    }
+  }
+
+  @PreDestroy
+  public void destroy() {
+    flush();
+  }
 }
@@ -1,8 +1,11 @@
 package io.openaev.engine;
 
+import static io.openaev.utils.Constants.INDEXING_RECORD_SET_SIZE;
+
 import io.openaev.engine.model.EsBase;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface Handler<T extends EsBase> {
 
@@ -17,7 +20,30 @@ public interface Handler<T extends EsBase> {
    * @param from date used to determine which data to take (updated_at attribute from table). For
    *     each attribute added, it is important to check that the updated at for the document is
    *     relevant when you delete/update/add this attribute in this document
+   * @param fromId id of the last document indexed at {@code from}: the data is taken strictly after
+   *     the (from, fromId) pair, ordered by updated at then id
    * @return list data to index
    */
-  List<T> fetch(Instant from);
+  List<T> fetch(Instant from, String fromId);
+
+  /**
+   * Streams the data to index page by page, using {@link IndexingCursor#after(List)} of a page as
+   * the cursor of the next one. A page is only fetched once the previous one has been consumed, so
+   * at most one page is kept in memory whatever the backlog.
+   *
+   * @param from cursor used to determine which data to take, see {@link #fetch(Instant, String)}
+   * @return a lazy stream of non-empty pages, ordered by updated at then id
+   */
+  default Stream<List<T>> fetchPages(IndexingCursor from) {
+    return Stream.iterate(
+        fetch(from.updatedAt(), from.id()),
+        page -> !page.isEmpty(),
+        page -> {
+          if (page.size() < INDEXING_RECORD_SET_SIZE) {
+            return List.of();
+          }
+          IndexingCursor next = IndexingCursor.after(page);
+          return fetch(next.updatedAt(), next.id());
+        });
+  }
 }
@@ -0,0 +1,43 @@
+package io.openaev.engine;
+
+import static io.openaev.utils.Constants.INDEXING_RECORD_SET_SIZE;
+
+import io.openaev.engine.model.EsBase;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Position of the indexing of a model: the documents to index next are the ones strictly after this
+ * updated at and id, in this order. The id breaks the ties between documents updated at the same
+ * time, which are common after a bulk update.
+ *
+ * @param updatedAt the updated at of the last indexed document, null to start from the beginning
+ * @param id the id of the last indexed document, null to take all the documents of updatedAt
+ */
+public record IndexingCursor(Instant updatedAt, String id) {
+
+  /**
+   * @param page a non-empty page of documents, as fetched from the given cursor
+   * @return the cursor from which to fetch the page after the given one
+   */
+  public static IndexingCursor after(List<? extends EsBase> page) {
+    EsBase last = page.getLast();
+    if (page.size() >= INDEXING_RECORD_SET_SIZE) {
+      // A full page may end in the middle of the rows of its last document: resume from the
+      // document before it, so that the last one is fetched again with all its rows
+      for (int i = page.size() - 2; i >= 0; i--) {
+        EsBase document = page.get(i);
+        if (!Objects.equals(document.getBase_id(), last.getBase_id())
+            || !Objects.equals(document.getBase_updated_at(), last.getBase_updated_at())) {
+          return of(document);
+        }
+      }
+    }
+    return of(last);
+  }
+
+  private static IndexingCursor of(EsBase document) {
+    return new IndexingCursor(document.getBase_updated_at(), document.getBase_id());
+  }
+}
@@ -17,9 +17,11 @@ public class AssetGroupHandler implements Handler<EsAssetGroup> {
   private final AssetGroupRepository assetGroupRepository;
 
   @Override
-  public List<EsAssetGroup> fetch(Instant from) {
+  public List<EsAssetGroup> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawAssetGroupIndexing> forIndexing = assetGroupRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawAssetGroupIndexing> forIndexing =
+        assetGroupRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             assetGroup -> {
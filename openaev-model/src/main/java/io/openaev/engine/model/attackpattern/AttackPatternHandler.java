@@ -19,9 +19,11 @@ public class AttackPatternHandler implements Handler<EsAttackPattern> {
   private final AttackPatternRepository attackPatternRepository;
 
   @Override
-  public List<EsAttackPattern> fetch(Instant from) {
+  public List<EsAttackPattern> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawAttackPattern> forIndexing = attackPatternRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawAttackPattern> forIndexing =
+        attackPatternRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             attackPattern -> {
@@ -22,9 +22,10 @@ public class EndpointHandler implements Handler<EsEndpoint> {
   }
 
   @Override
-  public List<EsEndpoint> fetch(Instant from) {
+  public List<EsEndpoint> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawEndpoint> forIndexing = endpointRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawEndpoint> forIndexing = endpointRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             endpoint -> {
@@ -23,9 +23,10 @@ public class FindingHandler implements Handler<EsFinding> {
   }
 
   @Override
-  public List<EsFinding> fetch(Instant from) {
+  public List<EsFinding> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawFinding> forIndexing = findingRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawFinding> forIndexing = findingRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             finding -> {
@@ -28,9 +28,10 @@ public class InjectHandler implements Handler<EsInject> {
   }
 
   @Override
-  public List<EsInject> fetch(Instant from) {
+  public List<EsInject> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawInjectIndexing> forIndexing = injectRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawInjectIndexing> forIndexing = injectRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             inject -> {
@@ -40,14 +41,8 @@ public class InjectHandler implements Handler<EsInject> {
               esInject.setBase_representative(inject.getInject_title());
               esInject.setBase_created_at(inject.getInject_created_at());
 
-              if (inject.getInjector_contract_updated_at() != null
-                  && inject
-                      .getInjector_contract_updated_at()
-                      .isAfter(inject.getInject_updated_at())) {
-                esInject.setBase_updated_at(inject.getInjector_contract_updated_at());
-              } else {
-                esInject.setBase_updated_at(inject.getInject_updated_at());
-              }
+              // Same value as the indexing keyset, so that the cursor follows its order
+              esInject.setBase_updated_at(inject.getInject_indexing_updated_at());
               esInject.setBase_restrictions(
                   buildRestrictions(inject.getInject_scenario(), inject.getInject_Exercise()));
               // Specific
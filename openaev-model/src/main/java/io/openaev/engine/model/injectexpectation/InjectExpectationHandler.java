@@ -23,10 +23,11 @@ public class InjectExpectationHandler implements Handler<EsInjectExpectation> {
   private final InjectExpectationRepository injectExpectationRepository;
 
   @Override
-  public List<EsInjectExpectation> fetch(Instant from) {
+  public List<EsInjectExpectation> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
+    String queryFromId = fromId != null ? fromId : "";
     List<RawInjectExpectation> forIndexing =
-        this.injectExpectationRepository.findForIndexing(queryFrom);
+        this.injectExpectationRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             injectExpectation -> {
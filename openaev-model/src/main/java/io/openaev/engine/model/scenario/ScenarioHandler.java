@@ -24,9 +24,11 @@ public class ScenarioHandler implements Handler<EsScenario> {
   }
 
   @Override
-  public List<EsScenario> fetch(Instant from) {
+  public List<EsScenario> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawScenarioSimple> forIndexing = scenarioRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawScenarioSimple> forIndexing =
+        scenarioRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             scenario -> {
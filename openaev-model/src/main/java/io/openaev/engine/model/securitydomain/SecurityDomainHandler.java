@@ -21,9 +21,10 @@ public class SecurityDomainHandler implements Handler<EsSecurityDomain> {
   }
 
   @Override
-  public List<EsSecurityDomain> fetch(Instant from) {
+  public List<EsSecurityDomain> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawDomain> forIndexing = domainRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawDomain> forIndexing = domainRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             domain -> {
@@ -17,9 +17,10 @@ public class SecurityPlatformHandler implements Handler<EsSecurityPlatform> {
   private final SecurityPlatformRepository securityPlatformRepository;
 
   @Override
-  public List<EsSecurityPlatform> fetch(Instant from) {
+  public List<EsSecurityPlatform> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawAsset> forIndexing = securityPlatformRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawAsset> forIndexing = securityPlatformRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             securityPlatform -> {
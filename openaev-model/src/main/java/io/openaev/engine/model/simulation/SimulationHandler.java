@@ -20,9 +20,10 @@ public class SimulationHandler implements Handler<EsSimulation> {
   private final ExerciseRepository simulationRepository;
 
   @Override
-  public List<EsSimulation> fetch(Instant from) {
+  public List<EsSimulation> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawSimulation> forIndexing = simulationRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawSimulation> forIndexing = simulationRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             simulation -> {
@@ -21,9 +21,10 @@ public class TagHandler implements Handler<EsTag> {
   }
 
   @Override
-  public List<EsTag> fetch(Instant from) {
+  public List<EsTag> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawTag> forIndexing = tagRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawTag> forIndexing = tagRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             tag -> {
@@ -17,9 +17,10 @@ public class TeamHandler implements Handler<EsTeam> {
   private final TeamRepository teamRepository;
 
   @Override
-  public List<EsTeam> fetch(Instant from) {
+  public List<EsTeam> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
-    List<RawTeam> forIndexing = teamRepository.findForIndexing(queryFrom);
+    String queryFromId = fromId != null ? fromId : "";
+    List<RawTeam> forIndexing = teamRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             team -> {
@@ -26,10 +26,11 @@ public class VulnerableEndpointHandler implements Handler<EsVulnerableEndpoint>
   private final FindingRepository findingRepository;
 
   @Override
-  public List<EsVulnerableEndpoint> fetch(Instant from) {
+  public List<EsVulnerableEndpoint> fetch(Instant from, String fromId) {
     Instant queryFrom = from != null ? from : Instant.ofEpochMilli(0);
+    String queryFromId = fromId != null ? fromId : "";
     List<RawVulnerableEndpoint> forIndexing =
-        this.vulnerableEndpointRepository.findForIndexing(queryFrom);
+        this.vulnerableEndpointRepository.findForIndexing(queryFrom, queryFromId);
     return forIndexing.stream()
         .map(
             endpoint -> {
@@ -11,8 +11,10 @@ import co.elastic.clients.elasticsearch._types.aggregations.*;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.openaev.config.EngineConfig;
 import io.openaev.database.model.CustomDashboardParameters;
@@ -22,10 +24,11 @@ import io.openaev.database.raw.RawGrant;
 import io.openaev.database.raw.RawUserAuth;
 import io.openaev.database.repository.IndexingStatusRepository;
 import io.openaev.driver.ElasticDriver;
+import io.openaev.engine.BulkBatches;
 import io.openaev.engine.EngineContext;
 import io.openaev.engine.EngineService;
 import io.openaev.engine.EsModel;
-import io.openaev.engine.Handler;
+import io.openaev.engine.IndexingCursor;
 import io.openaev.engine.api.*;
 import io.openaev.engine.api.WidgetConfiguration.Series;
 import io.openaev.engine.model.EsBase;
@@ -313,65 +316,85 @@ public class ElasticService implements EngineService {
 
   // region indexing
   public <T extends EsBase> void bulkProcessing(Stream<EsModel<T>> models) {
-    List<IndexingStatus> statuses =
-        models
-            .map(
-                model -> {
-                  Optional<IndexingStatus> indexingStatus =
-                      indexingStatusRepository.findByType(model.getName());
-                  Handler<? extends EsBase> handler = model.getHandler();
-                  String index = model.getIndex(engineConfig);
-                  Instant fetchInstant =
-                      indexingStatus.map(IndexingStatus::getLastIndexing).orElse(null);
-                  List<? extends EsBase> results = handler.fetch(fetchInstant);
-                  if (!results.isEmpty()) {
-                    // Create bulk for the data
-                    BulkRequest.Builder br = new BulkRequest.Builder();
-                    for (EsBase result : results) {
-                      br.operations(
-                          op ->
-                              op.index(
-                                  idx ->
-                                      idx.index(index).id(result.getBase_id()).document(result)));
-                    }
-                    // Execute the bulk
-                    try {
-                      log.info("Indexing ({}) in progress for {}", results.size(), model.getName());
-                      BulkRequest bulkRequest = br.build();
-                      BulkResponse result = elasticClient.bulk(bulkRequest);
-                      // Log errors, if any
-                      if (result.errors()) {
-                        for (BulkResponseItem item : result.items()) {
-                          if (item.error() != null) {
-                            log.error(item.error().reason());
-                          }
-                        }
-                      } else {
-                        // Update the status for the next round
-                        if (indexingStatus.isPresent()) {
-                          IndexingStatus status = indexingStatus.get();
-                          status.setLastIndexing(results.getLast().getBase_updated_at());
-                          return status;
-                        } else {
-                          IndexingStatus status = new IndexingStatus();
-                          status.setType(model.getName());
-                          status.setLastIndexing(results.getLast().getBase_updated_at());
-                          return status;
-                        }
-                      }
-                    } catch (IOException e) {
-                      log.error(
-                          String.format("bulkParallelProcessing exception: %s", e.getMessage()), e);
-                    }
-                  } else {
-                    log.info("Indexing <up to date> for {}", model.getName());
-                  }
-                  return null;
-                })
-            .filter(Objects::nonNull)
-            .toList();
-    if (!statuses.isEmpty()) {
-      indexingStatusRepository.saveAll(statuses);
+    models.forEach(this::bulkProcessing);
+  }
+
+  /**
+   * Indexes the pending documents of a model in bounded bulk requests. The indexing status is saved
+   * after each page once all its bulk requests succeeded, so a failure resumes from the last fully
+   * indexed page on the next run instead of starting over.
+   */
+  private <T extends EsBase> void bulkProcessing(EsModel<T> model) {
+    IndexingStatus status =
+        indexingStatusRepository
+            .findByType(model.getName())
+            .orElseGet(
+                () -> {
+                  IndexingStatus indexingStatus = new IndexingStatus();
+                  indexingStatus.setType(model.getName());
+                  return indexingStatus;
+                });
+    String index = model.getIndex(engineConfig);
+    long indexed = 0;
+    Iterator<List<T>> pages =
+        model
+            .getHandler()
+            .fetchPages(new IndexingCursor(status.getLastIndexing(), status.getLastIndexingId()))
+            .limit(engineConfig.getBulkMaxPagesPerRun())
+            .iterator();
+    while (pages.hasNext()) {
+      List<T> page = pages.next();
+      List<List<T>> batches =
+          BulkBatches.split(
+              page,
+              engineConfig.getBulkMaxDocuments(),
+              engineConfig.getBulkMaxBytes(),
+              this::estimateSize);
+      for (List<T> batch : batches) {
+        if (!bulkIndex(index, batch)) {
+          return;
+        }
+        indexed += batch.size();
+        log.info("Indexing ({}) in progress for {}", indexed, model.getName());
+      }
+      IndexingCursor cursor = IndexingCursor.after(page);
+      status.setLastIndexing(cursor.updatedAt());
+      status.setLastIndexingId(cursor.id());
+      status = indexingStatusRepository.save(status);
+    }
+    if (indexed == 0) {
+      log.info("Indexing <up to date> for {}", model.getName());
+    }
+  }
+
+  private <T extends EsBase> boolean bulkIndex(String index, List<T> documents) {
+    BulkRequest.Builder br = new BulkRequest.Builder();
+    for (T document : documents) {
+      br.operations(
+          op -> op.index(idx -> idx.index(index).id(document.getBase_id()).document(document)));
+    }
+    try {
+      BulkResponse result = elasticClient.bulk(br.build());
+      if (result.errors()) {
+        for (BulkResponseItem item : result.items()) {
+          if (item.error() != null) {
+            log.error(item.error().reason());
+          }
+        }
+        return false;
+      }
+      return true;
+    } catch (IOException e) {
+      log.error(String.format("bulkProcessing exception: %s", e.getMessage()), e);
+      return false;
+    }
+  }
+
+  private long estimateSize(EsBase document) {
+    try {
+      return mapper.writeValueAsBytes(document).length;
+    } catch (JsonProcessingException e) {
+      return 0;
     }
   }
 
@@ -381,6 +404,9 @@ public class ElasticService implements EngineService {
   }
 
   public void bulkDelete(List<String> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
     try {
       List<FieldValue> values = ids.stream().map(FieldValue::of).toList();
       // Delete the direct document corresponding to the id
@@ -401,9 +427,9 @@ public class ElasticService implements EngineService {
           new DeleteByQueryRequest.Builder()
               .index(engineConfig.getIndexPrefix() + "*")
               .query(query)
-              .refresh(true)
               .build());
-      // Delete the id in the attributes of the documents including the id
+      // Delete the ids in the attributes of the documents including them, the refresh of this
+      // last operation makes both the deletion and the cascade update visible
       elasticClient.updateByQuery(
           new UpdateByQueryRequest.Builder()
               .index(engineConfig.getIndexPrefix() + "*")
@@ -414,19 +440,17 @@ public class ElasticService implements EngineService {
                                   """
                                           // For each EsBase attribute of each document
                                           for (String key : ctx._source.keySet().toArray()) {
-                                            // If it's a "base_XXX_side" (means String id or List of ids), we delete only in the "base_XXX_side" of the EsBase the object id deleted before with the deleteByQuery
+                                            // If it's a "base_XXX_side" (means String id or List of ids), we delete only in the "base_XXX_side" of the EsBase the object ids deleted before with the deleteByQuery
                                             if(key.startsWith("base_") && key.endsWith("_side") && ctx._source[key] != null) {
                                                 if (ctx._source[key] instanceof List) {
-                                                    ctx._source[key].removeIf(item -> item == params.valueToRemove);
-                                                } else if (ctx._source[key] instanceof String && ctx._source[key] == params.valueToRemove) {
+                                                    ctx._source[key].removeIf(item -> params.valuesToRemove.contains(item));
+                                                } else if (ctx._source[key] instanceof String && params.valuesToRemove.contains(ctx._source[key])) {
                                                     ctx._source.remove(key);
                                                 }
                                             }
                                           }
                                         """)
-                              .params(
-                                  "valueToRemove",
-                                  JsonData.of(ids.getFirst())) // Only 1 id in this list
+                              .params("valuesToRemove", JsonData.of(ids))
                               .lang("painless")))
               .refresh(true)
               .conflicts(Conflicts.Proceed)
@@ -474,11 +498,6 @@ public class ElasticService implements EngineService {
                 widgetConfig.getDateAttribute(), currentIntervalStart, currentIntervalEnd);
         Query currentIntervalQuery =
             currentBuilder.must(currentIntervalDateRangeQuery, countQuery).build()._toQuery();
-        long currentIntervalCount =
-            elasticClient
-                .count(
-                    c -> c.index(engineConfig.getIndexPrefix() + "*").query(currentIntervalQuery))
-                .count();
 
         // Compute the previous interval
         BoolQuery.Builder previousBuilder = new BoolQuery.Builder();
@@ -491,11 +510,10 @@ public class ElasticService implements EngineService {
                 widgetConfig.getDateAttribute(), previousIntervalStart, currentIntervalStart);
         Query previousIntervalQuery =
             previousBuilder.must(previousIntervalDateRangeQuery, countQuery).build()._toQuery();
-        long previousIntervalCount =
-            elasticClient
-                .count(
-                    c -> c.index(engineConfig.getIndexPrefix() + "*").query(previousIntervalQuery))
-                .count();
+        // Both intervals are counted in a single request
+        List<Long> counts = countAll(List.of(currentIntervalQuery, previousIntervalQuery));
+        long currentIntervalCount = counts.get(0);
+        long previousIntervalCount = counts.get(1);
 
         return new EsCountInterval(
             currentIntervalCount,
@@ -508,6 +526,33 @@ public class ElasticService implements EngineService {
     return new EsCountInterval(0L, 0L, 0L);
   }
 
+  /**
+   * Counts the documents matching each query with a single multi search request.
+   *
+   * @param queries the queries to count
+   * @return the count of each query, in the same order
+   * @throws IOException in case of issue communicating with the analytics engine
+   */
+  private List<Long> countAll(List<Query> queries) throws IOException {
+    MsearchRequest.Builder request =
+        new MsearchRequest.Builder().index(engineConfig.getIndexPrefix() + "*");
+    queries.forEach(
+        query ->
+            request.searches(
+                s ->
+                    s.header(h -> h)
+                        .body(b -> b.query(query).size(0).trackTotalHits(t -> t.enabled(true)))));
+    MsearchResponse<Object> response = elasticClient.msearch(request.build(), Object.class);
+    List<Long> counts = new ArrayList<>();
+    for (MultiSearchResponseItem<Object> item : response.responses()) {
+      if (item.isFailure()) {
+        throw new IOException("Count failed: " + item.failure().error().reason());
+      }
+      counts.add(item.result().hits().total().value());
+    }
+    return counts;
+  }
+
   public EsAvgs average(RawUserAuth user, AverageRuntime averageRuntime) {
     AverageConfiguration widgetConfig = averageRuntime.getConfig();
 